@@ -0,0 +1,115 @@
+package model;
+
+import java.time.LocalDate;
+
+// Represents a view of one row of a ColumnarJobApplicationStore as a job application; reading and writing the view
+// reads and writes the columns of the store. Being a JobApplication, the view still has the fields every job
+// application has, but leaves them unused, so views are made only as rows are read and are not meant to be kept.
+// Every method throws IllegalStateException once the row has been removed from the store
+class ColumnarJobApplication extends JobApplication {
+    private final ColumnarJobApplicationStore store; // the store holding the data of this job application
+    private final int id; // the identifier of the row of this job application, which stays the same as rows move
+    private int row; // the row this job application was in when it was last found
+
+    /*
+     * REQUIRES: row is the row of the store with the given identifier
+     * EFFECTS: creates a view of the given row of the given store
+     */
+    ColumnarJobApplication(ColumnarJobApplicationStore store, int id, int row) {
+        this.store = store;
+        this.id = id;
+        this.row = row;
+    }
+
+    /*
+     * EFFECTS: returns the submission date
+     */
+    @Override
+    public LocalDate getSubmissionDate() {
+        return store.getSubmissionDate(row());
+    }
+
+    /*
+     * EFFECTS: returns the name of the company that received this application
+     */
+    @Override
+    public String getCompanyName() {
+        return store.getCompanyName(row());
+    }
+
+    /*
+     * EFFECTS: returns the name of the role applied to
+     */
+    @Override
+    public String getRoleName() {
+        return store.getRoleName(row());
+    }
+
+    /*
+     * EFFECTS: returns the current status
+     */
+    @Override
+    public JobApplicationStatus getStatus() {
+        return store.getStatus(row());
+    }
+
+    /*
+     * MODIFIES: this, store
+     * EFFECTS: sets the submission date to given date
+     */
+    @Override
+    public void setSubmissionDate(LocalDate date) {
+        store.setSubmissionDate(row(), date);
+    }
+
+    /*
+     * REQUIRES: company has a non-zero length
+     * MODIFIES: this, store
+     * EFFECTS: sets the company name to given company
+     */
+    @Override
+    public void setCompanyName(String company) {
+        store.setCompanyName(row(), company);
+    }
+
+    /*
+     * REQUIRES: role has a non-zero length
+     * MODIFIES: this, store
+     * EFFECTS: sets the role name to given role
+     */
+    @Override
+    public void setRoleName(String role) {
+        store.setRoleName(row(), role);
+    }
+
+    /*
+     * MODIFIES: this, store
+     * EFFECTS: sets the status to given status
+     */
+    @Override
+    public void setStatus(JobApplicationStatus status) {
+        store.setStatus(row(), status);
+    }
+
+    /*
+     * MODIFIES: this, store
+     * EFFECTS: sets all fields to those of the given job application
+     */
+    @Override
+    public void setFields(JobApplication values) {
+        setSubmissionDate(values.getSubmissionDate());
+        setCompanyName(values.getCompanyName());
+        setRoleName(values.getRoleName());
+        setStatus(values.getStatus());
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns the current row of this job application in the store, noting it for the next time; throws
+     *          IllegalStateException if it has been removed
+     */
+    private int row() {
+        row = store.rowOf(id, row);
+        return row;
+    }
+}
@@ -0,0 +1,550 @@
+package model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import persistence.Writable;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+// Represents a collection of job applications stored column by column in primitive arrays: submission dates as epoch
+// days, statuses as ordinals, and company and role names as codes into a shared dictionary of names. Job applications
+// are kept in the order they were added and duplicates are rejected like in JobApplicationTracker, but no
+// JobApplication objects are kept; get returns a view of a row instead. A removed row is only marked as removed, and
+// the rows after it are moved up the next time a row is read by its position. Each row keeps the identifier it was
+// given when it was added, in increasing order, so a view finds its row again after rows have moved and fails fast once
+// its row has been removed. The store is a standalone structure: the application itself keeps its job applications in
+// a JobApplicationTracker, and fromTracker and toTracker copy every job application between the two
+public class ColumnarJobApplicationStore implements Writable {
+    private static final int INITIAL_CAPACITY = 16; // the number of rows the columns can hold before growing
+    private static final JobApplicationStatus[] STATUSES = JobApplicationStatus.values(); // the statuses by ordinal
+    private static final int HASH_CONSTANT = 31; // the integer for combining column values into a hash
+    private static final int HASH_MIX = 0x9E3779B9; // the golden ratio multiplier that spreads hashes over slots
+    private static final byte REMOVED = -1; // the status ordinal of a row that has been removed
+
+    private String name; // the name of the store
+    private int size; // the number of rows in the store
+    private int end; // the number of rows in the columns, including removed rows that have not been moved over yet
+    private int[] submissionDays; // the submission date of each row, in days since 1970-01-01
+    private byte[] statuses; // the status ordinal of each row
+    private int[] companyCodes; // the dictionary code of the company name of each row
+    private int[] roleCodes; // the dictionary code of the role name of each row
+    private int[] ids; // the identifier of each row, increasing from row to row
+    private int nextId; // the identifier of the next row added, never reused for the life of the store
+    private ArrayList<String> names; // the company and role names, indexed by code
+    private HashMap<String, Integer> codes; // the code of each company and role name
+    private int[] slots; // open-addressing hash table of row + 1 per slot, 0 for an empty slot
+
+    /*
+     * EFFECTS: creates an empty store with the given name
+     */
+    public ColumnarJobApplicationStore(String name) {
+        this.name = name;
+        removeAllJobApplications();
+    }
+
+    /*
+     * EFFECTS: returns a store with the same name and job applications, in the same order, as the given tracker
+     */
+    public static ColumnarJobApplicationStore fromTracker(JobApplicationTracker tracker) {
+        ColumnarJobApplicationStore store = new ColumnarJobApplicationStore(tracker.getName());
+        for (JobApplication j : tracker.getJobApplications()) {
+            store.add(j);
+        }
+        return store;
+    }
+
+    /*
+     * EFFECTS: returns a tracker with the same name and job applications, in the same order, as this store; the
+     *          tracker holds its own copies of the job applications
+     */
+    public JobApplicationTracker toTracker() {
+        compact();
+        JobApplicationTracker tracker = new JobApplicationTracker(name);
+        for (int row = 0; row < size; row++) {
+            JobApplication j = new JobApplication(getSubmissionDate(row), getCompanyName(row), getRoleName(row));
+            j.setStatus(getStatus(row));
+            tracker.add(j);
+        }
+        return tracker;
+    }
+
+    /*
+     * EFFECTS: returns the name of the store
+     */
+    public String getName() {
+        return name;
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the store
+     */
+    public int size() {
+        return size;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns true if the fields of j are added to the store as a new row, false if a job application equal
+     *          to j is already in the store
+     */
+    public boolean add(JobApplication j) {
+        int day = (int) j.getSubmissionDate().toEpochDay();
+        int company = encode(j.getCompanyName());
+        int role = encode(j.getRoleName());
+        byte status = (byte) j.getStatus().ordinal();
+
+        if (find(day, company, role, status) >= 0) {
+            return false;
+        }
+
+        ensureRoom();
+        submissionDays[end] = day;
+        companyCodes[end] = company;
+        roleCodes[end] = role;
+        statuses[end] = status;
+        ids[end] = nextId++;
+        insertSlot(end);
+        end++;
+        size++;
+        return true;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns true if a row equal to j is removed from the store, false if there is none; later rows move
+     *          up by one, and views of the removed row throw IllegalStateException when used afterwards. The row is
+     *          only taken out of the hash table and marked as removed, so that removing many rows before reading any
+     *          by position moves the rows after them only once
+     */
+    public boolean remove(JobApplication j) {
+        int row = find(j);
+
+        if (row < 0) {
+            return false;
+        }
+
+        removeSlot(row);
+        statuses[row] = REMOVED;
+        size--;
+        return true;
+    }
+
+    /*
+     * EFFECTS: returns true if a job application equal to j is in the store
+     */
+    public boolean contains(JobApplication j) {
+        return find(j) >= 0;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes all job applications and names from the store
+     */
+    public void removeAllJobApplications() {
+        size = 0;
+        end = 0;
+        submissionDays = new int[INITIAL_CAPACITY];
+        statuses = new byte[INITIAL_CAPACITY];
+        companyCodes = new int[INITIAL_CAPACITY];
+        roleCodes = new int[INITIAL_CAPACITY];
+        ids = new int[INITIAL_CAPACITY];
+        names = new ArrayList<>();
+        codes = new HashMap<>();
+        slots = new int[INITIAL_CAPACITY * 2];
+    }
+
+    /*
+     * REQUIRES: 0 <= row < size()
+     * EFFECTS: returns a view of the job application in the given row; the view reads and writes the columns of the
+     *          store directly, follows its row as other rows are removed, must not be added to a
+     *          JobApplicationTracker, and throws IllegalStateException when used after its row has been removed
+     */
+    public JobApplication get(int row) {
+        compact();
+        return new ColumnarJobApplication(this, ids[row], row);
+    }
+
+    /*
+     * EFFECTS: returns a list of views of all job applications in the store, in the order they were added; views are
+     *          created only as elements of the list are read
+     */
+    public List<JobApplication> getJobApplications() {
+        return new AbstractList<JobApplication>() {
+            @Override
+            public JobApplication get(int row) {
+                return ColumnarJobApplicationStore.this.get(row);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications with status set to given status
+     */
+    public int count(JobApplicationStatus status) {
+        byte ordinal = (byte) status.ordinal();
+        int count = 0;
+
+        for (int row = 0; row < end; row++) {
+            if (statuses[row] == ordinal) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /*
+     * REQUIRES: total number of job applications > 0
+     * EFFECTS: returns the percentage of job applications with status set to given status
+     */
+    public double calculatePercentage(JobApplicationStatus status) {
+        return (double) count(status) / size;
+    }
+
+    /*
+     * REQUIRES: from is not after to
+     * EFFECTS: returns the number of job applications with given status submitted between from and to (both inclusive)
+     */
+    public int countBetween(LocalDate from, LocalDate to, JobApplicationStatus status) {
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        byte ordinal = (byte) status.ordinal();
+        int count = 0;
+
+        for (int row = 0; row < end; row++) {
+            int day = submissionDays[row];
+            if (day >= fromDay && day <= toDay && statuses[row] == ordinal) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /*
+     * REQUIRES: from is not after to
+     * EFFECTS: returns views of the job applications with given status submitted between from and to (both
+     *          inclusive), in the order they were added
+     */
+    public ArrayList<JobApplication> between(LocalDate from, LocalDate to, JobApplicationStatus status) {
+        compact();
+        int[] rows = rowsBetween(from, to, status);
+        ArrayList<JobApplication> jobApplications = new ArrayList<>(rows.length);
+
+        for (int row : rows) {
+            jobApplications.add(get(row));
+        }
+
+        return jobApplications;
+    }
+
+    /*
+     * EFFECTS: returns this as a JSON object in the same format as JobApplicationTracker
+     */
+    @Override
+    public JSONObject toJson() {
+        JSONObject json = new JSONObject();
+        JSONArray jsonArray = new JSONArray();
+        compact();
+
+        for (int row = 0; row < size; row++) {
+            jsonArray.put(get(row).toJson());
+        }
+
+        json.put("name", name);
+        json.put("jobApplicationList", jsonArray);
+        return json;
+    }
+
+    /*
+     * REQUIRES: row holds a job application that has not been removed
+     * EFFECTS: returns the submission date of the given row
+     */
+    LocalDate getSubmissionDate(int row) {
+        return IsoDates.ofEpochDay(submissionDays[row]);
+    }
+
+    /*
+     * REQUIRES: row holds a job application that has not been removed
+     * EFFECTS: returns the company name of the given row
+     */
+    String getCompanyName(int row) {
+        return names.get(companyCodes[row]);
+    }
+
+    /*
+     * REQUIRES: row holds a job application that has not been removed
+     * EFFECTS: returns the role name of the given row
+     */
+    String getRoleName(int row) {
+        return names.get(roleCodes[row]);
+    }
+
+    /*
+     * REQUIRES: row holds a job application that has not been removed
+     * EFFECTS: returns the status of the given row
+     */
+    JobApplicationStatus getStatus(int row) {
+        return STATUSES[statuses[row]];
+    }
+
+    /*
+     * REQUIRES: row holds a job application that has not been removed
+     * MODIFIES: this
+     * EFFECTS: sets the submission date of the given row to given date
+     */
+    void setSubmissionDate(int row, LocalDate date) {
+        removeSlot(row);
+        submissionDays[row] = (int) date.toEpochDay();
+        insertSlot(row);
+    }
+
+    /*
+     * REQUIRES: row holds a job application that has not been removed
+     * MODIFIES: this
+     * EFFECTS: sets the company name of the given row to given company
+     */
+    void setCompanyName(int row, String company) {
+        removeSlot(row);
+        companyCodes[row] = encode(company);
+        insertSlot(row);
+    }
+
+    /*
+     * REQUIRES: row holds a job application that has not been removed
+     * MODIFIES: this
+     * EFFECTS: sets the role name of the given row to given role
+     */
+    void setRoleName(int row, String role) {
+        removeSlot(row);
+        roleCodes[row] = encode(role);
+        insertSlot(row);
+    }
+
+    /*
+     * REQUIRES: row holds a job application that has not been removed
+     * MODIFIES: this
+     * EFFECTS: sets the status of the given row to given status
+     */
+    void setStatus(int row, JobApplicationStatus status) {
+        removeSlot(row);
+        statuses[row] = (byte) status.ordinal();
+        insertSlot(row);
+    }
+
+    /*
+     * EFFECTS: returns the row with the given identifier, trying the given row first and otherwise searching the
+     *          identifiers, which increase from row to row; throws IllegalStateException if the row has been removed
+     */
+    int rowOf(int id, int hint) {
+        int row = hint < end && ids[hint] == id ? hint : Arrays.binarySearch(ids, 0, end, id);
+
+        if (row < 0 || statuses[row] == REMOVED) {
+            throw new IllegalStateException("The job application has been removed from the store");
+        }
+
+        return row;
+    }
+
+    /*
+     * EFFECTS: returns the rows with given status submitted between from and to (both inclusive), in order
+     */
+    private int[] rowsBetween(LocalDate from, LocalDate to, JobApplicationStatus status) {
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        byte ordinal = (byte) status.ordinal();
+        int[] rows = new int[INITIAL_CAPACITY];
+        int count = 0;
+
+        for (int row = 0; row < size; row++) {
+            int day = submissionDays[row];
+            if (day >= fromDay && day <= toDay && statuses[row] == ordinal) {
+                if (count == rows.length) {
+                    rows = Arrays.copyOf(rows, count * 2);
+                }
+                rows[count++] = row;
+            }
+        }
+
+        return Arrays.copyOf(rows, count);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns the dictionary code of the given name, adding the name to the dictionary if it is new
+     */
+    private int encode(String name) {
+        Integer code = codes.get(name);
+
+        if (code == null) {
+            String canonical = NameDictionary.getInstance().intern(name);
+            code = names.size();
+            names.add(canonical);
+            codes.put(canonical, code);
+        }
+
+        return code;
+    }
+
+    /*
+     * EFFECTS: returns the row equal to j, or -1 if there is none
+     */
+    private int find(JobApplication j) {
+        Integer company = codes.get(j.getCompanyName());
+        Integer role = codes.get(j.getRoleName());
+
+        if (company == null || role == null) {
+            return -1;
+        }
+
+        return find((int) j.getSubmissionDate().toEpochDay(), company, role, (byte) j.getStatus().ordinal());
+    }
+
+    /*
+     * EFFECTS: returns a row with the given column values, or -1 if there is none
+     */
+    private int find(int day, int company, int role, byte status) {
+        int mask = slots.length - 1;
+
+        for (int i = hash(day, company, role, status) & mask; slots[i] != 0; i = (i + 1) & mask) {
+            int row = slots[i] - 1;
+            if (submissionDays[row] == day && companyCodes[row] == company && roleCodes[row] == role
+                    && statuses[row] == status) {
+                return row;
+            }
+        }
+
+        return -1;
+    }
+
+    /*
+     * REQUIRES: 0 <= row < slots.length / 2
+     * MODIFIES: this
+     * EFFECTS: adds the given row to the hash table under its current column values
+     */
+    private void insertSlot(int row) {
+        int mask = slots.length - 1;
+        int i = hash(row) & mask;
+
+        while (slots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+
+        slots[i] = row + 1;
+    }
+
+    /*
+     * REQUIRES: the given row is in the hash table under its current column values
+     * MODIFIES: this
+     * EFFECTS: removes the given row from the hash table, moving later rows of its probe sequence back so that every
+     *          row can still be found
+     */
+    private void removeSlot(int row) {
+        int mask = slots.length - 1;
+        int hole = hash(row) & mask;
+
+        while (slots[hole] != row + 1) {
+            hole = (hole + 1) & mask;
+        }
+
+        slots[hole] = 0;
+        for (int i = (hole + 1) & mask; slots[i] != 0; i = (i + 1) & mask) {
+            int home = hash(slots[i] - 1) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                slots[hole] = slots[i];
+                slots[i] = 0;
+                hole = i;
+            }
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: makes room for one more row after the last row in the columns, moving the rows over removed ones if
+     *          the columns are full, and growing the columns and hash table if they are still more than three quarters
+     *          full after that
+     */
+    private void ensureRoom() {
+        if (end < submissionDays.length) {
+            return;
+        }
+
+        compact();
+        if (end > submissionDays.length / 4 * 3) {
+            int newCapacity = submissionDays.length * 2;
+            submissionDays = Arrays.copyOf(submissionDays, newCapacity);
+            statuses = Arrays.copyOf(statuses, newCapacity);
+            companyCodes = Arrays.copyOf(companyCodes, newCapacity);
+            roleCodes = Arrays.copyOf(roleCodes, newCapacity);
+            ids = Arrays.copyOf(ids, newCapacity);
+            rehash(newCapacity * 2);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: moves every row after a removed row up over the removed rows, keeping the rows in order, and rebuilds
+     *          the hash table for their new positions; does nothing if no row has been removed since the last time
+     */
+    private void compact() {
+        if (end == size) {
+            return;
+        }
+
+        int kept = 0;
+        for (int row = 0; row < end; row++) {
+            if (statuses[row] != REMOVED) {
+                submissionDays[kept] = submissionDays[row];
+                statuses[kept] = statuses[row];
+                companyCodes[kept] = companyCodes[row];
+                roleCodes[kept] = roleCodes[row];
+                ids[kept] = ids[row];
+                kept++;
+            }
+        }
+        end = size;
+        rehash(slots.length);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: rebuilds the hash table with the given number of slots from all current rows that are not removed
+     */
+    private void rehash(int numSlots) {
+        slots = new int[numSlots];
+        for (int row = 0; row < end; row++) {
+            if (statuses[row] != REMOVED) {
+                insertSlot(row);
+            }
+        }
+    }
+
+    /*
+     * EFFECTS: returns the hash of the given row's column values
+     */
+    private int hash(int row) {
+        return hash(submissionDays[row], companyCodes[row], roleCodes[row], statuses[row]);
+    }
+
+    /*
+     * EFFECTS: returns a well-mixed hash of the given column values
+     */
+    private static int hash(int day, int company, int role, byte status) {
+        int hash = day;
+        hash = hash * HASH_CONSTANT + company;
+        hash = hash * HASH_CONSTANT + role;
+        hash = hash * HASH_CONSTANT + status;
+        hash *= HASH_MIX;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,341 @@
+package model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import persistence.Writable;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Represents a collection of job applications that can be added to, removed from, and read by several threads at
+// once. Job applications are spread by hash over a fixed number of stripes, each guarded by its own lock, so threads
+// working on different job applications rarely wait on each other; a job application itself is locked while it is
+// added, removed, or modified. Iteration follows the order in which job applications were added and is weakly
+// consistent: it never fails because of concurrent changes, and may or may not see changes made after it started
+public class ConcurrentJobApplicationTracker extends JobApplicationOwner implements Writable, Iterable<JobApplication> {
+    private static final int NUM_STRIPES = 64; // the number of independently locked parts of the index
+
+    private final String name; // the name of the job application tracker
+    private final Stripe[] stripes; // the parts of the index, each holding the job applications whose hash maps to it
+    private final ConcurrentSkipListMap<Long, JobApplication> order; // the job applications by sequence number
+    private final AtomicLong nextSequence; // the sequence number to give the next added job application
+    private final AtomicInteger size; // the number of job applications in the tracker
+    private final LongAdder[] statusCounts; // the number of job applications per status, indexed by ordinal
+
+    /*
+     * EFFECTS: creates a new concurrent job application tracker with the given name and no job applications
+     */
+    public ConcurrentJobApplicationTracker(String name) {
+        this.name = name;
+        stripes = new Stripe[NUM_STRIPES];
+        for (int i = 0; i < NUM_STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        order = new ConcurrentSkipListMap<>();
+        nextSequence = new AtomicLong();
+        size = new AtomicInteger();
+        statusCounts = new LongAdder[JobApplicationStatus.values().length];
+        for (int i = 0; i < statusCounts.length; i++) {
+            statusCounts[i] = new LongAdder();
+        }
+    }
+
+    /*
+     * MODIFIES: this, j
+     * EFFECTS: returns true if j is successfully added to the job application tracker, false if j or a job
+     *          application equal to j is already in the tracker, or if j already belongs to another tracker; logs an
+     *          event for j if it is added
+     */
+    public boolean add(JobApplication j) {
+        if (!insert(j)) {
+            return false;
+        }
+
+        EventLog.getInstance().logEvent(new Event("Added job application to the tracker: "
+                + j.getSubmissionDate() + " | " + j.getCompanyName() + " | " + j.getRoleName() + " | "
+                + j.getStatus()));
+        return true;
+    }
+
+    /*
+     * MODIFIES: this, jobApplications
+     * EFFECTS: adds each of the given job applications as add does, in order, skipping those that are already in
+     *          the tracker or belong to another tracker; logs a single event for all of them rather than one each, so
+     *          that threads adding in bulk do not meet on the event log, and returns the number added
+     */
+    public int addAll(Collection<JobApplication> jobApplications) {
+        int added = 0;
+        for (JobApplication j : jobApplications) {
+            if (insert(j)) {
+                added++;
+            }
+        }
+
+        if (added > 0) {
+            EventLog.getInstance().logEvent(new Event("Added " + added + " job applications to the tracker."));
+        }
+        return added;
+    }
+
+    /*
+     * MODIFIES: this, j
+     * EFFECTS: returns true if j, or a job application equal to j, is successfully removed from the job application
+     *          tracker, false otherwise
+     */
+    public boolean remove(JobApplication j) {
+        synchronized (j) {
+            Stripe stripe = stripeFor(j);
+
+            synchronized (stripe) {
+                JobApplication target = stripe.index.get(j);
+                if (target == null) {
+                    return false;
+                }
+                for (JobApplication d = target; d != null; d = d.nextDuplicate) {
+                    if (d == j) {
+                        target = j;
+                    }
+                }
+
+                unindexJobApplication(stripe, target);
+                order.remove(target.sequence);
+                size.decrementAndGet();
+                target.tracker = null;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * EFFECTS: returns true if j, or a job application equal to j, is in the job application tracker
+     */
+    public boolean contains(JobApplication j) {
+        Stripe stripe = stripeFor(j);
+
+        synchronized (stripe) {
+            return stripe.index.containsKey(j);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes all job applications from the job application tracker; job applications added by other threads
+     *          while this runs may or may not be removed
+     */
+    public void removeAllJobApplications() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (JobApplication head : stripe.index.values()) {
+                    for (JobApplication d = head; d != null; d = d.nextDuplicate) {
+                        order.remove(d.sequence);
+                        size.decrementAndGet();
+                        statusCounts[d.getStatus().ordinal()].decrement();
+                        d.tracker = null;
+                    }
+                }
+                stripe.index = new HashMap<>();
+            }
+        }
+        EventLog.getInstance().logEvent(new Event("Removed all job applications from the tracker."));
+    }
+
+    /*
+     * EFFECTS: returns the name of the job application tracker
+     */
+    public String getName() {
+        return name;
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the tracker
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /*
+     * EFFECTS: returns a weakly consistent iterator over the job applications in the tracker, in the order they were
+     *          added
+     */
+    @Override
+    public Iterator<JobApplication> iterator() {
+        return order.values().iterator();
+    }
+
+    /*
+     * EFFECTS: returns an unmodifiable snapshot of the job applications in the tracker, in the order they were added;
+     *          the snapshot is copied from a weakly consistent iteration and is not changed by later modifications
+     */
+    public List<JobApplication> getJobApplications() {
+        JobApplication[] elements = order.values().toArray(new JobApplication[0]);
+        return new JobApplicationSnapshot(elements, elements.length);
+    }
+
+    /*
+     * EFFECTS: returns the number of applications with status set to given status
+     */
+    public int count(JobApplicationStatus status) {
+        return statusCounts[status.ordinal()].intValue();
+    }
+
+    /*
+     * REQUIRES: total number of job applications > 0
+     * EFFECTS: returns the percentage of job applications with status set to given status
+     */
+    public double calculatePercentage(JobApplicationStatus status) {
+        return (double) count(status) / size.get();
+    }
+
+    /*
+     * EFFECTS: returns this as a JSON object in the same format as JobApplicationTracker
+     */
+    @Override
+    public JSONObject toJson() {
+        JSONArray jsonArray = new JSONArray();
+        for (JobApplication j : this) {
+            jsonArray.put(j.toJson());
+        }
+
+        JSONObject json = new JSONObject();
+        json.put("name", name);
+        json.put("jobApplicationList", jsonArray);
+        return json;
+    }
+
+    /*
+     * REQUIRES: the current thread holds the lock of j
+     * MODIFIES: this
+     * EFFECTS: removes j from the index and status counts so that its fields can be modified, unless another thread
+     *          has removed j from this tracker in the meantime; must be followed by reindex(j)
+     */
+    @Override
+    void unindex(JobApplication j) {
+        Stripe stripe = stripeFor(j);
+
+        synchronized (stripe) {
+            if (j.tracker == this) {
+                unindexJobApplication(stripe, j);
+            }
+        }
+    }
+
+    /*
+     * REQUIRES: the current thread holds the lock of j, and unindex(j) was called before j was modified
+     * MODIFIES: this
+     * EFFECTS: adds j back to the index and status counts under its modified fields, unless another thread has
+     *          removed j from this tracker in the meantime
+     */
+    @Override
+    void reindex(JobApplication j) {
+        Stripe stripe = stripeFor(j);
+
+        synchronized (stripe) {
+            if (j.tracker == this) {
+                indexJobApplication(stripe, j);
+            }
+        }
+    }
+
+    /*
+     * EFFECTS: does nothing, since this tracker has no index keyed on submission date alone
+     */
+    @Override
+    void updateSubmissionDate(JobApplication j, LocalDate oldSubmissionDate) {
+        // No submission date index to update
+    }
+
+    /*
+     * EFFECTS: does nothing, since this tracker has no index keyed on names alone
+     */
+    @Override
+    void updateNames(JobApplication j, String oldCompany, String oldRole) {
+        // No name index to update
+    }
+
+    /*
+     * MODIFIES: this, j
+     * EFFECTS: returns true if j is added to the tracker, false if j or a job application equal to j is already in
+     *          the tracker, or if j already belongs to another tracker; logs nothing
+     */
+    private boolean insert(JobApplication j) {
+        synchronized (j) {
+            Stripe stripe = stripeFor(j);
+
+            synchronized (stripe) {
+                if (j.tracker != null || stripe.index.containsKey(j)) {
+                    return false;
+                }
+                j.tracker = this;
+                j.sequence = nextSequence.getAndIncrement();
+                order.put(j.sequence, j);
+                size.incrementAndGet();
+                indexJobApplication(stripe, j);
+            }
+        }
+        return true;
+    }
+
+    /*
+     * EFFECTS: returns the stripe that indexes job applications with the same fields as j
+     */
+    private Stripe stripeFor(JobApplication j) {
+        int hash = j.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (NUM_STRIPES - 1)];
+    }
+
+    /*
+     * REQUIRES: the current thread holds the lock of stripe, and stripe is the stripe for j
+     * MODIFIES: this, j
+     * EFFECTS: adds j to the stripe and counts it under its status; if an equal job application is already indexed,
+     *          j is chained behind it
+     */
+    private void indexJobApplication(Stripe stripe, JobApplication j) {
+        JobApplication head = stripe.index.putIfAbsent(j, j);
+        j.nextDuplicate = null;
+        statusCounts[j.getStatus().ordinal()].increment();
+
+        if (head != null) {
+            j.nextDuplicate = head.nextDuplicate;
+            head.nextDuplicate = j;
+        }
+    }
+
+    /*
+     * REQUIRES: the current thread holds the lock of stripe, stripe is the stripe for j, and j is indexed in it
+     * MODIFIES: this, j
+     * EFFECTS: removes j from the stripe and from the count of its status; if j was chained to equal job
+     *          applications, the next one takes its place
+     */
+    private void unindexJobApplication(Stripe stripe, JobApplication j) {
+        JobApplication head = stripe.index.get(j);
+        statusCounts[j.getStatus().ordinal()].decrement();
+
+        if (head == j) {
+            stripe.index.remove(j);
+            if (j.nextDuplicate != null) {
+                stripe.index.put(j.nextDuplicate, j.nextDuplicate);
+            }
+        } else {
+            JobApplication d = head;
+            while (d.nextDuplicate != j) {
+                d = d.nextDuplicate;
+            }
+            d.nextDuplicate = j.nextDuplicate;
+        }
+
+        j.nextDuplicate = null;
+    }
+
+    // Represents one independently locked part of the index, whose lock is the stripe itself
+    private static class Stripe {
+        private HashMap<JobApplication, JobApplication> index = new HashMap<>(); // maps each job application to an
+                                                                                 // equal one in this stripe
+    }
+}
@@ -1,10 +1,11 @@
 package model;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
-// Represents a log of job application tracker events.
+// Represents a log of job application tracker events; events can be logged from several threads at once, and
+// iterating over the log while events are being logged sees a weakly consistent view of it
 public class EventLog implements Iterable<Event> {
     private static EventLog theLog; // the only event log in the system
     private Collection<Event> events; // the collection of events in the event log
@@ -13,14 +14,14 @@ public class EventLog implements Iterable<Event> {
      * EFFECTS: creates an event log with an empty list of events
      */
     private EventLog() {
-        events = new ArrayList<Event>();
+        events = new ConcurrentLinkedQueue<>();
     }
 
     /*
      * MODIFIES: this
      * EFFECTS: creates an event log if it doesn't already exist, returns the event log
      */
-    public static EventLog getInstance() {
+    public static synchronized EventLog getInstance() {
         if (theLog == null) {
             theLog = new EventLog();
         }
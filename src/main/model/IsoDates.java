@@ -0,0 +1,123 @@
+package model;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+// Represents the conversion of submission dates from and to the YYYY-MM-DD text and the epoch-day numbers they are
+// stored as; the common YYYY-MM-DD form is decoded by hand rather than through the general date formatter, and small
+// caches of recently converted dates mean that a date or text seen before is returned without creating any new object.
+// Anything other than exactly four-digit years, two-digit months and two-digit days is handed to LocalDate.parse, so
+// the accepted text and the exceptions thrown are the same as with LocalDate.parse
+public final class IsoDates {
+    private static final int CACHE_BITS = 10; // the number of bits in the index of a cache entry
+    private static final LocalDate[] BY_TEXT = new LocalDate[1 << CACHE_BITS]; // recently parsed dates
+    private static final LocalDate[] BY_EPOCH_DAY = new LocalDate[1 << CACHE_BITS]; // dates recently made from days
+    private static final FormattedDate[] FORMATTED = new FormattedDate[1 << CACHE_BITS]; // dates recently formatted
+
+    /*
+     * EFFECTS: prevents instantiation, since this class only has static methods
+     */
+    private IsoDates() {
+    }
+
+    /*
+     * EFFECTS: returns the date written in the given text; throws DateTimeParseException if the text is not a valid
+     *          ISO-8601 date
+     */
+    public static LocalDate parse(CharSequence text) {
+        if (text.length() != 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return LocalDate.parse(text);
+        }
+
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return LocalDate.parse(text);
+        }
+
+        int slot = slot((year << 9) | (month << 5) | day);
+        LocalDate date = BY_TEXT[slot];
+        if (date == null || date.getDayOfMonth() != day || date.getMonthValue() != month || date.getYear() != year) {
+            date = of(year, month, day, text);
+            BY_TEXT[slot] = date;
+        }
+        return date;
+    }
+
+    /*
+     * EFFECTS: returns the date the given number of days after 1970-01-01; throws DateTimeException if it is outside
+     *          the range of LocalDate
+     */
+    public static LocalDate ofEpochDay(long epochDay) {
+        int slot = slot((int) epochDay);
+        LocalDate date = BY_EPOCH_DAY[slot];
+        if (date == null || date.toEpochDay() != epochDay) {
+            date = LocalDate.ofEpochDay(epochDay);
+            BY_EPOCH_DAY[slot] = date;
+        }
+        return date;
+    }
+
+    /*
+     * EFFECTS: returns the given date as YYYY-MM-DD text, as LocalDate.toString does
+     */
+    public static String format(LocalDate date) {
+        int slot = slot((int) date.toEpochDay());
+        FormattedDate formatted = FORMATTED[slot];
+        if (formatted == null || !formatted.date.equals(date)) {
+            formatted = new FormattedDate(date);
+            FORMATTED[slot] = formatted;
+        }
+        return formatted.text;
+    }
+
+    /*
+     * EFFECTS: returns the value of the given number of decimal digits starting at the given index of text, or -1 if
+     *          any of them is not a digit
+     */
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /*
+     * EFFECTS: returns the given date, or, if it does not exist, throws the exception LocalDate.parse throws for the
+     *          given text
+     */
+    private static LocalDate of(int year, int month, int day, CharSequence text) {
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return LocalDate.parse(text);
+        }
+    }
+
+    /*
+     * EFFECTS: returns the cache entry for the given key, spreading nearby keys over different entries
+     */
+    private static int slot(int key) {
+        return (key * 0x9E3779B1) >>> (Integer.SIZE - CACHE_BITS);
+    }
+
+    // Represents a date together with its text, so that both are replaced in the cache at once
+    private static final class FormattedDate {
+        private final LocalDate date; // the date
+        private final String text; // the date as YYYY-MM-DD text
+
+        /*
+         * EFFECTS: creates the given date together with its text
+         */
+        FormattedDate(LocalDate date) {
+            this.date = date;
+            this.text = date.toString();
+        }
+    }
+}
@@ -9,23 +9,59 @@ import static model.JobApplicationStatus.SUBMITTED;
 
 // Represents a job application that has a submission date, company name, role name, and status
 public class JobApplication implements Writable {
+    private static final int HASH_CONSTANT = 31; // the integer for calculating this job application's hashcode
     private LocalDate submissionDate; // the date when this job application was submitted
     private String companyName; // the name of the company that received this application
     private String roleName; // the name of the role applied to
     private JobApplicationStatus status; // the current status of this job application
 
+    JobApplicationOwner tracker; // the tracker this job application belongs to, null if it is in no tracker
+    JobApplication previous; // the job application added to the tracker just before this one
+    JobApplication next; // the job application added to the tracker just after this one
+    JobApplication nextDuplicate; // the next application in the tracker that is equal to this one, if any
+    long sequence; // the position of this job application in the order of the tracker it belongs to
+    long version; // the version of the tracker this belongs to when this was last added to it or modified
+
     /*
      * REQUIRES: date in format YYYY-MM-DD, company and role have a non-zero length
      * EFFECTS: creates a new job application wherein submission date is set to given date, company name is set to
-     *          given company, and role name is set to given role, and status is set to SUBMITTED
+     *          given company, and role name is set to given role, and status is set to SUBMITTED; names are stored as
+     *          their NameDictionary instances
      */
     public JobApplication(String date, String company, String role) {
-        submissionDate = LocalDate.parse(date);
-        companyName = company;
-        roleName = role;
+        this(IsoDates.parse(date), company, role);
+    }
+
+    /*
+     * REQUIRES: company and role have a non-zero length
+     * EFFECTS: creates a new job application wherein submission date is set to given date, company name is set to
+     *          given company, and role name is set to given role, and status is set to SUBMITTED; names are stored as
+     *          their NameDictionary instances
+     */
+    public JobApplication(LocalDate date, String company, String role) {
+        submissionDate = date;
+        companyName = NameDictionary.getInstance().intern(company);
+        roleName = NameDictionary.getInstance().intern(role);
         status = SUBMITTED;
     }
 
+    /*
+     * REQUIRES: company and role have a non-zero length
+     * EFFECTS: creates a new job application wherein submission date is set to the given number of days after
+     *          1970-01-01, company name is set to given company, and role name is set to given role, and status is set
+     *          to SUBMITTED; names are stored as their NameDictionary instances
+     */
+    public JobApplication(long epochDay, String company, String role) {
+        this(IsoDates.ofEpochDay(epochDay), company, role);
+    }
+
+    /*
+     * EFFECTS: creates a job application with no fields of its own, for subclasses that override every getter and
+     *          setter to read and write their data elsewhere
+     */
+    JobApplication() {
+    }
+
     /*
      * EFFECTS: returns the submission date
      */
@@ -56,37 +92,131 @@ public class JobApplication implements Writable {
 
     /*
      * REQUIRES: date in format YYYY-MM-DD
-     * MODIFIES: this
-     * EFFECTS: sets the submission date to given date
+     * MODIFIES: this, tracker
+     * EFFECTS: sets the submission date to given date and moves this in the submission date index of the tracker
+     *          this belongs to, if any
      */
     public void setSubmissionDate(String date) {
-        submissionDate = LocalDate.parse(date);
+        setSubmissionDate(IsoDates.parse(date));
+    }
+
+    /*
+     * MODIFIES: this, tracker
+     * EFFECTS: sets the submission date to given date and moves this in the submission date index of the tracker
+     *          this belongs to, if any
+     */
+    public synchronized void setSubmissionDate(LocalDate date) {
+        LocalDate oldSubmissionDate = submissionDate;
+        unindex();
+        submissionDate = date;
+        reindex();
+
+        if (tracker != null) {
+            tracker.updateSubmissionDate(this, oldSubmissionDate);
+        }
+    }
+
+    /*
+     * MODIFIES: this, tracker
+     * EFFECTS: sets the submission date to the given number of days after 1970-01-01 and moves this in the submission
+     *          date index of the tracker this belongs to, if any
+     */
+    public void setSubmissionDate(long epochDay) {
+        setSubmissionDate(IsoDates.ofEpochDay(epochDay));
     }
 
     /*
      * REQUIRES: company has a non-zero length
-     * MODIFIES: this
-     * EFFECTS: sets the company name to given company
+     * MODIFIES: this, tracker
+     * EFFECTS: sets the company name to given company and updates the search index of the tracker this belongs to,
+     *          if any
      */
-    public void setCompanyName(String company) {
-        companyName = company;
+    public synchronized void setCompanyName(String company) {
+        String oldCompanyName = companyName;
+        unindex();
+        companyName = NameDictionary.getInstance().intern(company);
+        reindex();
+        updateNames(oldCompanyName, roleName);
     }
 
     /*
      * REQUIRES: role has a non-zero length
-     * MODIFIES: this
-     * EFFECTS: sets the role name to given role
+     * MODIFIES: this, tracker
+     * EFFECTS: sets the role name to given role and updates the search index of the tracker this belongs to, if any
      */
-    public void setRoleName(String role) {
-        roleName = role;
+    public synchronized void setRoleName(String role) {
+        String oldRoleName = roleName;
+        unindex();
+        roleName = NameDictionary.getInstance().intern(role);
+        reindex();
+        updateNames(companyName, oldRoleName);
     }
 
     /*
-     * MODIFIES: this
-     * EFFECTS: sets the status to given status
+     * MODIFIES: this, tracker
+     * EFFECTS: sets the status to given status and updates the status counts of the tracker this belongs to, if any
      */
-    public void setStatus(JobApplicationStatus status) {
+    public synchronized void setStatus(JobApplicationStatus status) {
+        if (this.status == status) {
+            return;
+        }
+
+        unindex();
         this.status = status;
+        reindex();
+    }
+
+    /*
+     * MODIFIES: this, tracker
+     * EFFECTS: sets all fields to those of the given job application as a single modification, so that the tracker
+     *          this belongs to, if any, counts one change and tells its listeners about it once
+     */
+    public synchronized void setFields(JobApplication values) {
+        LocalDate oldSubmissionDate = submissionDate;
+        String oldCompanyName = companyName;
+        String oldRoleName = roleName;
+        unindex();
+        submissionDate = values.getSubmissionDate();
+        companyName = NameDictionary.getInstance().intern(values.getCompanyName());
+        roleName = NameDictionary.getInstance().intern(values.getRoleName());
+        status = values.getStatus();
+        reindex();
+
+        if (tracker != null) {
+            tracker.updateSubmissionDate(this, oldSubmissionDate);
+        }
+        updateNames(oldCompanyName, oldRoleName);
+    }
+
+    /*
+     * MODIFIES: tracker
+     * EFFECTS: removes this from the index of the tracker it belongs to, if any, so that it can be safely modified
+     */
+    private void unindex() {
+        if (tracker != null) {
+            tracker.unindex(this);
+        }
+    }
+
+    /*
+     * MODIFIES: tracker
+     * EFFECTS: moves this from the given old names to its current names in the search index of the tracker it
+     *          belongs to, if any
+     */
+    private void updateNames(String oldCompanyName, String oldRoleName) {
+        if (tracker != null) {
+            tracker.updateNames(this, oldCompanyName, oldRoleName);
+        }
+    }
+
+    /*
+     * MODIFIES: tracker
+     * EFFECTS: adds this back to the index of the tracker it belongs to, if any, after it has been modified
+     */
+    private void reindex() {
+        if (tracker != null) {
+            tracker.reindex(this);
+        }
     }
 
     /*
@@ -97,23 +227,34 @@ public class JobApplication implements Writable {
     public boolean equals(Object o) {
         if (o instanceof JobApplication) {
             JobApplication j = (JobApplication) o;
-            return j.getSubmissionDate().equals(submissionDate) && j.getCompanyName().equals(companyName)
-                    && j.getRoleName().equals(roleName) && j.getStatus().equals(status);
+            return j.getSubmissionDate().equals(getSubmissionDate()) && j.getCompanyName().equals(getCompanyName())
+                    && j.getRoleName().equals(getRoleName()) && j.getStatus().equals(getStatus());
         } else {
             return false;
         }
     }
 
+    /*
+     * EFFECTS: returns an integer hashcode for this job application that is consistent with equals
+     */
+    @Override
+    public int hashCode() {
+        int hash = getSubmissionDate().hashCode();
+        hash = HASH_CONSTANT * hash + getCompanyName().hashCode();
+        hash = HASH_CONSTANT * hash + getRoleName().hashCode();
+        return HASH_CONSTANT * hash + getStatus().hashCode();
+    }
+
     /*
      * EFFECTS: returns this as a JSON object
      */
     @Override
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
-        json.put("submissionDate", submissionDate);
-        json.put("companyName", companyName);
-        json.put("roleName", roleName);
-        json.put("status", status);
+        json.put("submissionDate", getSubmissionDate());
+        json.put("companyName", getCompanyName());
+        json.put("roleName", getRoleName());
+        json.put("status", getStatus());
         return json;
     }
 }
@@ -0,0 +1,100 @@
+package model;
+
+// Represents a field of a job application that the job applications in a tracker can be sorted and filtered by
+public enum JobApplicationField {
+    SUBMISSION_DATE,
+    COMPANY_NAME,
+    ROLE_NAME,
+    STATUS;
+
+    private static final JobApplicationStatus[] STATUSES = JobApplicationStatus.values(); // the statuses by ordinal
+
+    /*
+     * EFFECTS: returns this field of j as text: submission dates in the format YYYY-MM-DD, names as they are stored,
+     *          and statuses by name
+     */
+    public String text(JobApplication j) {
+        switch (this) {
+            case SUBMISSION_DATE:
+                return IsoDates.format(j.getSubmissionDate());
+            case COMPANY_NAME:
+                return j.getCompanyName();
+            case ROLE_NAME:
+                return j.getRoleName();
+            default:
+                return j.getStatus().name();
+        }
+    }
+
+    /*
+     * EFFECTS: returns a negative integer, zero, or a positive integer as this field of a sorts before, the same as,
+     *          or after this field of b; submission dates are sorted from earliest to latest, names alphabetically
+     *          ignoring case and then by case, and statuses in the order they are declared
+     */
+    public int compare(JobApplication a, JobApplication b) {
+        switch (this) {
+            case SUBMISSION_DATE:
+                return a.getSubmissionDate().compareTo(b.getSubmissionDate());
+            case COMPANY_NAME:
+                return compareNames(a.getCompanyName(), b.getCompanyName());
+            case ROLE_NAME:
+                return compareNames(a.getRoleName(), b.getRoleName());
+            default:
+                return a.getStatus().compareTo(b.getStatus());
+        }
+    }
+
+    /*
+     * EFFECTS: returns true if the text of this field of j starts with the given prefix, ignoring case
+     */
+    public boolean matches(JobApplication j, String prefix) {
+        return comparePrefix(text(j), prefix) == 0;
+    }
+
+    /*
+     * REQUIRES: submission dates have four-digit years
+     * EFFECTS: returns a negative integer, zero, or a positive integer as this field of j sorts before, among, or
+     *          after the fields of the job applications that match the given prefix; the job applications that match
+     *          a prefix are always next to each other when sorted by this field
+     */
+    int comparePrefix(JobApplication j, String prefix) {
+        if (this != STATUS || prefix.isEmpty()) {
+            return comparePrefix(text(j), prefix);
+        }
+
+        for (JobApplicationStatus s : STATUSES) {
+            if (comparePrefix(s.name(), prefix) == 0) {
+                return j.getStatus().compareTo(s);
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * EFFECTS: compares the start of text, up to the length of prefix, with prefix, ignoring case in the same way as
+     *          String.CASE_INSENSITIVE_ORDER; returns 0 if text starts with prefix
+     */
+    private static int comparePrefix(String text, String prefix) {
+        int n = Math.min(text.length(), prefix.length());
+        for (int i = 0; i < n; i++) {
+            char c1 = Character.toUpperCase(text.charAt(i));
+            char c2 = Character.toUpperCase(prefix.charAt(i));
+            if (c1 != c2) {
+                c1 = Character.toLowerCase(c1);
+                c2 = Character.toLowerCase(c2);
+                if (c1 != c2) {
+                    return c1 - c2;
+                }
+            }
+        }
+        return text.length() < prefix.length() ? -1 : 0;
+    }
+
+    /*
+     * EFFECTS: compares two names alphabetically ignoring case, and then by case if they are otherwise the same
+     */
+    private static int compareNames(String a, String b) {
+        int c = String.CASE_INSENSITIVE_ORDER.compare(a, b);
+        return c != 0 ? c : a.compareTo(b);
+    }
+}
@@ -0,0 +1,36 @@
+package model;
+
+import java.time.LocalDate;
+
+// Represents a collection that indexes the job applications it owns and must be told when their fields change; the
+// notifications are package-private so that only job applications can send them
+abstract class JobApplicationOwner {
+    /*
+     * REQUIRES: j belongs to this owner
+     * MODIFIES: this
+     * EFFECTS: removes j from the indexes keyed on all of its fields so that its fields can be modified; must be
+     *          followed by reindex(j)
+     */
+    abstract void unindex(JobApplication j);
+
+    /*
+     * REQUIRES: j belongs to this owner and unindex(j) was called before j was modified
+     * MODIFIES: this
+     * EFFECTS: adds j back to the indexes keyed on all of its fields under its modified fields
+     */
+    abstract void reindex(JobApplication j);
+
+    /*
+     * REQUIRES: j belongs to this owner and its submission date was just changed from oldSubmissionDate
+     * MODIFIES: this
+     * EFFECTS: moves j to its new submission date in the indexes keyed on submission date
+     */
+    abstract void updateSubmissionDate(JobApplication j, LocalDate oldSubmissionDate);
+
+    /*
+     * REQUIRES: j belongs to this owner and its names were just changed from oldCompany and oldRole
+     * MODIFIES: this
+     * EFFECTS: moves j to its new company and role names in the indexes keyed on names
+     */
+    abstract void updateNames(JobApplication j, String oldCompany, String oldRole);
+}
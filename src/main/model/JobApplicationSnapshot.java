@@ -0,0 +1,42 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// Represents an unmodifiable point-in-time list of the job applications in a tracker. A snapshot reads the first size
+// elements of an array it shares with the tracker and with other snapshots; the tracker only ever writes past the end
+// of the elements a snapshot can see, and switches to a new array before changing any of them, so a snapshot never
+// changes once it is taken. The job applications themselves are not copied, so changes to their fields are visible
+class JobApplicationSnapshot extends AbstractList<JobApplication> implements RandomAccess {
+    private final JobApplication[] elements; // the array holding the job applications of this snapshot, in order
+    private final int size; // the number of elements of the array that belong to this snapshot
+
+    /*
+     * REQUIRES: 0 <= size <= elements.length, and the first size elements are never modified afterwards
+     * EFFECTS: creates a snapshot of the first size elements of the given array
+     */
+    JobApplicationSnapshot(JobApplication[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /*
+     * EFFECTS: returns the job application at the given position in the snapshot; throws IndexOutOfBoundsException
+     *          if index < 0 or index >= size()
+     */
+    @Override
+    public JobApplication get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements[index];
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the snapshot
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+}
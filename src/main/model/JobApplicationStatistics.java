@@ -0,0 +1,148 @@
+package model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.TreeMap;
+
+// Represents live statistics of the job applications in a tracker: the number of job applications per status, which
+// the tracker keeps, and the number submitted in each week. The weekly counts are counted once when the statistics are
+// created, and are then kept up to date from the changes the tracker reports, so they never scan the tracker again
+public class JobApplicationStatistics implements JobApplicationTrackerListener {
+    private static final JobApplicationStatus[] STATUSES = JobApplicationStatus.values(); // the statuses by ordinal
+
+    private JobApplicationTracker tracker; // the tracker whose job applications are counted
+    private final TreeMap<LocalDate, Integer> weeklyCounts; // the number submitted per week, by its first day
+
+    /*
+     * MODIFIES: tracker
+     * EFFECTS: creates statistics of the job applications now in the given tracker, and starts listening to the
+     *          tracker to keep them up to date
+     */
+    public JobApplicationStatistics(JobApplicationTracker tracker) {
+        this.tracker = tracker;
+        weeklyCounts = new TreeMap<>();
+        countAll();
+        tracker.addListener(this);
+    }
+
+    /*
+     * MODIFIES: this, tracker
+     * EFFECTS: stops listening to the current tracker, counts the job applications of the given tracker instead, and
+     *          listens to it
+     */
+    public void setTracker(JobApplicationTracker tracker) {
+        this.tracker.removeListener(this);
+        this.tracker = tracker;
+        jobApplicationsCleared();
+        countAll();
+        tracker.addListener(this);
+    }
+
+    /*
+     * EFFECTS: returns the first day of the week the given date is in; weeks start on Monday
+     */
+    public static LocalDate weekOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the tracker, as the sum of its counts per status
+     */
+    public int size() {
+        int size = 0;
+        for (JobApplicationStatus s : STATUSES) {
+            size += tracker.count(s);
+        }
+        return size;
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the tracker with the given status
+     */
+    public int count(JobApplicationStatus status) {
+        return tracker.count(status);
+    }
+
+    /*
+     * EFFECTS: returns the percentage of job applications in the tracker with the given status, or 0 if the tracker
+     *          has no job applications
+     */
+    public double calculatePercentage(JobApplicationStatus status) {
+        int size = size();
+        if (size == 0) {
+            return 0;
+        }
+        return (double) count(status) / size;
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the tracker submitted in the week the given date is in
+     */
+    public int countWeek(LocalDate date) {
+        return weeklyCounts.getOrDefault(weekOf(date), 0);
+    }
+
+    /*
+     * EFFECTS: returns the first day of the latest week in which a job application in the tracker was submitted, or
+     *          null if the tracker has no job applications
+     */
+    public LocalDate getLatestWeek() {
+        return weeklyCounts.isEmpty() ? null : weeklyCounts.lastKey();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: counts j
+     */
+    @Override
+    public void jobApplicationAdded(JobApplication j) {
+        tally(j, 1);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: stops counting j
+     */
+    @Override
+    public void jobApplicationRemoved(JobApplication j) {
+        tally(j, -1);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: moves j from the count of its old week to that of its current one
+     */
+    @Override
+    public void jobApplicationChanged(JobApplication j, JobApplication old) {
+        tally(old, -1);
+        tally(j, 1);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: counts no job applications
+     */
+    @Override
+    public void jobApplicationsCleared() {
+        weeklyCounts.clear();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: counts every job application now in the tracker
+     */
+    private void countAll() {
+        for (JobApplication j : tracker.getJobApplications()) {
+            tally(j, 1);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: adds delta to the count of the week of j, leaving out weeks whose count drops to 0
+     */
+    private void tally(JobApplication j, int delta) {
+        weeklyCounts.merge(weekOf(j.getSubmissionDate()), delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+}
@@ -5,5 +5,36 @@ public enum JobApplicationStatus {
     SUBMITTED,
     INTERVIEWED,
     ACCEPTED,
-    REJECTED
+    REJECTED;
+
+    private static final int INITIAL_MASK = 0x1F; // the bits of the first letter of a name that tell statuses apart
+    private static final JobApplicationStatus[] BY_INITIAL = byInitial(); // the statuses by the masked first letter
+
+    /*
+     * EFFECTS: returns the status with the given name, as valueOf does, but by looking at the first letter of the name
+     *          and comparing it to a single status; throws IllegalArgumentException if there is no such status
+     */
+    public static JobApplicationStatus parse(String name) {
+        JobApplicationStatus status = name.isEmpty() ? null : BY_INITIAL[name.charAt(0) & INITIAL_MASK];
+        if (status == null || !status.name().equals(name)) {
+            return valueOf(name);
+        }
+        return status;
+    }
+
+    /*
+     * EFFECTS: returns the table of statuses indexed by the masked first letter of their names; throws
+     *          IllegalStateException if two statuses share an entry
+     */
+    private static JobApplicationStatus[] byInitial() {
+        JobApplicationStatus[] table = new JobApplicationStatus[INITIAL_MASK + 1];
+        for (JobApplicationStatus status : values()) {
+            int i = status.name().charAt(0) & INITIAL_MASK;
+            if (table[i] != null) {
+                throw new IllegalStateException(status + " and " + table[i] + " need a different lookup");
+            }
+            table[i] = status;
+        }
+        return table;
+    }
 }
@@ -4,30 +4,75 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import persistence.Writable;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Predicate;
+
+// Represents a collection of job applications; job applications are kept in the order they were added and are indexed
+// by their submission date, company name, role name, and status so that lookups take constant time; the search index,
+// the autocompletion tries, and the order of the job applications by each field are only built the first time they are
+// used, so that loading a large tracker does not pay for them up front. Every change increments the version of the
+// tracker, and each job application remembers the version at which it was last added or modified, so that a store can
+// tell whether the tracker, or any one job application, has changed since it was last marked clean
+public class JobApplicationTracker extends JobApplicationOwner implements Writable {
+    private static final int MAX_SORTED_ORDERS = 2; // the most fields the tracker keeps its job applications sorted by
 
-// Represents a collection of job applications
-public class JobApplicationTracker implements Writable {
     private String name; // the name of the job application tracker
-    private ArrayList<JobApplication> jobApplicationList; // the list of job applications
+    private HashMap<JobApplication, JobApplication> index; // maps each job application to an equal one in the tracker
+    private JobApplication first; // the earliest added job application in the tracker, null if empty
+    private JobApplication last; // the latest added job application in the tracker, null if empty
+    private int size; // the number of job applications in the tracker
+    private int[] statusCounts; // the number of job applications in the tracker per status, indexed by ordinal
+    private SubmissionDateIndex submissionDateIndex; // the job applications in the tracker sorted by submission date
+    private SearchIndex searchIndex; // the inverted index over the company and role names in the tracker, null
+                                     // until the first search
+    private NameTrie companyNames; // the company names in the tracker, for autocompletion, null until first used
+    private NameTrie roleNames; // the role names in the tracker, for autocompletion, null until first used
+    private EnumMap<JobApplicationField, SortedIndex> sortedIndexes; // the job applications sorted by each field
+                                                                     // the tracker was sorted by most recently
+    private JobApplicationField lastSorted; // the field of the sorted order used most recently, null if none
+    private JobApplication[] snapshotElements; // the array shared with snapshots, holding the job applications in
+                                               // order in its first size elements; null until next requested
+    private boolean snapshotShared; // true if a snapshot shares snapshotElements, which must then be copied before a
+                                    // job application is taken out of it
+    private ArrayList<JobApplicationTrackerListener> listeners; // the listeners told about changes to the tracker
+    private JobApplication changing; // a copy of the job application being modified, if any listener needs it
+    private long version; // the number of changes made to the tracker since it was created
+    private long cleanVersion; // the version of the tracker when it was last marked clean
 
     /*
      * EFFECTS: creates a new job application tracker with the given name and an empty list of job applications
      */
     public JobApplicationTracker(String name) {
         this.name = name;
-        jobApplicationList = new ArrayList<>();
+        index = new HashMap<>();
+        statusCounts = new int[JobApplicationStatus.values().length];
+        submissionDateIndex = new SubmissionDateIndex();
+        sortedIndexes = new EnumMap<>(JobApplicationField.class);
+        snapshotElements = new JobApplication[0];
+        listeners = new ArrayList<>();
     }
 
     /*
-     * MODIFIES: this
-     * EFFECTS: returns true if j is successfully added to the job application tracker, false otherwise
+     * MODIFIES: this, j
+     * EFFECTS: returns true if j is successfully added to the job application tracker, false if j or a job
+     *          application equal to j is already in the tracker, or if j already belongs to another tracker
      */
     public boolean add(JobApplication j) {
-        if (jobApplicationList.contains(j)) {
+        if (j.tracker != null || index.containsKey(j)) {
             return false;
         } else {
-            jobApplicationList.add(j);
+            link(j);
+            indexJobApplication(j);
+            for (SortedIndex sorted : sortedIndexes.values()) {
+                sorted.add(j);
+            }
             EventLog.getInstance().logEvent(new Event("Added job application to the tracker: "
                     + j.getSubmissionDate() + " | " + j.getCompanyName() + " | " + j.getRoleName() + " | "
                     + j.getStatus()));
@@ -36,16 +81,165 @@ public class JobApplicationTracker implements Writable {
     }
 
     /*
-     * MODIFIES: this
-     * EFFECTS: returns true if j is successfully removed from the job application tracker, false otherwise
+     * MODIFIES: this, j
+     * EFFECTS: returns true if j, or a job application equal to j, is successfully removed from the job application
+     *          tracker, false otherwise; j itself is removed if it is in the tracker, and otherwise the earliest added
+     *          of the job applications equal to it, as removing from a list in the order added would
      */
     public boolean remove(JobApplication j) {
-        if (jobApplicationList.contains(j)) {
-            jobApplicationList.remove(j);
-            return true;
-        } else {
+        JobApplication found = index.get(j);
+
+        if (found == null) {
             return false;
         }
+
+        JobApplication target = found;
+        for (JobApplication d = found; d != null && target != j; d = d.nextDuplicate) {
+            if (d == j || d.sequence < target.sequence) {
+                target = d;
+            }
+        }
+
+        unindexJobApplication(target);
+        for (SortedIndex sorted : sortedIndexes.values()) {
+            sorted.remove(target);
+        }
+        unlink(target);
+        return true;
+    }
+
+    /*
+     * MODIFIES: this, jobApplications
+     * EFFECTS: adds each of the given job applications to the tracker in order, skipping any that is already in the
+     *          tracker, is equal to one already in the tracker or earlier in the collection, or belongs to another
+     *          tracker; logs a single event for the whole collection and returns the number of job applications added.
+     *          The job applications added are merged into each sorted order in a single pass at the end
+     */
+    public int addAll(Collection<JobApplication> jobApplications) {
+        int added = addAllWithoutLogging(jobApplications);
+        logAddedAll(added);
+        return added;
+    }
+
+    /*
+     * MODIFIES: this, jobApplications
+     * EFFECTS: adds the given job applications to the tracker as addAll does, but logs no event; for restoring job
+     *          applications whose addition was logged when it was first made, such as when a journal is replayed
+     */
+    public int addAllWithoutLogging(Collection<JobApplication> jobApplications) {
+        ensureCapacity(size + jobApplications.size());
+        ArrayList<JobApplication> added = new ArrayList<>();
+
+        for (JobApplication j : jobApplications) {
+            if (j.tracker == null && !index.containsKey(j)) {
+                link(j);
+                indexJobApplication(j);
+                added.add(j);
+            }
+        }
+
+        for (SortedIndex sorted : sortedIndexes.values()) {
+            sorted.addAll(added);
+        }
+        return added.size();
+    }
+
+    /*
+     * EFFECTS: logs a single event for the given number of job applications added together, if there are any
+     */
+    private void logAddedAll(int added) {
+        if (added > 0) {
+            EventLog.getInstance().logEvent(new Event("Added " + added + " job applications to the tracker."));
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes every job application in the tracker that satisfies the given filter in a single pass; logs a
+     *          single event for all of them and returns the number of job applications removed. The job applications
+     *          removed are taken out of each sorted order in a single pass at the end
+     */
+    public int removeIf(Predicate<JobApplication> filter) {
+        int removed = 0;
+        JobApplication j = first;
+        snapshotElements = null;
+
+        while (j != null) {
+            JobApplication next = j.next;
+            if (filter.test(j)) {
+                unindexJobApplication(j);
+                unlink(j);
+                removed++;
+            }
+            j = next;
+        }
+
+        for (SortedIndex sorted : sortedIndexes.values()) {
+            sorted.removeIf(d -> d.tracker != this);
+        }
+        if (removed > 0) {
+            EventLog.getInstance().logEvent(new Event("Removed " + removed + " job applications from the tracker."));
+        }
+        return removed;
+    }
+
+    /*
+     * EFFECTS: returns true if j, or a job application equal to j, is in the job application tracker
+     */
+    public boolean contains(JobApplication j) {
+        return index.containsKey(j);
+    }
+
+    /*
+     * EFFECTS: returns the job application in the tracker that is equal to j, or null if there is none
+     */
+    public JobApplication find(JobApplication j) {
+        return index.get(j);
+    }
+
+    /*
+     * REQUIRES: rank >= 0
+     * EFFECTS: returns the job application in the tracker that is equal to j and was added after exactly rank other
+     *          job applications equal to j that are still in the tracker, or null if there is none
+     */
+    public JobApplication find(JobApplication j, int rank) {
+        for (JobApplication d = index.get(j); d != null; d = d.nextDuplicate) {
+            if (countEqualAddedBefore(j, d) == rank) {
+                return d;
+            }
+        }
+        return null;
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the tracker, other than j, that are equal to values and were
+     *          added before j; j need not be in the tracker or equal to values, so that it can be told apart from
+     *          equal job applications after it has been removed or modified
+     */
+    public int countEqualAddedBefore(JobApplication values, JobApplication j) {
+        int count = 0;
+        for (JobApplication d = index.get(values); d != null; d = d.nextDuplicate) {
+            if (d != j && d.sequence < j.sequence) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: registers the given listener to be told about every later change to the tracker
+     */
+    public void addListener(JobApplicationTrackerListener listener) {
+        listeners.add(listener);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: stops telling the given listener about changes to the tracker
+     */
+    public void removeListener(JobApplicationTrackerListener listener) {
+        listeners.remove(listener);
     }
 
     /*
@@ -53,10 +247,325 @@ public class JobApplicationTracker implements Writable {
      * EFFECTS: removes all job applications from the job application tracker
      */
     public void removeAllJobApplications() {
-        jobApplicationList = new ArrayList<>();
+        removeAllWithoutLogging();
         EventLog.getInstance().logEvent(new Event("Removed all job applications from the tracker."));
     }
 
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes all job applications from the tracker as removeAllJobApplications does, but logs no event; for
+     *          replaying a removal that was logged when it was first made
+     */
+    public void removeAllWithoutLogging() {
+        JobApplication j = first;
+        while (j != null) {
+            JobApplication next = j.next;
+            j.tracker = null;
+            j.previous = null;
+            j.next = null;
+            j.nextDuplicate = null;
+            j = next;
+        }
+
+        clearIndexes();
+        version++;
+        first = null;
+        last = null;
+        size = 0;
+        snapshotElements = new JobApplication[0];
+        snapshotShared = false;
+        for (JobApplicationTrackerListener listener : listeners) {
+            listener.jobApplicationsCleared();
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: empties the index, status counts, submission date index, and sorted orders, and drops the search index
+     *          and autocompletion tries until they are next used
+     */
+    private void clearIndexes() {
+        index = new HashMap<>();
+        statusCounts = new int[statusCounts.length];
+        submissionDateIndex.clear();
+        for (SortedIndex sorted : sortedIndexes.values()) {
+            sorted.clear();
+        }
+        searchIndex = null;
+        companyNames = null;
+        roleNames = null;
+    }
+
+    /*
+     * REQUIRES: j is in this tracker
+     * MODIFIES: this
+     * EFFECTS: removes j from the index, status counts, and sorted orders so that its fields can be modified,
+     *          remembering its current fields if any listener needs them; must be followed by reindex(j)
+     */
+    @Override
+    void unindex(JobApplication j) {
+        if (!listeners.isEmpty()) {
+            changing = new JobApplication(j.getSubmissionDate(), j.getCompanyName(), j.getRoleName());
+            changing.setStatus(j.getStatus());
+            changing.sequence = j.sequence;
+        }
+        unindexJobApplication(j);
+        for (SortedIndex sorted : sortedIndexes.values()) {
+            sorted.remove(j);
+        }
+    }
+
+    /*
+     * REQUIRES: j is in this tracker and unindex(j) was called before j was modified
+     * MODIFIES: this
+     * EFFECTS: adds j back to the index, status counts, and sorted orders under its modified fields and tells the
+     *          listeners
+     */
+    @Override
+    void reindex(JobApplication j) {
+        indexJobApplication(j);
+        for (SortedIndex sorted : sortedIndexes.values()) {
+            sorted.add(j);
+        }
+        j.version = ++version;
+        if (changing != null) {
+            JobApplication old = changing;
+            changing = null;
+            for (JobApplicationTrackerListener listener : listeners) {
+                listener.jobApplicationChanged(j, old);
+            }
+        }
+    }
+
+    /*
+     * REQUIRES: j is in this tracker and its submission date was just changed from oldSubmissionDate
+     * MODIFIES: this
+     * EFFECTS: moves j to its new submission date in the submission date index
+     */
+    @Override
+    void updateSubmissionDate(JobApplication j, LocalDate oldSubmissionDate) {
+        submissionDateIndex.remove(j, oldSubmissionDate);
+        submissionDateIndex.add(j);
+    }
+
+    /*
+     * REQUIRES: j is in this tracker and its names were just changed from oldCompany and oldRole
+     * MODIFIES: this
+     * EFFECTS: moves j to its new company and role names in the search index and the autocompletion tries
+     */
+    @Override
+    void updateNames(JobApplication j, String oldCompany, String oldRole) {
+        removeFromNameIndexes(j, oldCompany, oldRole);
+        addToNameIndexes(j);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: adds the names of j to the search index and the autocompletion tries, if they have been built
+     */
+    private void addToNameIndexes(JobApplication j) {
+        if (searchIndex != null) {
+            searchIndex.add(j, j.getCompanyName(), j.getRoleName());
+        }
+        if (companyNames != null) {
+            companyNames.add(j.getCompanyName());
+            roleNames.add(j.getRoleName());
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes j under the given names from the search index and the autocompletion tries, if they have been
+     *          built
+     */
+    private void removeFromNameIndexes(JobApplication j, String company, String role) {
+        if (searchIndex != null) {
+            searchIndex.remove(j, company, role);
+        }
+        if (companyNames != null) {
+            companyNames.remove(company);
+            roleNames.remove(role);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: grows the index and the array shared with snapshots so that they can hold the given number of job
+     *          applications without being resized again
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > 2 * index.size()) {
+            HashMap<JobApplication, JobApplication> resized = new HashMap<>((int) (capacity / 0.75f) + 1);
+            resized.putAll(index);
+            index = resized;
+        }
+
+        if (snapshotElements != null && capacity > snapshotElements.length) {
+            snapshotElements = Arrays.copyOf(snapshotElements, capacity);
+            snapshotShared = false;
+        }
+    }
+
+    /*
+     * MODIFIES: this, j
+     * EFFECTS: appends j to the end of the order of job applications in the tracker and tells the listeners
+     */
+    private void link(JobApplication j) {
+        j.tracker = this;
+        j.previous = last;
+        j.next = null;
+
+        if (last == null) {
+            first = j;
+        } else {
+            last.next = j;
+        }
+
+        last = j;
+        size++;
+        j.version = ++version;
+        j.sequence = version;
+        submissionDateIndex.add(j);
+        addToNameIndexes(j);
+
+        appendToSnapshot(j);
+
+        for (JobApplicationTrackerListener listener : listeners) {
+            listener.jobApplicationAdded(j);
+        }
+    }
+
+    /*
+     * REQUIRES: j has just been appended to the order of job applications in the tracker
+     * MODIFIES: this
+     * EFFECTS: appends j to the array shared with snapshots, if it is in use
+     */
+    private void appendToSnapshot(JobApplication j) {
+        if (snapshotElements != null) {
+            if (size > snapshotElements.length) {
+                snapshotElements = Arrays.copyOf(snapshotElements, Math.max(size, snapshotElements.length * 2));
+                snapshotShared = false;
+            }
+            snapshotElements[size - 1] = j;
+        }
+    }
+
+    /*
+     * REQUIRES: j is in this tracker
+     * MODIFIES: this, j
+     * EFFECTS: takes j out of the order of job applications in the tracker and tells the listeners
+     */
+    private void unlink(JobApplication j) {
+        if (j.previous == null) {
+            first = j.next;
+        } else {
+            j.previous.next = j.next;
+        }
+
+        if (j.next == null) {
+            last = j.previous;
+        } else {
+            j.next.previous = j.previous;
+        }
+
+        removeFromSnapshot(j);
+        j.tracker = null;
+        j.previous = null;
+        j.next = null;
+        size--;
+        version++;
+        submissionDateIndex.remove(j, j.getSubmissionDate());
+        removeFromNameIndexes(j, j.getCompanyName(), j.getRoleName());
+
+        for (JobApplicationTrackerListener listener : listeners) {
+            listener.jobApplicationRemoved(j);
+        }
+    }
+
+    /*
+     * REQUIRES: j is in this tracker and has not been taken out of its order yet
+     * MODIFIES: this
+     * EFFECTS: takes j out of the array shared with snapshots, if it is in use, by shifting the job applications
+     *          after it down; the array is copied first if a snapshot shares it, so that snapshots do not change
+     */
+    private void removeFromSnapshot(JobApplication j) {
+        if (snapshotElements == null) {
+            return;
+        }
+
+        int position = snapshotPosition(j);
+        JobApplication[] elements = snapshotElements;
+        if (snapshotShared) {
+            elements = new JobApplication[snapshotElements.length];
+            System.arraycopy(snapshotElements, 0, elements, 0, position);
+            snapshotShared = false;
+        }
+        System.arraycopy(snapshotElements, position + 1, elements, position, size - position - 1);
+        elements[size - 1] = null;
+        snapshotElements = elements;
+    }
+
+    /*
+     * REQUIRES: j is among the first size elements of the array shared with snapshots
+     * EFFECTS: returns the position of j in the array shared with snapshots, found by binary search since the job
+     *          applications are in the order they were added
+     */
+    private int snapshotPosition(JobApplication j) {
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (snapshotElements[middle].sequence < j.sequence) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * MODIFIES: this, j
+     * EFFECTS: adds j to the index and counts it under its status; if an equal job application is already indexed,
+     *          j is chained behind it
+     */
+    private void indexJobApplication(JobApplication j) {
+        JobApplication head = index.putIfAbsent(j, j);
+        j.nextDuplicate = null;
+        statusCounts[j.getStatus().ordinal()]++;
+
+        if (head != null) {
+            j.nextDuplicate = head.nextDuplicate;
+            head.nextDuplicate = j;
+        }
+    }
+
+    /*
+     * REQUIRES: j is indexed under its current fields
+     * MODIFIES: this, j
+     * EFFECTS: removes j from the index and from the count of its status; if j was chained to equal job
+     *          applications, the next one takes its place
+     */
+    private void unindexJobApplication(JobApplication j) {
+        JobApplication head = index.get(j);
+        statusCounts[j.getStatus().ordinal()]--;
+
+        if (head == j) {
+            index.remove(j);
+            if (j.nextDuplicate != null) {
+                index.put(j.nextDuplicate, j.nextDuplicate);
+            }
+        } else {
+            JobApplication d = head;
+            while (d.nextDuplicate != j) {
+                d = d.nextDuplicate;
+            }
+            d.nextDuplicate = j.nextDuplicate;
+        }
+
+        j.nextDuplicate = null;
+    }
+
     /*
      * EFFECTS: returns the name of the job application tracker
      */
@@ -65,30 +574,204 @@ public class JobApplicationTracker implements Writable {
     }
 
     /*
-     * EFFECTS: returns a list of all job applications in the tracker
+     * EFFECTS: returns the version of the tracker, which is incremented by every addition, removal, and modification
+     *          of a job application in it
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /*
+     * EFFECTS: returns true if the tracker has been changed since it was last marked clean, or since it was created
+     *          if it has never been marked clean
      */
-    public ArrayList<JobApplication> getJobApplications() {
-        return jobApplicationList;
+    public boolean isDirty() {
+        return version != cleanVersion;
     }
 
     /*
-     * EFFECTS: returns a list of job applications with status set to given status in the tracker
+     * EFFECTS: returns true if j is in this tracker and has been added or modified since the tracker was last marked
+     *          clean
+     */
+    public boolean isDirty(JobApplication j) {
+        return j.tracker == this && j.version > cleanVersion;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: marks the tracker and all of its job applications as clean, typically once they have been saved
+     */
+    public void markClean() {
+        cleanVersion = version;
+    }
+
+    /*
+     * EFFECTS: returns an unmodifiable snapshot of all job applications in the tracker in the order they were added;
+     *          later additions and removals do not change the snapshot. Taking a snapshot copies nothing, except
+     *          for the first snapshot after removeIf
+     */
+    public List<JobApplication> getJobApplications() {
+        if (snapshotElements == null) {
+            snapshotElements = new JobApplication[size];
+            int i = 0;
+            for (JobApplication j = first; j != null; j = j.next) {
+                snapshotElements[i++] = j;
+            }
+        }
+
+        snapshotShared = true;
+        return new JobApplicationSnapshot(snapshotElements, size);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns an unmodifiable snapshot of all job applications in the tracker sorted by the given field,
+     *          those with the same field in the order they were added; later changes to the tracker do not change the
+     *          snapshot. The first call for a field sorts the tracker by it, and that order is kept up to date as the
+     *          tracker changes, so later calls copy nothing unless the tracker has changed since the last one. Orders
+     *          are only kept for the two fields used most recently, since every change has to update each of them
+     */
+    public List<JobApplication> getJobApplications(JobApplicationField sortField) {
+        return sortedIndex(sortField).snapshot();
+    }
+
+    /*
+     * REQUIRES: submission dates have four-digit years
+     * MODIFIES: this
+     * EFFECTS: returns an unmodifiable snapshot of the job applications in the tracker whose filterField starts with
+     *          the given prefix ignoring case, sorted by sortField, or in the order they were added if sortField is
+     *          null; those with the same sortField are in the order they were added. The matches are found by binary
+     *          search in the order by filterField, and only they are sorted if sortField is another field
+     */
+    public List<JobApplication> getJobApplications(JobApplicationField sortField, JobApplicationField filterField,
+                                                   String prefix) {
+        List<JobApplication> matches = sortedIndex(filterField).startingWith(prefix);
+        if (sortField == filterField) {
+            return matches;
+        }
+
+        JobApplication[] sorted = SortedIndex.sort(sortField, matches.toArray(new JobApplication[0]));
+        return new JobApplicationSnapshot(sorted, sorted.length);
+    }
+
+    /*
+     * EFFECTS: returns the order of the job applications in the snapshots returned for the given sortField: by that
+     *          field, or only by the order they were added if sortField is null, with those that have the same field
+     *          in the order they were added to the tracker
+     */
+    public Comparator<JobApplication> getOrder(JobApplicationField sortField) {
+        return SortedIndex.order(sortField);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns the order of the job applications in the tracker by the given field, sorting them if it is
+     *          not kept yet, and first dropping every order but the one used most recently if as many as can be kept
+     *          already are
+     */
+    private SortedIndex sortedIndex(JobApplicationField field) {
+        SortedIndex sorted = sortedIndexes.get(field);
+        if (sorted == null) {
+            if (sortedIndexes.size() >= MAX_SORTED_ORDERS) {
+                sortedIndexes.keySet().removeIf(f -> f != lastSorted);
+            }
+            sorted = new SortedIndex(field, getJobApplications().toArray(new JobApplication[0]));
+            sortedIndexes.put(field, sorted);
+        }
+        lastSorted = field;
+        return sorted;
+    }
+
+    /*
+     * REQUIRES: from is not after to
+     * EFFECTS: returns a view of the job applications submitted between from and to (both inclusive), in order of
+     *          submission date; the view reflects later changes to the tracker
+     */
+    public Iterable<JobApplication> between(LocalDate from, LocalDate to) {
+        return submissionDateIndex.between(from, to, null);
+    }
+
+    /*
+     * REQUIRES: from is not after to
+     * EFFECTS: returns a view of the job applications with given status submitted between from and to (both
+     *          inclusive), in order of submission date; the view reflects later changes to the tracker
+     */
+    public Iterable<JobApplication> between(LocalDate from, LocalDate to, JobApplicationStatus status) {
+        return submissionDateIndex.between(from, to, status);
+    }
+
+    /*
+     * EFFECTS: returns a view of the job applications submitted strictly before date, in order of submission date;
+     *          the view reflects later changes to the tracker
+     */
+    public Iterable<JobApplication> before(LocalDate date) {
+        return submissionDateIndex.before(date, null);
+    }
+
+    /*
+     * EFFECTS: returns a view of the job applications with given status submitted strictly before date, in order of
+     *          submission date; the view reflects later changes to the tracker
+     */
+    public Iterable<JobApplication> before(LocalDate date, JobApplicationStatus status) {
+        return submissionDateIndex.before(date, status);
+    }
+
+    /*
+     * REQUIRES: limit >= 0
+     * EFFECTS: returns at most limit job applications whose company or role names contain every word in the query
+     *          (ignoring case), best matches first; a word matches anywhere inside a name if it is at least 3
+     *          characters long, and only at the start of a word in a name otherwise
+     */
+    public ArrayList<JobApplication> search(String query, int limit) {
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex();
+            for (JobApplication j = first; j != null; j = j.next) {
+                searchIndex.add(j, j.getCompanyName(), j.getRoleName());
+            }
+        }
+        return searchIndex.search(query, limit);
+    }
+
+    /*
+     * REQUIRES: limit >= 0
+     * EFFECTS: returns at most limit distinct company names in the tracker that start with the given prefix (ignoring
+     *          case), the ones used by the most job applications first
+     */
+    public ArrayList<String> completeCompanyName(String prefix, int limit) {
+        buildNameTries();
+        return companyNames.complete(prefix, limit);
+    }
+
+    /*
+     * REQUIRES: limit >= 0
+     * EFFECTS: returns at most limit distinct role names in the tracker that start with the given prefix (ignoring
+     *          case), the ones used by the most job applications first
+     */
+    public ArrayList<String> completeRoleName(String prefix, int limit) {
+        buildNameTries();
+        return roleNames.complete(prefix, limit);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: builds the autocompletion tries from the job applications in the tracker, unless they have been built
      */
-    private ArrayList<JobApplication> getJobApplications(JobApplicationStatus status) {
-        ArrayList<JobApplication> filteredList = new ArrayList<>();
-        for (JobApplication j : jobApplicationList) {
-            if (j.getStatus().equals(status)) {
-                filteredList.add(j);
+    private void buildNameTries() {
+        if (companyNames == null) {
+            companyNames = new NameTrie();
+            roleNames = new NameTrie();
+            for (JobApplication j = first; j != null; j = j.next) {
+                companyNames.add(j.getCompanyName());
+                roleNames.add(j.getRoleName());
             }
         }
-        return filteredList;
     }
 
     /*
      * EFFECTS: returns the number of applications with status set to given status
      */
     public int count(JobApplicationStatus status) {
-        return getJobApplications(status).size();
+        return statusCounts[status.ordinal()];
     }
 
     /*
@@ -96,7 +779,7 @@ public class JobApplicationTracker implements Writable {
      * EFFECTS: returns the percentage of job applications with status set to given status
      */
     public double calculatePercentage(JobApplicationStatus status) {
-        return (double) count(status) / jobApplicationList.size();
+        return (double) count(status) / size;
     }
 
     /*
@@ -116,7 +799,7 @@ public class JobApplicationTracker implements Writable {
     private JSONArray jobApplicationListToJson() {
         JSONArray jsonArray = new JSONArray();
 
-        for (JobApplication j : jobApplicationList) {
+        for (JobApplication j : getJobApplications()) {
             jsonArray.put(j.toJson());
         }
 
@@ -0,0 +1,26 @@
+package model;
+
+// Represents an object that is told about every change made to the job applications in a job application tracker,
+// right after the change has been made
+public interface JobApplicationTrackerListener {
+    /*
+     * EFFECTS: handles j having been added to the end of the tracker
+     */
+    void jobApplicationAdded(JobApplication j);
+
+    /*
+     * EFFECTS: handles j having been removed from the tracker
+     */
+    void jobApplicationRemoved(JobApplication j);
+
+    /*
+     * EFFECTS: handles a field of j having been modified while j is in the tracker; old is a detached copy of j as it
+     *          was before the modification, which sorts where j did in the orders returned by the tracker's getOrder
+     */
+    void jobApplicationChanged(JobApplication j, JobApplication old);
+
+    /*
+     * EFFECTS: handles all job applications having been removed from the tracker
+     */
+    void jobApplicationsCleared();
+}
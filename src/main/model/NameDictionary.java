@@ -0,0 +1,176 @@
+package model;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Represents the shared dictionary of company and role names; equal names routed through the dictionary become the
+// same String instance, so repeated names are stored once and comparing them with equals succeeds on the reference
+// check. Looking up a name takes no lock. Once the dictionary holds its most names, admitting a new name evicts a name
+// that has not been routed through it since the eviction sweep last passed it (a second-chance clock), which
+// approximates evicting the least recently used name; job applications keep the evicted instance, which is only no
+// longer shared with equal names interned later
+public class NameDictionary {
+    public static final int MAX_NAMES = 1 << 16; // the most names the shared dictionary will hold
+    private static final int STRING_OVERHEAD = 40; // the approximate bytes used by a String apart from its characters
+    private static NameDictionary theDictionary; // the only name dictionary in the system
+
+    private final int maxNames; // the most names the dictionary will hold
+    private final ConcurrentHashMap<String, Entry> names; // the canonical instance of each name in the dictionary
+    private final Object evictionLock; // the lock held while evicting names, so that one thread sweeps at a time
+    private Iterator<Entry> hand; // the position of the eviction sweep among the names, null to start a new sweep
+    private LongAdder lookups; // the number of names routed through the dictionary
+    private LongAdder hits; // the number of names that were already in the dictionary
+    private LongAdder bytesSaved; // the approximate bytes of duplicate names that can be freed thanks to hits
+
+    /*
+     * REQUIRES: maxNames > 0
+     * EFFECTS: creates an empty name dictionary that holds at most the given number of names
+     */
+    NameDictionary(int maxNames) {
+        this.maxNames = maxNames;
+        names = new ConcurrentHashMap<>();
+        evictionLock = new Object();
+        lookups = new LongAdder();
+        hits = new LongAdder();
+        bytesSaved = new LongAdder();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: creates the name dictionary if it doesn't already exist, returns the name dictionary
+     */
+    public static synchronized NameDictionary getInstance() {
+        if (theDictionary == null) {
+            theDictionary = new NameDictionary(MAX_NAMES);
+        }
+
+        return theDictionary;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns the dictionary's instance of the given name and marks it as used, adding the name to the
+     *          dictionary first if it is new and evicting names that have not been used recently while the dictionary
+     *          is over its most names; returns null if the given name is null
+     */
+    public String intern(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        lookups.increment();
+        Entry entry = names.get(name);
+
+        if (entry == null) {
+            Entry added = new Entry(name);
+            entry = names.putIfAbsent(name, added);
+            if (entry == null) {
+                evictIfFull(added);
+                return name;
+            }
+        }
+
+        entry.use();
+        hits.increment();
+        if (entry.name != name) {
+            bytesSaved.add(STRING_OVERHEAD + 2L * name.length());
+        }
+        return entry.name;
+    }
+
+    /*
+     * EFFECTS: returns the number of distinct names in the dictionary
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /*
+     * EFFECTS: returns the fraction of lookups that found an equal name already in the dictionary, or 0 if there
+     *          were no lookups
+     */
+    public double getHitRate() {
+        long total = lookups.sum();
+        return total == 0 ? 0 : (double) hits.sum() / total;
+    }
+
+    /*
+     * EFFECTS: returns the approximate number of bytes of duplicate names that were replaced by dictionary instances
+     */
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes all names from the dictionary and resets its statistics
+     */
+    public void clear() {
+        synchronized (evictionLock) {
+            names.clear();
+            hand = null;
+        }
+        lookups.reset();
+        hits.reset();
+        bytesSaved.reset();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: while the dictionary holds more than its most names, moves the sweep on to the next name other than
+     *          added, evicting it if it has not been used since the sweep last passed it and otherwise clearing its
+     *          use; after two full sweeps without an eviction, evicts the next name regardless
+     */
+    private void evictIfFull(Entry added) {
+        if (names.size() <= maxNames) {
+            return;
+        }
+
+        synchronized (evictionLock) {
+            int visited = 0;
+            while (names.size() > maxNames) {
+                if (hand == null || !hand.hasNext()) {
+                    hand = names.values().iterator();
+                }
+                Entry entry = hand.next();
+                if (entry != added && (!entry.clearUse() || ++visited > 2 * maxNames)) {
+                    names.remove(entry.name, entry);
+                }
+            }
+        }
+    }
+
+    // Represents a name in the dictionary with a mark of whether it has been used since the eviction sweep passed it
+    private static class Entry {
+        private final String name; // the canonical instance of the name
+        private volatile boolean used; // true if the name has been looked up since the sweep last passed it
+
+        /*
+         * EFFECTS: creates an entry for the given name that has not been used yet
+         */
+        Entry(String name) {
+            this.name = name;
+        }
+
+        /*
+         * MODIFIES: this
+         * EFFECTS: marks the name as used, writing the mark only if it is not already set
+         */
+        void use() {
+            if (!used) {
+                used = true;
+            }
+        }
+
+        /*
+         * MODIFIES: this
+         * EFFECTS: clears the mark and returns whether the name had been used
+         */
+        boolean clearUse() {
+            boolean wasUsed = used;
+            used = false;
+            return wasUsed;
+        }
+    }
+}
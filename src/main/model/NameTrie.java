@@ -0,0 +1,241 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+// Represents a prefix trie of names that counts how often each name was added; names are matched ignoring case, and
+// every node remembers the highest count below it so the most frequent completions of a prefix can be found without
+// visiting the whole subtree
+class NameTrie {
+    private Node root; // the node for the empty prefix
+
+    /*
+     * EFFECTS: creates an empty name trie
+     */
+    NameTrie() {
+        root = new Node();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: adds one occurrence of the given name to the trie
+     */
+    void add(String name) {
+        String key = fold(name);
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].childOrNew(key.charAt(i));
+        }
+
+        Node node = path[key.length()];
+        if (node.count == 0) {
+            node.name = name;
+        }
+        node.count++;
+        updateBest(path);
+    }
+
+    /*
+     * REQUIRES: the given name was added to the trie more times than it was removed
+     * MODIFIES: this
+     * EFFECTS: removes one occurrence of the given name from the trie, dropping nodes that no longer lead to a name
+     */
+    void remove(String name) {
+        String key = fold(name);
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+        }
+
+        Node node = path[key.length()];
+        node.count--;
+        if (node.count == 0) {
+            node.name = null;
+        }
+        updateBest(path);
+
+        for (int i = key.length(); i > 0 && path[i].best == 0; i--) {
+            path[i - 1].removeChild(key.charAt(i - 1));
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes all names from the trie
+     */
+    void clear() {
+        root = new Node();
+    }
+
+    /*
+     * REQUIRES: limit >= 0
+     * EFFECTS: returns at most limit names that start with the given prefix (ignoring case), most frequently added
+     *          first; names added equally often are returned in alphabetical order of their case-folded spelling
+     */
+    ArrayList<String> complete(String prefix, int limit) {
+        ArrayList<String> completions = new ArrayList<>();
+        String key = fold(prefix);
+        Node start = find(key);
+
+        if (start == null || start.best == 0) {
+            return completions;
+        }
+
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>();
+        candidates.add(new Candidate(start, key, false));
+
+        while (!candidates.isEmpty() && completions.size() < limit) {
+            Candidate candidate = candidates.poll();
+            Node node = candidate.node;
+
+            if (candidate.isName) {
+                completions.add(node.name);
+            } else {
+                if (node.count > 0) {
+                    candidates.add(new Candidate(node, candidate.key, true));
+                }
+                for (int i = 0; i < node.size; i++) {
+                    candidates.add(new Candidate(node.children[i], candidate.key + node.keys[i], false));
+                }
+            }
+        }
+
+        return completions;
+    }
+
+    /*
+     * EFFECTS: returns the node for the given case-folded key, or null if no added name starts with it
+     */
+    private Node find(String key) {
+        Node node = root;
+
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+
+        return node;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: recomputes the highest count below each node on the given path, from the deepest node up
+     */
+    private void updateBest(Node[] path) {
+        for (int i = path.length - 1; i >= 0; i--) {
+            Node node = path[i];
+            int best = node.count;
+            for (int c = 0; c < node.size; c++) {
+                best = Math.max(best, node.children[c].best);
+            }
+            node.best = best;
+        }
+    }
+
+    /*
+     * EFFECTS: returns the given name folded to lower case
+     */
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    // Represents a node of the trie, with its children kept in arrays sorted by character
+    private static class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS; // the characters leading to each child, in increasing order
+        private Node[] children = NO_CHILDREN; // the children of this node, in the same order as keys
+        private int size; // the number of children of this node
+        private int count; // the number of times the name ending at this node was added
+        private String name; // the name ending at this node as it was first added, null if count is 0
+        private int best; // the highest count of this node and all nodes below it
+
+        /*
+         * EFFECTS: returns the child reached by the given character, or null if there is none
+         */
+        Node child(char key) {
+            int i = Arrays.binarySearch(keys, 0, size, key);
+            return i >= 0 ? children[i] : null;
+        }
+
+        /*
+         * MODIFIES: this
+         * EFFECTS: returns the child reached by the given character, creating it first if there is none
+         */
+        Node childOrNew(char key) {
+            int i = Arrays.binarySearch(keys, 0, size, key);
+            if (i >= 0) {
+                return children[i];
+            }
+
+            i = -(i + 1);
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, Math.max(2, size * 2));
+                children = Arrays.copyOf(children, keys.length);
+            }
+            System.arraycopy(keys, i, keys, i + 1, size - i);
+            System.arraycopy(children, i, children, i + 1, size - i);
+            keys[i] = key;
+            children[i] = new Node();
+            size++;
+            return children[i];
+        }
+
+        /*
+         * REQUIRES: this has a child reached by the given character
+         * MODIFIES: this
+         * EFFECTS: removes the child reached by the given character
+         */
+        void removeChild(char key) {
+            int i = Arrays.binarySearch(keys, 0, size, key);
+            System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+            System.arraycopy(children, i + 1, children, i, size - i - 1);
+            size--;
+            children[size] = null;
+        }
+    }
+
+    // Represents a node to visit, or a name to return, while searching for completions; candidates with higher counts
+    // come first, then candidates with alphabetically smaller keys, then names before the nodes below them
+    private static class Candidate implements Comparable<Candidate> {
+        private final Node node; // the node to visit, or the node ending the name to return
+        private final String key; // the case-folded characters leading to node
+        private final boolean isName; // true if this candidate is the name ending at node
+
+        /*
+         * EFFECTS: creates a candidate for the given node reached by the given key
+         */
+        Candidate(Node node, String key, boolean isName) {
+            this.node = node;
+            this.key = key;
+            this.isName = isName;
+        }
+
+        /*
+         * EFFECTS: returns the count this candidate is ranked by
+         */
+        private int priority() {
+            return isName ? node.count : node.best;
+        }
+
+        /*
+         * EFFECTS: returns a negative integer if this candidate comes before other, a positive one if it comes after
+         */
+        @Override
+        public int compareTo(Candidate other) {
+            if (priority() != other.priority()) {
+                return Integer.compare(other.priority(), priority());
+            }
+            if (!key.equals(other.key)) {
+                return key.compareTo(other.key);
+            }
+            return Boolean.compare(other.isName, isName);
+        }
+    }
+}
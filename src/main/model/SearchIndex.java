@@ -0,0 +1,315 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Represents an inverted index over the company and role names of job applications; every distinct case-folded word
+// maps to the job applications whose names contain it, and every word is broken into grams (its one and two character
+// prefixes and all of its three character substrings) so that a query word can be matched anywhere inside a word
+// without scanning every job application
+class SearchIndex {
+    private static final int GRAM_LENGTH = 3; // the length of the substrings indexed for each word
+    private static final char PREFIX_MARKER = '^'; // marks grams that are prefixes of a word
+    private static final int WORD_SCORE = 3; // the score of a query word that equals a word in a name
+    private static final int PREFIX_SCORE = 2; // the score of a query word that starts a word in a name
+    private static final int SUBSTRING_SCORE = 1; // the score of a query word found elsewhere in a name
+
+    private HashMap<String, Set<JobApplication>> jobApplicationsByWord; // the job applications containing each word
+    private HashMap<String, Set<String>> wordsByGram; // the indexed words containing each gram
+
+    /*
+     * EFFECTS: creates an empty search index
+     */
+    SearchIndex() {
+        jobApplicationsByWord = new HashMap<>();
+        wordsByGram = new HashMap<>();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: indexes j under the words of the given company and role names
+     */
+    void add(JobApplication j, String company, String role) {
+        for (String word : words(company, role)) {
+            Set<JobApplication> jobApplications = jobApplicationsByWord.get(word);
+
+            if (jobApplications == null) {
+                jobApplications = Collections.newSetFromMap(new IdentityHashMap<>());
+                jobApplicationsByWord.put(word, jobApplications);
+                for (String gram : grams(word)) {
+                    wordsByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(word);
+                }
+            }
+
+            jobApplications.add(j);
+        }
+    }
+
+    /*
+     * REQUIRES: j was indexed under the given company and role names
+     * MODIFIES: this
+     * EFFECTS: removes j from the words of the given company and role names; words that no longer belong to any job
+     *          application are dropped from the index
+     */
+    void remove(JobApplication j, String company, String role) {
+        for (String word : words(company, role)) {
+            Set<JobApplication> jobApplications = jobApplicationsByWord.get(word);
+            jobApplications.remove(j);
+
+            if (jobApplications.isEmpty()) {
+                jobApplicationsByWord.remove(word);
+                for (String gram : grams(word)) {
+                    Set<String> words = wordsByGram.get(gram);
+                    words.remove(word);
+                    if (words.isEmpty()) {
+                        wordsByGram.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes all job applications from the index
+     */
+    void clear() {
+        jobApplicationsByWord = new HashMap<>();
+        wordsByGram = new HashMap<>();
+    }
+
+    /*
+     * REQUIRES: limit >= 0
+     * EFFECTS: returns at most limit indexed job applications whose company or role names contain every word of the
+     *          query, ranked from best to worst match; whole word matches rank above prefix matches, which rank above
+     *          other substring matches, and ties are broken by most recent submission date
+     */
+    ArrayList<JobApplication> search(String query, int limit) {
+        ArrayList<HashMap<String, Integer>> matches = new ArrayList<>();
+        for (String word : new LinkedHashSet<>(words(query))) {
+            HashMap<String, Integer> wordMatches = matchingWords(word);
+            if (wordMatches.isEmpty()) {
+                return new ArrayList<>();
+            }
+            matches.add(wordMatches);
+        }
+
+        if (matches.isEmpty() || limit == 0) {
+            return new ArrayList<>();
+        }
+
+        return toBestFirst(bestCandidates(matches, limit));
+    }
+
+    /*
+     * REQUIRES: matches is not empty, each of its elements is not empty, and limit > 0
+     * EFFECTS: returns a queue of at most limit of the best job applications matching all query words, with the worst
+     *          of them at the head; only the job applications matching the rarest query word are visited
+     */
+    private PriorityQueue<ScoredJobApplication> bestCandidates(ArrayList<HashMap<String, Integer>> matches,
+                                                               int limit) {
+        Comparator<ScoredJobApplication> worstFirst = Comparator
+                .comparingInt((ScoredJobApplication s) -> s.score)
+                .thenComparing(s -> s.jobApplication.getSubmissionDate());
+        PriorityQueue<ScoredJobApplication> best = new PriorityQueue<>(worstFirst);
+        HashMap<String, Integer> rarest = Collections.min(matches, Comparator.comparingInt(this::countPostings));
+        Set<JobApplication> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean singleMatch = matches.size() == 1 && rarest.size() == 1;
+
+        for (Map.Entry<String, Integer> match : rarest.entrySet()) {
+            for (JobApplication j : jobApplicationsByWord.get(match.getKey())) {
+                int score = singleMatch ? match.getValue() : (seen.add(j) ? score(j, matches) : 0);
+                if (score > 0 && (best.size() < limit || ranksAbove(j, score, best.peek()))) {
+                    best.add(new ScoredJobApplication(j, score));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /*
+     * EFFECTS: returns true if j with the given score is a better match than the given scored job application
+     */
+    private boolean ranksAbove(JobApplication j, int score, ScoredJobApplication other) {
+        if (score != other.score) {
+            return score > other.score;
+        }
+        return j.getSubmissionDate().isAfter(other.jobApplication.getSubmissionDate());
+    }
+
+    /*
+     * MODIFIES: best
+     * EFFECTS: empties the given queue and returns its job applications from best to worst match
+     */
+    private ArrayList<JobApplication> toBestFirst(PriorityQueue<ScoredJobApplication> best) {
+        ArrayList<JobApplication> results = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            results.add(best.poll().jobApplication);
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    /*
+     * EFFECTS: returns the total number of job applications indexed under the given matched words
+     */
+    private int countPostings(HashMap<String, Integer> wordMatches) {
+        int count = 0;
+        for (String word : wordMatches.keySet()) {
+            count += jobApplicationsByWord.get(word).size();
+        }
+        return count;
+    }
+
+    /*
+     * EFFECTS: returns the sum over all query words of the best score of the indexed words of j matching that query
+     *          word, or 0 if j does not match some query word
+     */
+    private int score(JobApplication j, ArrayList<HashMap<String, Integer>> matches) {
+        int total = 0;
+
+        for (HashMap<String, Integer> wordMatches : matches) {
+            int best = 0;
+            for (Map.Entry<String, Integer> match : wordMatches.entrySet()) {
+                if (match.getValue() > best && jobApplicationsByWord.get(match.getKey()).contains(j)) {
+                    best = match.getValue();
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+
+        return total;
+    }
+
+    /*
+     * EFFECTS: returns the indexed words matching the given query word, each mapped to the score of the match; a
+     *          query word shorter than GRAM_LENGTH only matches the start of a word
+     */
+    private HashMap<String, Integer> matchingWords(String queryWord) {
+        HashMap<String, Integer> matches = new HashMap<>();
+
+        for (String word : candidateWords(queryWord)) {
+            if (word.equals(queryWord)) {
+                matches.put(word, WORD_SCORE);
+            } else if (word.startsWith(queryWord)) {
+                matches.put(word, PREFIX_SCORE);
+            } else if (queryWord.length() >= GRAM_LENGTH && word.contains(queryWord)) {
+                matches.put(word, SUBSTRING_SCORE);
+            }
+        }
+
+        return matches;
+    }
+
+    /*
+     * EFFECTS: returns the indexed words that contain every gram of the given query word, which is a superset of the
+     *          indexed words that actually match it
+     */
+    private Set<String> candidateWords(String queryWord) {
+        Set<String> candidates = null;
+
+        for (String gram : queryGrams(queryWord)) {
+            Set<String> words = wordsByGram.getOrDefault(gram, Collections.emptySet());
+            if (candidates == null) {
+                candidates = new HashSet<>(words);
+            } else {
+                candidates.retainAll(words);
+            }
+        }
+
+        return candidates;
+    }
+
+    /*
+     * EFFECTS: returns the grams to look up for the given query word; words shorter than GRAM_LENGTH can only be
+     *          matched as prefixes
+     */
+    private ArrayList<String> queryGrams(String word) {
+        ArrayList<String> grams = new ArrayList<>();
+
+        if (word.length() < GRAM_LENGTH) {
+            grams.add(PREFIX_MARKER + word);
+        } else {
+            for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+                grams.add(word.substring(i, i + GRAM_LENGTH));
+            }
+        }
+
+        return grams;
+    }
+
+    /*
+     * EFFECTS: returns the distinct grams of the given word
+     */
+    private Set<String> grams(String word) {
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 1; i < GRAM_LENGTH && i <= word.length(); i++) {
+            grams.add(PREFIX_MARKER + word.substring(0, i));
+        }
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM_LENGTH));
+        }
+
+        return grams;
+    }
+
+    /*
+     * EFFECTS: returns the distinct case-folded words in the given company and role names
+     */
+    private Set<String> words(String company, String role) {
+        Set<String> words = new HashSet<>(words(company));
+        words.addAll(words(role));
+        return words;
+    }
+
+    /*
+     * EFFECTS: returns the case-folded words in the given text, where a word is a run of letters or digits
+     */
+    static ArrayList<String> words(String text) {
+        ArrayList<String> words = new ArrayList<>();
+        int start = -1;
+
+        for (int i = 0; i <= text.length(); i++) {
+            boolean inWord = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (inWord && start < 0) {
+                start = i;
+            } else if (!inWord && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+
+        return words;
+    }
+
+    // Represents a job application with the score it received for a query
+    private static class ScoredJobApplication {
+        private final JobApplication jobApplication; // the matched job application
+        private final int score; // the score of the job application for the query
+
+        /*
+         * EFFECTS: creates a scored job application with the given job application and score
+         */
+        ScoredJobApplication(JobApplication jobApplication, int score) {
+            this.jobApplication = jobApplication;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Predicate;
+
+// Represents the job applications of a tracker sorted by one field, those with the same field in the order they were
+// added to the tracker. The job applications are kept in a sorted array, so the one at any position is read at once,
+// a single job application is added or removed by a binary search and a shift of the ones after it rather than by
+// sorting again, and the job applications whose field starts with a prefix are found by two binary searches.
+// Snapshots share the array, which is copied before it is next changed. Sorting many job applications at once turns
+// each field into a number that sorts the same way, so that they are sorted as numbers rather than by their fields
+class SortedIndex {
+    private final JobApplicationField field; // the field the job applications are sorted by
+    private final Comparator<JobApplication> order; // the field, then the order the job applications were added in
+    private JobApplication[] elements; // the job applications in order, followed by unused slots
+    private int size; // the number of job applications in the index
+    private boolean shared; // true if elements is shared with a snapshot, and must be copied before it is changed
+
+    /*
+     * REQUIRES: jobApplications are in the order they were added to the tracker, and are not used by the caller
+     *           afterwards
+     * EFFECTS: creates an index of the given job applications sorted by the given field
+     */
+    SortedIndex(JobApplicationField field, JobApplication[] jobApplications) {
+        this.field = field;
+        order = order(field);
+        elements = sort(field, jobApplications);
+        size = elements.length;
+    }
+
+    /*
+     * EFFECTS: returns the order of job applications by the given field, or only by the order they were added to
+     *          their tracker if field is null, with those that have the same field in the order they were added
+     */
+    static Comparator<JobApplication> order(JobApplicationField field) {
+        return (a, b) -> {
+            int c = field == null ? 0 : field.compare(a, b);
+            return c != 0 ? c : Long.compare(a.sequence, b.sequence);
+        };
+    }
+
+    /*
+     * REQUIRES: the job applications belong to the same tracker
+     * EFFECTS: returns the given job applications sorted by order(field); jobApplications itself may be returned if
+     *          it is already in that order
+     */
+    static JobApplication[] sort(JobApplicationField field, JobApplication[] jobApplications) {
+        JobApplication[] inOrderAdded = sortByOrderAdded(jobApplications);
+        if (field == null) {
+            return inOrderAdded;
+        }
+
+        int[] keys = keys(field, inOrderAdded);
+        long[] packed = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            packed[i] = (long) keys[i] << Integer.SIZE | i;
+        }
+        return gather(inOrderAdded, packed);
+    }
+
+    /*
+     * REQUIRES: the job applications belong to the same tracker
+     * EFFECTS: returns the given job applications in the order they were added to their tracker, or jobApplications
+     *          itself if it is already in that order
+     */
+    private static JobApplication[] sortByOrderAdded(JobApplication[] jobApplications) {
+        long[] sequences = new long[jobApplications.length];
+        boolean ordered = true;
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = jobApplications[i].sequence;
+            ordered = ordered && (i == 0 || sequences[i - 1] < sequences[i]);
+        }
+        if (ordered) {
+            return jobApplications;
+        }
+
+        long min = Arrays.stream(sequences).min().getAsLong();
+        long max = Arrays.stream(sequences).max().getAsLong();
+        long[] sorted = max - min < 1L << Integer.SIZE ? null : sequences.clone();
+        if (sorted != null) {
+            Arrays.parallelSort(sorted);
+        }
+
+        long[] packed = new long[sequences.length];
+        for (int i = 0; i < sequences.length; i++) {
+            long offset = sorted == null ? sequences[i] - min : Arrays.binarySearch(sorted, sequences[i]);
+            packed[i] = offset << (Integer.SIZE - 1) | i;
+        }
+        return gather(jobApplications, packed);
+    }
+
+    /*
+     * REQUIRES: each of packed holds a position in jobApplications in its low 31 bits, below a key to sort by
+     * EFFECTS: sorts packed and returns the job applications at its positions, in that order
+     */
+    private static JobApplication[] gather(JobApplication[] jobApplications, long[] packed) {
+        Arrays.parallelSort(packed);
+        JobApplication[] sorted = new JobApplication[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            sorted[i] = jobApplications[(int) (packed[i] & Integer.MAX_VALUE)];
+        }
+        return sorted;
+    }
+
+    /*
+     * REQUIRES: submission dates are within five million years of 1970
+     * EFFECTS: returns, for each of the given job applications, a number that sorts the same way as its field: the
+     *          days from 1970 to its submission date, the position of its status among the statuses, or the rank of
+     *          its name among the distinct names of all of them
+     */
+    private static int[] keys(JobApplicationField field, JobApplication[] jobApplications) {
+        if (field == JobApplicationField.COMPANY_NAME || field == JobApplicationField.ROLE_NAME) {
+            return ranks(field, jobApplications);
+        }
+
+        int[] keys = new int[jobApplications.length];
+        for (int i = 0; i < keys.length; i++) {
+            JobApplication j = jobApplications[i];
+            keys[i] = field == JobApplicationField.STATUS
+                    ? j.getStatus().ordinal() : (int) j.getSubmissionDate().toEpochDay();
+        }
+        return keys;
+    }
+
+    /*
+     * EFFECTS: returns, for each of the given job applications, the rank of its field among the distinct fields of
+     *          all of them in the order of the field, so that comparing ranks is the same as comparing fields
+     */
+    private static int[] ranks(JobApplicationField field, JobApplication[] jobApplications) {
+        HashMap<String, Integer> ids = new HashMap<>();
+        int[] ranks = new int[jobApplications.length];
+        JobApplication[] distinct = new JobApplication[jobApplications.length];
+        for (int i = 0; i < ranks.length; i++) {
+            Integer id = ids.putIfAbsent(field.text(jobApplications[i]), ids.size());
+            ranks[i] = id == null ? ids.size() - 1 : id;
+            distinct[ranks[i]] = jobApplications[i];
+        }
+
+        Integer[] byField = new Integer[ids.size()];
+        for (int id = 0; id < byField.length; id++) {
+            byField[id] = id;
+        }
+        Arrays.sort(byField, (a, b) -> field.compare(distinct[a], distinct[b]));
+        int[] rankOfId = new int[byField.length];
+        for (int rank = 0; rank < byField.length; rank++) {
+            rankOfId[byField[rank]] = rank;
+        }
+
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = rankOfId[ranks[i]];
+        }
+        return ranks;
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the index
+     */
+    int size() {
+        return size;
+    }
+
+    /*
+     * REQUIRES: j is not in the index and was added to the tracker after every job application in the index with the
+     *           same field
+     * MODIFIES: this
+     * EFFECTS: inserts j at its position in the order and returns that position
+     */
+    int add(JobApplication j) {
+        int position = -Arrays.binarySearch(elements, 0, size, j, order) - 1;
+        prepareForChange(size + 1);
+        System.arraycopy(elements, position, elements, position + 1, size - position);
+        elements[position] = j;
+        size++;
+        return position;
+    }
+
+    /*
+     * REQUIRES: jobApplications are not in the index, and are in the order they were added to the tracker, after
+     *           every job application in the index
+     * MODIFIES: this
+     * EFFECTS: sorts the given job applications and merges them into the order in a single pass
+     */
+    void addAll(List<JobApplication> jobApplications) {
+        JobApplication[] added = sort(field, jobApplications.toArray(new JobApplication[0]));
+
+        JobApplication[] merged = new JobApplication[Math.max(size + added.length, elements.length)];
+        int i = 0;
+        int k = 0;
+        for (int m = 0; m < size + added.length; m++) {
+            if (k == added.length || (i < size && order.compare(elements[i], added[k]) < 0)) {
+                merged[m] = elements[i++];
+            } else {
+                merged[m] = added[k++];
+            }
+        }
+
+        elements = merged;
+        size += added.length;
+        shared = false;
+    }
+
+    /*
+     * REQUIRES: j is in the index under its current field
+     * MODIFIES: this
+     * EFFECTS: removes j from the order and returns the position it had
+     */
+    int remove(JobApplication j) {
+        int position = Arrays.binarySearch(elements, 0, size, j, order);
+        prepareForChange(size);
+        System.arraycopy(elements, position + 1, elements, position, size - position - 1);
+        elements[--size] = null;
+        return position;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes every job application in the index that satisfies the given filter in a single pass, keeping
+     *          the others in order
+     */
+    void removeIf(Predicate<JobApplication> filter) {
+        prepareForChange(size);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!filter.test(elements[i])) {
+                elements[kept++] = elements[i];
+            }
+        }
+        Arrays.fill(elements, kept, size, null);
+        size = kept;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes all job applications from the index
+     */
+    void clear() {
+        elements = new JobApplication[0];
+        size = 0;
+        shared = false;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns an unmodifiable snapshot of the job applications in the index, in order; later changes to the
+     *          index do not change the snapshot
+     */
+    List<JobApplication> snapshot() {
+        shared = true;
+        return new JobApplicationSnapshot(elements, size);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns an unmodifiable snapshot of the job applications in the index whose field starts with the
+     *          given prefix ignoring case, in order
+     */
+    List<JobApplication> startingWith(String prefix) {
+        return snapshot().subList(boundary(prefix, false), boundary(prefix, true));
+    }
+
+    /*
+     * EFFECTS: returns the position of the first job application in the index whose field sorts after the ones that
+     *          match the given prefix if after is true, or that does not sort before them otherwise
+     */
+    private int boundary(String prefix, boolean after) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int c = field.comparePrefix(elements[middle], prefix);
+            if (c < 0 || (after && c == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: makes sure that elements can be changed without changing any snapshot and can hold the given number
+     *          of job applications, copying it if needed
+     */
+    private void prepareForChange(int capacity) {
+        if (shared || capacity > elements.length) {
+            int length = capacity > elements.length ? Math.max(capacity, elements.length * 2) : elements.length;
+            elements = Arrays.copyOf(elements, length);
+            shared = false;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+// Represents an index of job applications sorted by submission date, where job applications with the same
+// submission date are kept in the order they were indexed
+class SubmissionDateIndex {
+    private TreeMap<LocalDate, ArrayList<JobApplication>> jobApplicationsByDate; // the job applications per date
+
+    /*
+     * EFFECTS: creates an empty submission date index
+     */
+    SubmissionDateIndex() {
+        jobApplicationsByDate = new TreeMap<>();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: adds j to the index under its current submission date
+     */
+    void add(JobApplication j) {
+        jobApplicationsByDate.computeIfAbsent(j.getSubmissionDate(), d -> new ArrayList<>(1)).add(j);
+    }
+
+    /*
+     * REQUIRES: j was added to the index under the given date
+     * MODIFIES: this
+     * EFFECTS: removes j from the index under the given date
+     */
+    void remove(JobApplication j, LocalDate date) {
+        ArrayList<JobApplication> jobApplications = jobApplicationsByDate.get(date);
+
+        for (int i = 0; i < jobApplications.size(); i++) {
+            if (jobApplications.get(i) == j) {
+                jobApplications.remove(i);
+                break;
+            }
+        }
+
+        if (jobApplications.isEmpty()) {
+            jobApplicationsByDate.remove(date);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: removes all job applications from the index
+     */
+    void clear() {
+        jobApplicationsByDate = new TreeMap<>();
+    }
+
+    /*
+     * REQUIRES: from is not after to
+     * EFFECTS: returns a view of the indexed job applications submitted between from and to (both inclusive) with
+     *          the given status, or with any status if status is null, in order of submission date
+     */
+    Iterable<JobApplication> between(LocalDate from, LocalDate to, JobApplicationStatus status) {
+        return view(jobApplicationsByDate.subMap(from, true, to, true).values(), status);
+    }
+
+    /*
+     * EFFECTS: returns a view of the indexed job applications submitted strictly before date with the given status,
+     *          or with any status if status is null, in order of submission date
+     */
+    Iterable<JobApplication> before(LocalDate date, JobApplicationStatus status) {
+        return view(jobApplicationsByDate.headMap(date, false).values(), status);
+    }
+
+    /*
+     * EFFECTS: returns a view over the job applications in the given buckets that have the given status, or any
+     *          status if status is null
+     */
+    private Iterable<JobApplication> view(Collection<ArrayList<JobApplication>> buckets, JobApplicationStatus status) {
+        return () -> new JobApplicationIterator(buckets.iterator(), status);
+    }
+
+    // Represents an iterator over the job applications in a sequence of date buckets that have a given status
+    private static class JobApplicationIterator implements Iterator<JobApplication> {
+        private Iterator<ArrayList<JobApplication>> buckets; // the remaining date buckets
+        private ArrayList<JobApplication> bucket; // the current date bucket
+        private int position; // the position of the next job application to check in the current bucket
+        private JobApplicationStatus status; // the status to match, null to match any status
+        private JobApplication upcoming; // the next job application to return, null if not yet found
+
+        /*
+         * EFFECTS: creates an iterator over the given buckets that only returns job applications with given status,
+         *          or all job applications if status is null
+         */
+        JobApplicationIterator(Iterator<ArrayList<JobApplication>> buckets, JobApplicationStatus status) {
+            this.buckets = buckets;
+            this.status = status;
+        }
+
+        /*
+         * MODIFIES: this
+         * EFFECTS: returns true if there is another matching job application
+         */
+        @Override
+        public boolean hasNext() {
+            while (upcoming == null) {
+                if (bucket == null || position == bucket.size()) {
+                    if (!buckets.hasNext()) {
+                        return false;
+                    }
+                    bucket = buckets.next();
+                    position = 0;
+                } else {
+                    JobApplication j = bucket.get(position++);
+                    if (status == null || j.getStatus() == status) {
+                        upcoming = j;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /*
+         * MODIFIES: this
+         * EFFECTS: returns the next matching job application, throws NoSuchElementException if there is none
+         */
+        @Override
+        public JobApplication next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            JobApplication j = upcoming;
+            upcoming = null;
+            return j;
+        }
+    }
+}
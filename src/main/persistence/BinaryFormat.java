@@ -0,0 +1,87 @@
+package persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Represents the layout of the binary tracker file format, version 1. All numbers are big-endian, and strings are
+// written as an int byte length followed by that many bytes of UTF-8:
+//     magic            4 bytes, "JTRK"
+//     version          int
+//     name             string
+//     record count     int
+//     dictionary size  int, followed by that many strings, each distinct company or role name once
+//     records          record count times RECORD_SIZE bytes, in the order of the tracker:
+//                          submission date   int, days since 1970-01-01
+//                          status            byte, the ordinal of the JobApplicationStatus
+//                          company name      int, index into the dictionary
+//                          role name         int, index into the dictionary
+// The helpers below read the parts of the header shared by every reader of the format
+final class BinaryFormat {
+    static final byte[] MAGIC = {'J', 'T', 'R', 'K'}; // the bytes every binary tracker file starts with
+    static final int VERSION = 1; // the version of the format written by BinaryWriter
+    static final int RECORD_SIZE = Integer.BYTES + 1 + 2 * Integer.BYTES; // the number of bytes per job application
+
+    /*
+     * EFFECTS: prevents instantiation, since this class only has constants and static methods
+     */
+    private BinaryFormat() {
+    }
+
+    /*
+     * MODIFIES: buffer
+     * EFFECTS: consumes the magic bytes and the version; throws IOException if the given source file is not a binary
+     *          tracker file or was written in an unsupported version of the format
+     */
+    static void checkHeader(ByteBuffer buffer, String source) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        if (buffer.remaining() < magic.length + Integer.BYTES) {
+            throw corrupt(source);
+        }
+
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a binary tracker file: " + source);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary tracker file version " + version + ": " + source);
+        }
+    }
+
+    /*
+     * REQUIRES: bytesPerItem > 0
+     * MODIFIES: buffer
+     * EFFECTS: consumes and returns a count of items; throws IOException if the count is negative, or larger than
+     *          the rest of the buffer could hold with the given minimum number of bytes per item
+     */
+    static int readCount(ByteBuffer buffer, int bytesPerItem, String source) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            throw corrupt(source);
+        }
+
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * bytesPerItem > buffer.remaining()) {
+            throw corrupt(source);
+        }
+        return count;
+    }
+
+    /*
+     * MODIFIES: buffer
+     * EFFECTS: consumes and returns a length-prefixed UTF-8 string
+     */
+    static String readString(ByteBuffer buffer, String source) throws IOException {
+        byte[] bytes = new byte[readCount(buffer, 1, source)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /*
+     * EFFECTS: returns an exception saying that the given source file is truncated or corrupt
+     */
+    static IOException corrupt(String source) {
+        return new IOException("Truncated or corrupt binary tracker file: " + source);
+    }
+}
@@ -0,0 +1,176 @@
+package persistence;
+
+import model.JobApplication;
+import model.JobApplicationStatus;
+import model.JobApplicationTracker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// Represents a reader that reads a job application tracker from a file in the binary format described by
+// BinaryFormat; the file is read as a stream through a fixed size buffer, decompressing it on the way if its name ends
+// in ".gz", its dictionary is decoded once, and each job application is then built from its fixed-width record
+public class BinaryReader {
+    private static final JobApplicationStatus[] STATUSES = JobApplicationStatus.values(); // the statuses by ordinal
+    private static final int MAX_PRESIZE = 1 << 16; // the most elements allocated for a count before they are read
+
+    private String source; // the source file
+    private InputStream in; // the stream of the file being read, null when not reading
+    private ByteBuffer buffer; // the bytes read from the stream but not yet consumed
+
+    /*
+     * EFFECTS: constructs a reader to read from the source file
+     */
+    public BinaryReader(String source) {
+        this.source = source;
+    }
+
+    /*
+     * EFFECTS: reads the job application tracker from file and returns it, throws IOException if an error occurs while
+     *          the file is being read, or if it is not a binary tracker file of a supported version or is truncated
+     */
+    public JobApplicationTracker read() throws IOException {
+        try (InputStream stream = TrackerStreams.openInput(source, TrackerStreams.isCompressed(source))) {
+            in = stream;
+            buffer = ByteBuffer.allocate(TrackerStreams.BUFFER_SIZE);
+            buffer.limit(0);
+            return parseJobApplicationTracker();
+        } finally {
+            in = null;
+            buffer = null;
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: parses the job application tracker from the stream and returns it
+     */
+    private JobApplicationTracker parseJobApplicationTracker() throws IOException {
+        BinaryFormat.checkHeader(require(BinaryFormat.MAGIC.length + Integer.BYTES), source);
+        String name = readString();
+        int count = readCount();
+        String[] dictionary = readDictionary();
+
+        ArrayList<JobApplication> jobApplications = new ArrayList<>(Math.min(count, MAX_PRESIZE));
+        for (int i = 0; i < count; i++) {
+            jobApplications.add(readJobApplication(dictionary));
+        }
+        if (!atEnd()) {
+            throw BinaryFormat.corrupt(source);
+        }
+
+        JobApplicationTracker tracker = new JobApplicationTracker(name);
+        tracker.addAll(jobApplications);
+        return tracker;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes the dictionary and returns its names in order; the names are collected as they are read, so a
+     *          corrupt count fails with IOException when the stream ends rather than allocating for it up front
+     */
+    private String[] readDictionary() throws IOException {
+        int size = readCount();
+        ArrayList<String> dictionary = new ArrayList<>(Math.min(size, MAX_PRESIZE));
+        for (int i = 0; i < size; i++) {
+            dictionary.add(readString());
+        }
+        return dictionary.toArray(new String[0]);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes a record and returns the job application it holds; throws IOException if the status or the
+     *          dictionary indices are out of range
+     */
+    private JobApplication readJobApplication(String[] dictionary) throws IOException {
+        require(BinaryFormat.RECORD_SIZE);
+        long epochDay = buffer.getInt();
+        int status = buffer.get();
+        int company = buffer.getInt();
+        int role = buffer.getInt();
+
+        if (status < 0 || status >= STATUSES.length || company < 0 || company >= dictionary.length
+                || role < 0 || role >= dictionary.length) {
+            throw BinaryFormat.corrupt(source);
+        }
+
+        JobApplication j = new JobApplication(epochDay, dictionary[company], dictionary[role]);
+        j.setStatus(STATUSES[status]);
+        return j;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes and returns a count; throws IOException if it is negative
+     */
+    private int readCount() throws IOException {
+        int count = require(Integer.BYTES).getInt();
+        if (count < 0) {
+            throw BinaryFormat.corrupt(source);
+        }
+        return count;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes and returns a length-prefixed UTF-8 string, which may be longer than the buffer
+     */
+    private String readString() throws IOException {
+        int length = readCount();
+        byte[] bytes = new byte[Math.min(length, buffer.capacity())];
+        int read = 0;
+
+        while (read < length) {
+            int n = Math.min(require(1).remaining(), length - read);
+            if (read + n > bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, Math.max(read + n, 2L * bytes.length)));
+            }
+            buffer.get(bytes, read, n);
+            read += n;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /*
+     * REQUIRES: n <= the capacity of the buffer
+     * MODIFIES: this
+     * EFFECTS: reads from the stream until at least n bytes are waiting in the buffer and returns the buffer; throws
+     *          IOException if the stream ends first
+     */
+    private ByteBuffer require(int n) throws IOException {
+        while (buffer.remaining() < n) {
+            if (!fill()) {
+                throw BinaryFormat.corrupt(source);
+            }
+        }
+        return buffer;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns true if no bytes are left in the buffer or the stream
+     */
+    private boolean atEnd() throws IOException {
+        return !buffer.hasRemaining() && !fill();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: moves the unconsumed bytes to the start of the buffer and reads more bytes from the stream after them;
+     *          returns false if the stream has ended
+     */
+    private boolean fill() throws IOException {
+        buffer.compact();
+        int n = in.read(buffer.array(), buffer.position(), buffer.remaining());
+        if (n > 0) {
+            buffer.position(buffer.position() + n);
+        }
+        buffer.flip();
+        return n >= 0;
+    }
+}
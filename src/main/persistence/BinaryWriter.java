@@ -0,0 +1,154 @@
+package persistence;
+
+import model.JobApplication;
+import model.JobApplicationTracker;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+// Represents a writer that writes a job application tracker to file in the binary format described by BinaryFormat;
+// each distinct name is written once in the dictionary, and every job application takes a fixed number of bytes. The
+// file can be compressed with GZIP as it is written
+public class BinaryWriter {
+    private OutputStream out; // the stream to the destination file, null until opened
+    private ByteBuffer buffer; // the bytes written but not yet passed to the stream
+    private String destination; // the destination file
+    private boolean compressed; // true if the file is compressed with GZIP
+
+    /*
+     * EFFECTS: constructs a writer to write to the given destination file, compressing it if its name ends in ".gz"
+     */
+    public BinaryWriter(String destination) {
+        this(destination, TrackerStreams.isCompressed(destination));
+    }
+
+    /*
+     * EFFECTS: constructs a writer to write to the given destination file, compressing it if compressed is true
+     */
+    public BinaryWriter(String destination, boolean compressed) {
+        this.destination = destination;
+        this.compressed = compressed;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: opens the writer, throws IOException if an error occurs while the destination file is being opened
+     */
+    public void open() throws IOException {
+        out = TrackerStreams.openOutput(destination, compressed);
+        buffer = ByteBuffer.allocate(TrackerStreams.BUFFER_SIZE);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the given job application tracker to the destination file, throws IOException if an error
+     *          occurs while writing
+     */
+    public void write(JobApplicationTracker tracker) throws IOException {
+        List<JobApplication> jobApplications = tracker.getJobApplications();
+        HashMap<String, Integer> indices = new HashMap<>();
+        ArrayList<String> dictionary = new ArrayList<>();
+        int[] references = new int[2 * jobApplications.size()];
+
+        for (int i = 0; i < jobApplications.size(); i++) {
+            JobApplication j = jobApplications.get(i);
+            references[2 * i] = indexOf(j.getCompanyName(), indices, dictionary);
+            references[2 * i + 1] = indexOf(j.getRoleName(), indices, dictionary);
+        }
+
+        writeHeader(tracker.getName(), jobApplications.size(), dictionary);
+        for (int i = 0; i < jobApplications.size(); i++) {
+            JobApplication j = jobApplications.get(i);
+            reserve(BinaryFormat.RECORD_SIZE);
+            buffer.putInt((int) j.getSubmissionDate().toEpochDay());
+            buffer.put((byte) j.getStatus().ordinal());
+            buffer.putInt(references[2 * i]);
+            buffer.putInt(references[2 * i + 1]);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes any buffered bytes and closes the writer, throws IOException if an error occurs while writing
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            out.close();
+        }
+    }
+
+    /*
+     * MODIFIES: indices, dictionary
+     * EFFECTS: returns the index of the given name in the dictionary, appending it first if it is not there yet
+     */
+    private static int indexOf(String name, HashMap<String, Integer> indices, ArrayList<String> dictionary) {
+        Integer index = indices.get(name);
+        if (index == null) {
+            index = dictionary.size();
+            indices.put(name, index);
+            dictionary.add(name);
+        }
+        return index;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the magic bytes, the version, the given name and record count, and the given dictionary
+     */
+    private void writeHeader(String name, int count, List<String> dictionary) throws IOException {
+        buffer.put(BinaryFormat.MAGIC);
+        buffer.putInt(BinaryFormat.VERSION);
+        writeString(name);
+        reserve(2 * Integer.BYTES);
+        buffer.putInt(count);
+        buffer.putInt(dictionary.size());
+        for (String s : dictionary) {
+            writeString(s);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the byte length of the given string in UTF-8 followed by its bytes
+     */
+    private void writeString(String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        reserve(Integer.BYTES);
+        buffer.putInt(bytes.length);
+
+        int offset = 0;
+        while (offset < bytes.length) {
+            reserve(1);
+            int n = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, n);
+            offset += n;
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: makes room in the buffer for at least the given number of bytes, writing its contents to the file if
+     *          needed
+     */
+    private void reserve(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the contents of the buffer to the file and empties it
+     */
+    private void flush() throws IOException {
+        out.write(buffer.array(), 0, buffer.position());
+        buffer.clear();
+    }
+}
@@ -0,0 +1,697 @@
+package persistence;
+
+import model.Event;
+import model.EventLog;
+import model.JobApplication;
+import model.JobApplicationStatus;
+import model.JobApplicationTracker;
+import model.JobApplicationTrackerListener;
+import org.json.JSONException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Represents a store that keeps a job application tracker in a snapshot file, written in the same format as JsonWriter
+// (compressed if its name ends in ".gz"), and a journal file next to it. While a tracker is attached to the store,
+// every change made to it is recorded as one compact line; saving the attached tracker only appends the lines recorded
+// since the last save, so its cost depends on the size of the change rather than the size of the tracker. Once the
+// journal has outgrown the snapshot, a background thread folds it into a new snapshot. Every journal line carries a
+// sequence number and the snapshot remembers the last one it includes, and a new snapshot is numbered after every
+// line already in the journal, so a crash at any point leaves files that load correctly. A removed or modified job
+// application is recorded with the number of equal job applications added before it, so that replaying the journal
+// changes the same one of several equal job applications
+public class JournaledStore implements JobApplicationTrackerListener {
+    private static final long MIN_COMPACTION_BYTES = 1 << 20; // the journal size below which it is never compacted
+    private static final String ADDED = "A"; // the type of a record of a job application being added
+    private static final String REMOVED = "R"; // the type of a record of a job application being removed
+    private static final String CHANGED = "U"; // the type of a record of a job application being modified
+    private static final String CLEARED = "C"; // the type of a record of all job applications being removed
+    private static final List<String> TYPES = Arrays.asList(ADDED, REMOVED, CHANGED, CLEARED); // all record types
+
+    private final Path snapshot; // the snapshot file
+    private final Path journal; // the journal file
+    private final Path snapshotTemp; // the file a saved snapshot is written to before it replaces the snapshot
+    private final Path compactedTemp; // the file a compacted snapshot is written to before it replaces the snapshot
+    private final Path journalTemp; // the file a shortened journal is written to before it replaces the journal
+    private JobApplicationTracker tracker; // the tracker whose changes are being recorded, null if none
+    private StringWriter pending; // the journal lines recorded since the last save
+    private PrintWriter pendingWriter; // the writer appending to pending
+    private long nextSequence; // the sequence number of the next journal record
+    private long committedSequence; // the sequence number of the last record written to the journal file
+    private long journalLength; // the number of bytes in the journal file
+    private FileChannel journalChannel; // the journal file opened for appending, null if not open
+    private int generation; // incremented whenever the snapshot is replaced other than by compaction
+    private Thread compactor; // the thread compacting the journal, null if none has been started
+    private IOException compactionFailure; // the failure of a background compaction not reported by a save yet, null
+                                           // if none
+
+    /*
+     * EFFECTS: creates a store that keeps its snapshot in the given file and its journal in the same file name
+     *          followed by ".journal"
+     */
+    public JournaledStore(String snapshotFile) {
+        snapshot = Paths.get(snapshotFile);
+        journal = Paths.get(snapshotFile + ".journal");
+        snapshotTemp = Paths.get(snapshotFile + ".tmp");
+        compactedTemp = Paths.get(snapshotFile + ".compact");
+        journalTemp = Paths.get(snapshotFile + ".journal.tmp");
+        nextSequence = 1;
+        resetPending();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: reads the snapshot, replays the journal on top of it, and returns the resulting tracker, which is then
+     *          attached to the store and marked clean; a torn line at the end of the journal, left by a crash during
+     *          a save, is discarded. Logs a single event for all the changes replayed. Throws IOException if the
+     *          snapshot cannot be read
+     */
+    public synchronized JobApplicationTracker load() throws IOException {
+        JsonReader reader = new JsonReader(snapshot.toString());
+        JobApplicationTracker loaded = reader.read();
+        Replayer replayer = new Replayer(loaded);
+        Replay replay = replay(replayer, reader.getJournalSequence(), Long.MAX_VALUE, Long.MAX_VALUE);
+        replayer.finish();
+        if (replayer.count > 0) {
+            EventLog.getInstance().logEvent(new Event("Replayed " + replayer.count
+                    + " saved changes to the tracker."));
+        }
+
+        closeJournal();
+        if (Files.exists(journal) && Files.size(journal) > replay.length) {
+            try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                channel.truncate(replay.length);
+            }
+        }
+
+        generation++;
+        journalLength = replay.length;
+        attach(loaded, replay.sequence);
+        loaded.markClean();
+        return loaded;
+    }
+
+    /*
+     * EFFECTS: reads the name and the number of job applications per status of the saved tracker from the header of
+     *          the snapshot, replays the journal on top of them, and returns them, without reading the job
+     *          applications in the snapshot or attaching anything; throws IOException if the snapshot cannot be read
+     */
+    public synchronized TrackerSummary loadSummary() throws IOException {
+        JsonReader reader = new JsonReader(snapshot.toString());
+        TrackerSummary summary = reader.readSummary();
+        replay(record -> record.applyTo(summary), reader.getJournalSequence(), Long.MAX_VALUE, Long.MAX_VALUE);
+        return summary;
+    }
+
+    /*
+     * MODIFIES: this, tracker
+     * EFFECTS: saves the given tracker, marks it clean, and returns the number of bytes written, the time taken, and
+     *          the failure of a background compaction since the last save, if any;
+     *          if it is the attached tracker, appends the changes made since the last save to the journal, writing
+     *          nothing if there are none, and starts a background compaction if the journal has outgrown the
+     *          snapshot, otherwise writes a new snapshot of the tracker, empties the journal, and attaches the
+     *          tracker. Throws IOException if the files cannot be written, in which case the files still hold the last
+     *          saved state
+     */
+    public synchronized SaveReport save(JobApplicationTracker tracker) throws IOException {
+        long start = System.nanoTime();
+        long written;
+
+        if (tracker != this.tracker) {
+            written = writeSnapshot(tracker);
+        } else {
+            written = commit();
+            if (journalLength > Math.max(MIN_COMPACTION_BYTES, Files.size(snapshot))) {
+                compactInBackground();
+            }
+        }
+
+        tracker.markClean();
+        SaveReport report = new SaveReport(written, System.nanoTime() - start, compactionFailure);
+        compactionFailure = null;
+        return report;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: folds the journal saved so far into a new snapshot on the calling thread; throws IOException if the
+     *          new snapshot cannot be written, in which case the files are left as they were
+     */
+    public void compact() throws IOException {
+        long upToSequence;
+        long upToLength;
+        int startGeneration;
+
+        synchronized (this) {
+            upToSequence = committedSequence;
+            upToLength = journalLength;
+            startGeneration = generation;
+        }
+        fold(upToSequence, upToLength, startGeneration);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: waits for a running background compaction to finish, then closes the journal and detaches the tracker;
+     *          changes that were not saved are discarded
+     */
+    public void close() throws IOException {
+        awaitCompaction();
+
+        synchronized (this) {
+            closeJournal();
+            detach();
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: records the addition of j to the attached tracker
+     */
+    @Override
+    public synchronized void jobApplicationAdded(JobApplication j) {
+        JsonStreamWriter record = beginRecord(ADDED);
+        writeFields(record, j);
+        endRecord(record);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: records the removal of j from the attached tracker
+     */
+    @Override
+    public synchronized void jobApplicationRemoved(JobApplication j) {
+        JsonStreamWriter record = beginRecord(REMOVED);
+        writeFields(record, j);
+        writeRank(record, tracker.countEqualAddedBefore(j, j));
+        endRecord(record);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: records the modification of j, previously equal to old, in the attached tracker
+     */
+    @Override
+    public synchronized void jobApplicationChanged(JobApplication j, JobApplication old) {
+        JsonStreamWriter record = beginRecord(CHANGED);
+        writeFields(record, old);
+        writeFields(record, j);
+        writeRank(record, tracker.countEqualAddedBefore(old, j));
+        endRecord(record);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: records the removal of all job applications from the attached tracker
+     */
+    @Override
+    public synchronized void jobApplicationsCleared() {
+        endRecord(beginRecord(CLEARED));
+    }
+
+    /*
+     * EFFECTS: waits for a running background compaction to finish
+     */
+    void awaitCompaction() {
+        Thread running;
+        synchronized (this) {
+            running = compactor;
+        }
+
+        if (running != null) {
+            try {
+                running.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes a new snapshot of the given tracker, empties the journal, attaches the tracker, and returns the
+     *          size of the snapshot; the snapshot is numbered after every line in the journal, even if this store
+     *          never loaded it, so that the old journal is not replayed onto the new snapshot if a crash leaves it
+     *          behind
+     */
+    private long writeSnapshot(JobApplicationTracker tracker) throws IOException {
+        long sequence = Math.max(nextSequence - 1, replay(record -> { }, 0, Long.MAX_VALUE, Long.MAX_VALUE).sequence);
+        writeSnapshotFile(tracker, sequence, snapshotTemp);
+        Files.move(snapshotTemp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        closeJournal();
+        Files.deleteIfExists(journal);
+        journalLength = 0;
+        generation++;
+        attach(tracker, sequence);
+        return Files.size(snapshot);
+    }
+
+    /*
+     * EFFECTS: writes the given tracker, including the journal records up to the given sequence number, to the given
+     *          file and forces it to disk, compressing it if the snapshot file name ends in ".gz"; throws IOException
+     *          if it cannot be written
+     */
+    private void writeSnapshotFile(JobApplicationTracker tracker, long sequence, Path file) throws IOException {
+        JsonWriter writer = new JsonWriter(file.toString(), true, TrackerStreams.isCompressed(snapshot.toString()));
+        writer.open();
+        writer.write(tracker, sequence);
+        writer.close();
+        if (writer.hasFailed()) {
+            Files.deleteIfExists(file);
+            throw new IOException("Could not write " + file);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: appends the journal lines recorded since the last save to the journal file, forces them to disk, and
+     *          returns the number of bytes appended
+     */
+    private long commit() throws IOException {
+        if (pending.getBuffer().length() == 0) {
+            return 0;
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(pending.toString().getBytes(StandardCharsets.UTF_8));
+        FileChannel channel = openJournal();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        channel.force(false);
+
+        journalLength += bytes.limit();
+        committedSequence = nextSequence - 1;
+        resetPending();
+        return bytes.limit();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: starts folding the journal saved so far into a new snapshot on a background thread, unless a
+     *          compaction is already running
+     */
+    private void compactInBackground() {
+        if (compactor != null && compactor.isAlive()) {
+            return;
+        }
+
+        long upToSequence = committedSequence;
+        long upToLength = journalLength;
+        int startGeneration = generation;
+        compactor = new Thread(() -> {
+            try {
+                fold(upToSequence, upToLength, startGeneration);
+            } catch (IOException e) {
+                compactionFailed(e);
+            }
+        }, "journal-compactor");
+        compactor.setDaemon(true);
+        compactor.start();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: logs that a background compaction failed with the given exception and keeps it for the next save to
+     *          report; the snapshot and journal are left as they were, and the next save tries again
+     */
+    private synchronized void compactionFailed(IOException e) {
+        EventLog.getInstance().logEvent(new Event("Could not compact the journal: " + e.getMessage()));
+        compactionFailure = e;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: rebuilds the tracker from the snapshot and the first upToLength bytes of the journal, writes it as the
+     *          new snapshot, and drops those bytes from the journal; nothing is replaced if the snapshot was replaced
+     *          in another way since the given generation
+     */
+    private void fold(long upToSequence, long upToLength, int startGeneration) throws IOException {
+        JsonReader reader = new JsonReader(snapshot.toString());
+        JobApplicationTracker folded = reader.read();
+        Replayer replayer = new Replayer(folded);
+        replay(replayer, reader.getJournalSequence(), upToSequence, upToLength);
+        replayer.finish();
+        writeSnapshotFile(folded, upToSequence, compactedTemp);
+
+        synchronized (this) {
+            if (generation != startGeneration) {
+                Files.deleteIfExists(compactedTemp);
+                return;
+            }
+            Files.move(compactedTemp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            dropJournalHead(upToLength);
+        }
+    }
+
+    /*
+     * REQUIRES: the current thread holds the lock of this
+     * MODIFIES: this
+     * EFFECTS: replaces the journal with a copy of itself without its first length bytes
+     */
+    private void dropJournalHead(long length) throws IOException {
+        closeJournal();
+
+        try (FileChannel source = FileChannel.open(journal, StandardOpenOption.READ);
+                FileChannel target = FileChannel.open(journalTemp, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long position = length;
+            while (position < journalLength) {
+                position += source.transferTo(position, journalLength - position, target);
+            }
+            target.force(true);
+        }
+
+        Files.move(journalTemp, journal, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        journalLength -= length;
+    }
+
+    /*
+     * EFFECTS: passes to target the journal records with sequence numbers after afterSequence and up to upToSequence,
+     *          reading at most upToLength bytes of the journal; stops at the first line that cannot be read, which can
+     *          only be a line torn by a crash. Returns the last sequence number read and the number of bytes of the
+     *          journal that were read successfully
+     */
+    private Replay replay(Consumer<Record> target, long afterSequence, long upToSequence, long upToLength)
+            throws IOException {
+        Replay replay = new Replay(afterSequence);
+
+        try (InputStream in = Files.newInputStream(journal);
+                BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                long length = replay.length + line.getBytes(StandardCharsets.UTF_8).length + 1;
+                if (length > upToLength || !applyRecord(target, line, afterSequence, upToSequence, replay)) {
+                    break;
+                }
+                replay.length = length;
+            }
+        } catch (NoSuchFileException e) {
+            // No changes have been journaled since the snapshot was written
+        }
+
+        return replay;
+    }
+
+    /*
+     * MODIFIES: replay
+     * EFFECTS: passes the record on the given journal line to target if its sequence number is after afterSequence
+     *          and up to upToSequence, and records its sequence number in replay; returns false if the line cannot be
+     *          read
+     */
+    private static boolean applyRecord(Consumer<Record> target, String line, long afterSequence,
+                                       long upToSequence, Replay replay) throws IOException {
+        try {
+            Record record = Record.parse(line);
+            if (record.sequence > afterSequence && record.sequence <= upToSequence) {
+                target.accept(record);
+            }
+            replay.sequence = Math.max(replay.sequence, record.sequence);
+            return true;
+        } catch (JSONException | DateTimeException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /*
+     * MODIFIES: this, tracker
+     * EFFECTS: starts recording the changes to the given tracker, numbering them after the given sequence number
+     */
+    private void attach(JobApplicationTracker tracker, long sequence) {
+        detach();
+        this.tracker = tracker;
+        tracker.addListener(this);
+        nextSequence = sequence + 1;
+        committedSequence = sequence;
+        resetPending();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: stops recording the changes to the attached tracker, if any
+     */
+    private void detach() {
+        if (tracker != null) {
+            tracker.removeListener(this);
+            tracker = null;
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns the journal file opened for appending, opening it first if needed
+     */
+    private FileChannel openJournal() throws IOException {
+        if (journalChannel == null) {
+            journalChannel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return journalChannel;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: closes the journal file if it is open
+     */
+    private void closeJournal() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: discards the journal lines recorded since the last save
+     */
+    private void resetPending() {
+        pending = new StringWriter();
+        pendingWriter = new PrintWriter(pending);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: starts a journal line of the given type with the next sequence number and returns its writer
+     */
+    private JsonStreamWriter beginRecord(String type) {
+        JsonStreamWriter record = new JsonStreamWriter(pendingWriter, 0);
+        record.beginArray();
+        record.value(type);
+        record.value(nextSequence++);
+        return record;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: ends the journal line being written by the given writer
+     */
+    private void endRecord(JsonStreamWriter record) {
+        record.endArray();
+        pendingWriter.write('\n');
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the fields of the given job application to the journal line being written by the given writer
+     */
+    private static void writeFields(JsonStreamWriter record, JobApplication j) {
+        record.value(j.getSubmissionDate().toString());
+        record.value(j.getCompanyName());
+        record.value(j.getRoleName());
+        record.value(j.getStatus().name());
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the number of equal job applications added before the one recorded to the journal line being
+     *          written by the given writer, unless it is 0
+     */
+    private static void writeRank(JsonStreamWriter record, int rank) {
+        if (rank > 0) {
+            record.value(rank);
+        }
+    }
+
+    // Represents the replay of journal records onto a tracker; consecutive additions are added together, and nothing
+    // is logged to the event log, since every change was logged when it was first made
+    private static class Replayer implements Consumer<Record> {
+        private final JobApplicationTracker tracker; // the tracker the records are replayed onto
+        private final ArrayList<JobApplication> added; // the job applications added by records not yet applied
+        private int count; // the number of records replayed
+
+        /*
+         * EFFECTS: creates a replay onto the given tracker
+         */
+        Replayer(JobApplicationTracker tracker) {
+            this.tracker = tracker;
+            added = new ArrayList<>();
+        }
+
+        /*
+         * MODIFIES: this, tracker
+         * EFFECTS: holds back the job application added by the given record until a record of another type is
+         *          replayed, or applies the record to the tracker after the additions held back
+         */
+        @Override
+        public void accept(Record record) {
+            count++;
+            if (record.type.equals(ADDED)) {
+                added.add(record.first);
+            } else {
+                finish();
+                record.applyTo(tracker);
+            }
+        }
+
+        /*
+         * MODIFIES: this, tracker
+         * EFFECTS: adds the job applications held back to the tracker together
+         */
+        void finish() {
+            tracker.addAllWithoutLogging(added);
+            added.clear();
+        }
+    }
+
+    // Represents the progress of replaying the journal
+    private static class Replay {
+        private long sequence; // the highest sequence number read so far
+        private long length; // the number of bytes of the journal read successfully so far
+
+        /*
+         * EFFECTS: creates the progress of a replay that has read nothing after the given sequence number
+         */
+        Replay(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    // Represents one line of the journal
+    private static class Record {
+        private String type; // the type of change recorded
+        private long sequence; // the sequence number of the record
+        private JobApplication first; // the job application added or removed, or the modified one before the change
+        private JobApplication second; // the modified job application after the change, null for other types
+        private int rank; // the number of job applications equal to first added before the one removed or modified
+
+        /*
+         * EFFECTS: parses the given journal line and returns its record; throws JSONException, DateTimeException, or
+         *          IllegalArgumentException if the line is not a valid record
+         */
+        static Record parse(String line) throws IOException {
+            JsonPullParser parser = new JsonPullParser(new StringReader(line));
+            Record record = new Record();
+
+            parser.beginArray();
+            record.type = nextString(parser);
+            if (!TYPES.contains(record.type) || !parser.hasNext()) {
+                throw new JSONException("Invalid journal record");
+            }
+            record.sequence = parser.nextLong();
+            if (!record.type.equals(CLEARED)) {
+                record.first = nextJobApplication(parser);
+            }
+            if (record.type.equals(CHANGED)) {
+                record.second = nextJobApplication(parser);
+            }
+            if (!record.type.equals(ADDED) && !record.type.equals(CLEARED) && parser.hasNext()) {
+                record.rank = nextRank(parser);
+            }
+            parser.endArray();
+            parser.endDocument();
+            return record;
+        }
+
+        /*
+         * MODIFIES: tracker
+         * EFFECTS: applies the recorded change to the given tracker without logging it; a removed or modified job
+         *          application is found among equal ones by its rank, and a modification is made as a single change
+         */
+        void applyTo(JobApplicationTracker tracker) {
+            if (type.equals(ADDED)) {
+                tracker.addAllWithoutLogging(Arrays.asList(first));
+            } else if (type.equals(CLEARED)) {
+                tracker.removeAllWithoutLogging();
+            } else {
+                JobApplication j = tracker.find(first, rank);
+                if (j != null && type.equals(REMOVED)) {
+                    tracker.remove(j);
+                } else if (j != null) {
+                    j.setFields(second);
+                }
+            }
+        }
+
+        /*
+         * MODIFIES: summary
+         * EFFECTS: applies the recorded change to the counts of the given summary
+         */
+        void applyTo(TrackerSummary summary) {
+            if (type.equals(ADDED)) {
+                summary.add(first.getStatus());
+            } else if (type.equals(REMOVED)) {
+                summary.remove(first.getStatus());
+            } else if (type.equals(CLEARED)) {
+                summary.clear();
+            } else {
+                summary.remove(first.getStatus());
+                summary.add(second.getStatus());
+            }
+        }
+
+        /*
+         * MODIFIES: parser
+         * EFFECTS: consumes the next element of the current array, which must be a string, and returns it
+         */
+        private static String nextString(JsonPullParser parser) throws IOException {
+            if (!parser.hasNext()) {
+                throw new JSONException("Journal record is too short");
+            }
+            return parser.nextString();
+        }
+
+        /*
+         * MODIFIES: parser
+         * EFFECTS: consumes the next element of the current array, which must be a rank, and returns it
+         */
+        private static int nextRank(JsonPullParser parser) throws IOException {
+            long rank = parser.nextLong();
+            if (rank < 0 || rank > Integer.MAX_VALUE) {
+                throw new JSONException("Invalid journal record rank");
+            }
+            return (int) rank;
+        }
+
+        /*
+         * MODIFIES: parser
+         * EFFECTS: consumes the next four elements of the current array and returns the job application they describe
+         */
+        private static JobApplication nextJobApplication(JsonPullParser parser) throws IOException {
+            JobApplication j = new JobApplication(nextString(parser), nextString(parser), nextString(parser));
+            j.setStatus(JobApplicationStatus.parse(nextString(parser)));
+            return j;
+        }
+    }
+}
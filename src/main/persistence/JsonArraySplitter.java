@@ -0,0 +1,181 @@
+package persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// Represents a scanner that finds the array held by a member of the top-level object of a JSON document encoded in
+// UTF-8, and splits the elements of that array into runs of roughly equal size so that they can be parsed separately.
+// The scanner only tracks nesting and strings, without parsing any values, so it is much cheaper than parsing; it
+// gives up on anything it does not expect, leaving the parser to report the error
+class JsonArraySplitter {
+    private final byte[] bytes; // the document
+    private int arrayStart; // the index of the opening bracket of the array found by the last split, -1 if none
+    private int arrayEnd; // the index of the closing bracket of the array found by the last split, -1 if none
+
+    /*
+     * EFFECTS: creates a splitter over the given document
+     */
+    JsonArraySplitter(byte[] bytes) {
+        this.bytes = bytes;
+        arrayStart = -1;
+        arrayEnd = -1;
+    }
+
+    /*
+     * REQUIRES: chunkBytes > 0
+     * MODIFIES: this
+     * EFFECTS: finds the array held by the first member with the given name in the top-level object and returns the
+     *          boundaries of runs of its elements of at least chunkBytes bytes each, except for the last: the first
+     *          boundary is the opening bracket of the array, the last is its closing bracket, and the others are
+     *          commas between two elements. Returns null if the document has no such array or does not look like
+     *          well-formed JSON
+     */
+    int[] split(String member, int chunkBytes) {
+        arrayStart = -1;
+        arrayEnd = -1;
+        int i = skipWhitespace(0);
+        if (i == bytes.length || bytes[i] != '{') {
+            return null;
+        }
+
+        byte[] name = ('"' + member + '"').getBytes(StandardCharsets.UTF_8);
+        for (i = skipWhitespace(i + 1); i < bytes.length && bytes[i] == '"'; i = skipWhitespace(i + 1)) {
+            int nameEnd = skipString(i);
+            int value = skipWhitespace(nameEnd);
+            if (value == bytes.length || bytes[value] != ':') {
+                return null;
+            }
+            value = skipWhitespace(value + 1);
+            if (value == bytes.length) {
+                return null;
+            } else if (bytes[value] == '[' && matches(name, i, nameEnd)) {
+                return splitArray(value, chunkBytes);
+            }
+            i = skipWhitespace(skipValue(value));
+            if (i == bytes.length || bytes[i] != ',') {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /*
+     * REQUIRES: split has returned boundaries
+     * EFFECTS: returns the index of the opening bracket of the array found by the last split
+     */
+    int getArrayStart() {
+        return arrayStart;
+    }
+
+    /*
+     * REQUIRES: split has returned boundaries
+     * EFFECTS: returns the index of the closing bracket of the array found by the last split
+     */
+    int getArrayEnd() {
+        return arrayEnd;
+    }
+
+    /*
+     * REQUIRES: bytes[start] is the opening bracket of an array
+     * MODIFIES: this
+     * EFFECTS: returns the boundaries of runs of elements of the array of at least chunkBytes bytes each, as in
+     *          split, or null if the array is not terminated
+     */
+    private int[] splitArray(int start, int chunkBytes) {
+        ArrayList<Integer> boundaries = new ArrayList<>();
+        boundaries.add(start);
+        int i = skipWhitespace(start + 1);
+
+        while (i < bytes.length && bytes[i] != ']') {
+            i = skipWhitespace(skipValue(i));
+            if (i < bytes.length && bytes[i] == ',') {
+                if (i - boundaries.get(boundaries.size() - 1) >= chunkBytes) {
+                    boundaries.add(i);
+                }
+                i = skipWhitespace(i + 1);
+            } else if (i == bytes.length || bytes[i] != ']') {
+                return null;
+            }
+        }
+        if (i == bytes.length) {
+            return null;
+        }
+
+        boundaries.add(i);
+        arrayStart = start;
+        arrayEnd = i;
+        return boundaries.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /*
+     * EFFECTS: returns the index just past the value starting at index i, or the length of the document if it is
+     *          not terminated
+     */
+    private int skipValue(int i) {
+        if (bytes[i] == '"') {
+            return skipString(i);
+        }
+        if (bytes[i] != '{' && bytes[i] != '[') {
+            while (i < bytes.length && !isDelimiter(bytes[i])) {
+                i++;
+            }
+            return i;
+        }
+
+        int depth = 0;
+        while (i < bytes.length) {
+            byte b = bytes[i];
+            if (b == '"') {
+                i = skipString(i);
+                continue;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /*
+     * REQUIRES: bytes[i] is a quote
+     * EFFECTS: returns the index just past the string starting at index i, or the length of the document if it is not
+     *          terminated
+     */
+    private int skipString(int i) {
+        for (i++; i < bytes.length; i++) {
+            if (bytes[i] == '\\') {
+                i++;
+            } else if (bytes[i] == '"') {
+                return i + 1;
+            }
+        }
+        return bytes.length;
+    }
+
+    /*
+     * EFFECTS: returns the index of the first byte at or after index i that is not whitespace
+     */
+    private int skipWhitespace(int i) {
+        while (i < bytes.length && (bytes[i] == ' ' || bytes[i] == '\n' || bytes[i] == '\r' || bytes[i] == '\t')) {
+            i++;
+        }
+        return i;
+    }
+
+    /*
+     * EFFECTS: returns true if the bytes of the document from start to end (exclusive) are the given bytes
+     */
+    private boolean matches(byte[] name, int start, int end) {
+        return Arrays.equals(bytes, start, end, name, 0, name.length);
+    }
+
+    /*
+     * EFFECTS: returns true if the given byte ends a number, true, false, or null
+     */
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+}
@@ -0,0 +1,345 @@
+package persistence;
+
+import org.json.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+// Represents a parser that reads a JSON document one token at a time from a character stream, keeping only a fixed
+// size buffer and the current nesting in memory; the caller walks the document with beginObject, nextName, nextString
+// and so on, and the parser throws JSONException as soon as the document does not match what the caller asked for
+class JsonPullParser implements Closeable {
+    private static final int BUFFER_SIZE = 8192; // the number of characters read from the stream at a time
+
+    private final Reader reader; // the stream the document is read from
+    private final char[] buffer; // the characters read from the stream but not yet parsed
+    private int position; // the index of the next character to parse in buffer
+    private int limit; // the number of valid characters in buffer
+    private long offset; // the number of characters read from the stream before the start of buffer
+    private boolean[] first; // per open object or array, true until its first member has been reached
+    private int depth; // the number of open objects and arrays
+    private final StringBuilder string; // the characters of the string being parsed
+
+    /*
+     * EFFECTS: creates a parser that reads a JSON document from the given stream
+     */
+    JsonPullParser(Reader reader) {
+        this.reader = reader;
+        buffer = new char[BUFFER_SIZE];
+        first = new boolean[16];
+        string = new StringBuilder();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes the start of an object; throws JSONException if the next value is not an object
+     */
+    void beginObject() throws IOException {
+        begin('{');
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes the end of the current object; throws JSONException if the object has more members
+     */
+    void endObject() throws IOException {
+        end('}');
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes the start of an array; throws JSONException if the next value is not an array
+     */
+    void beginArray() throws IOException {
+        begin('[');
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes the end of the current array; throws JSONException if the array has more elements
+     */
+    void endArray() throws IOException {
+        end(']');
+    }
+
+    /*
+     * REQUIRES: an object or array is open
+     * MODIFIES: this
+     * EFFECTS: returns true and consumes the separating comma, if any, if the current object or array has another
+     *          member; returns false if it is about to end
+     */
+    boolean hasNext() throws IOException {
+        int c = peek();
+        if (c == '}' || c == ']') {
+            return false;
+        }
+
+        if (first[depth - 1]) {
+            first[depth - 1] = false;
+        } else {
+            expect(',');
+        }
+        return true;
+    }
+
+    /*
+     * REQUIRES: hasNext() returned true inside an object
+     * MODIFIES: this
+     * EFFECTS: consumes and returns the name of the next member together with the colon that follows it
+     */
+    String nextName() throws IOException {
+        String name = nextString();
+        expect(':');
+        return name;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes and returns the next string value; throws JSONException if the next value is not a string
+     */
+    String nextString() throws IOException {
+        expect('"');
+        string.setLength(0);
+
+        for (int c = read(); c != '"'; c = read()) {
+            if (c == -1 || c < ' ') {
+                throw syntaxError("Unterminated string");
+            }
+            string.append(c == '\\' ? readEscape() : (char) c);
+        }
+
+        return string.toString();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes and returns the next integer value; throws JSONException if the next value is not an integer
+     *          that fits in a long
+     */
+    long nextLong() throws IOException {
+        string.setLength(0);
+        for (int c = peek(); !isDelimiter(c); c = peekRaw()) {
+            string.append((char) c);
+            position++;
+        }
+
+        try {
+            return Long.parseLong(string.toString());
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected an integer");
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes the next value, whatever its type, without keeping it
+     */
+    void skipValue() throws IOException {
+        int c = peek();
+
+        if (c == '{') {
+            beginObject();
+            while (hasNext()) {
+                nextName();
+                skipValue();
+            }
+            endObject();
+        } else if (c == '[') {
+            beginArray();
+            while (hasNext()) {
+                skipValue();
+            }
+            endArray();
+        } else if (c == '"') {
+            nextString();
+        } else {
+            skipLiteral();
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: skips trailing whitespace; throws JSONException if anything other than whitespace follows the document
+     */
+    void endDocument() throws IOException {
+        if (peek() != -1) {
+            throw syntaxError("Expected the end of the document");
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: closes the underlying stream
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes the given opening character and opens a new object or array
+     */
+    private void begin(char open) throws IOException {
+        expect(open);
+        if (depth == first.length) {
+            first = Arrays.copyOf(first, depth * 2);
+        }
+        first[depth++] = true;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes the given closing character and closes the current object or array
+     */
+    private void end(char close) throws IOException {
+        expect(close);
+        depth--;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes a number, true, false, or null
+     */
+    private void skipLiteral() throws IOException {
+        int length = 0;
+
+        for (int c = peek(); !isDelimiter(c); c = peekRaw()) {
+            position++;
+            length++;
+        }
+
+        if (length == 0) {
+            throw syntaxError("Expected a value");
+        }
+    }
+
+    /*
+     * EFFECTS: returns true if the given character, or -1 for the end of the stream, ends a literal
+     */
+    private static boolean isDelimiter(int c) {
+        return c == -1 || c == ',' || c == '}' || c == ']' || Character.isWhitespace(c);
+    }
+
+    /*
+     * REQUIRES: a backslash has just been consumed inside a string
+     * MODIFIES: this
+     * EFFECTS: consumes the rest of the escape sequence and returns the character it stands for
+     */
+    private char readEscape() throws IOException {
+        int c = read();
+
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                return readUnicodeEscape();
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            default:
+                throw syntaxError("Illegal escape");
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes the four hexadecimal digits of a \\u escape and returns the character they stand for
+     */
+    private char readUnicodeEscape() throws IOException {
+        int value = 0;
+
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(read(), 16);
+            if (digit < 0) {
+                throw syntaxError("Illegal escape");
+            }
+            value = value * 16 + digit;
+        }
+
+        return (char) value;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: skips whitespace and consumes the given character; throws JSONException if another character is next
+     */
+    private void expect(char expected) throws IOException {
+        if (peek() != expected) {
+            throw syntaxError("Expected '" + expected + "'");
+        }
+        position++;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: skips whitespace and returns the next character without consuming it, or -1 at the end of the stream
+     */
+    private int peek() throws IOException {
+        int c = peekRaw();
+        while (c != -1 && Character.isWhitespace(c)) {
+            position++;
+            c = peekRaw();
+        }
+        return c;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns the next character without consuming it, or -1 at the end of the stream
+     */
+    private int peekRaw() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: consumes and returns the next character, or returns -1 at the end of the stream
+     */
+    private int read() throws IOException {
+        int c = peekRaw();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: replaces the parsed contents of the buffer with the next characters of the stream; returns false if
+     *          the stream has no more characters
+     */
+    private boolean fill() throws IOException {
+        offset += limit;
+        position = 0;
+        limit = 0;
+
+        int n = reader.read(buffer, 0, buffer.length);
+        if (n <= 0) {
+            return false;
+        }
+        limit = n;
+        return true;
+    }
+
+    /*
+     * EFFECTS: returns an exception describing the given syntax error at the current position in the document
+     */
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at character " + (offset + position));
+    }
+}
@@ -3,24 +3,61 @@ package persistence;
 import model.JobApplication;
 import model.JobApplicationStatus;
 import model.JobApplicationTracker;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import org.json.JSONException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
-// Represents a reader that reads the tracker from JSON data stored in file
+// Represents a reader that reads the tracker from JSON data stored in file; by default the file is parsed as a stream,
+// so each job application is created as soon as it has been read and the file is never held in memory as a whole. A
+// file whose name ends in ".gz" is decompressed with GZIP as it is parsed, and is always parsed as a stream, since it
+// can only be decompressed in order. The parallel mode is experimental: the file is read into memory, the list of job
+// applications is cut into chunks on element boundaries, and the chunks are parsed on the common fork/join pool while
+// the rest of the document is parsed on the calling thread; the job applications are then added to the tracker in file
+// order, so duplicates are dropped exactly as they are in the default mode. It has only been measured on one core,
+// where it is slower than the default mode, so nothing in the application uses it yet
 public class JsonReader {
+    private static final List<String> JOB_APPLICATION_KEYS =
+            Arrays.asList("submissionDate", "companyName", "roleName", "status"); // the members of a job application
+    private static final String LIST_KEY = "jobApplicationList"; // the member holding the job applications
+    private static final String STATUS_COUNTS_KEY = "statusCounts"; // the member holding the counts per status
+    private static final int CHUNKS_PER_THREAD = 4; // the chunks per thread of the pool, to even out their load
+    private static final int MIN_CHUNK_BYTES = 1 << 16; // the smallest chunk worth parsing on its own
+
     private String source; // the source file
+    private boolean compressed; // true if the file is compressed with GZIP
+    private boolean parallel; // true if the job applications are parsed on the fork/join pool
+    private long journalSequence; // the journal sequence number recorded in the file last read, 0 if none
 
     /*
-     * EFFECTS: constructs a reader to read from the source file
+     * EFFECTS: constructs a reader to read from the source file as a stream
      */
     public JsonReader(String source) {
+        this(source, false);
+    }
+
+    /*
+     * EFFECTS: constructs a reader to read from the source file, parsing the job applications in parallel if
+     *          parallel is true; the parallel mode is experimental and holds the whole file in memory
+     */
+    public JsonReader(String source, boolean parallel) {
         this.source = source;
+        this.compressed = TrackerStreams.isCompressed(source);
+        this.parallel = parallel;
     }
 
     /*
@@ -28,60 +65,277 @@ public class JsonReader {
      *          the file is being read
      */
     public JobApplicationTracker read() throws IOException {
-        String jsonData = readFile(source);
-        JSONObject jsonObject = new JSONObject(jsonData);
-        return parseJobApplicationTracker(jsonObject);
+        journalSequence = 0;
+        ArrayList<JobApplication> jobApplications = new ArrayList<>();
+        String name;
+
+        if (parallel && !compressed) {
+            name = readInParallel(jobApplications);
+        } else {
+            name = parseDocument(TrackerStreams.openInput(source, compressed), jobApplications);
+        }
+
+        JobApplicationTracker tracker = new JobApplicationTracker(name);
+        tracker.addAll(jobApplications);
+        return tracker;
     }
 
     /*
-     * EFFECTS: reads and returns the given source file as a string, throws IOException if an error occurs while the
-     *          file is being read
+     * EFFECTS: reads the name of the tracker and its number of job applications per status and returns them; if the
+     *          file has the counts ahead of its job applications, as JournaledStore writes them, reading stops there,
+     *          otherwise the whole tracker is read to count them. Throws IOException if an error occurs while the file
+     *          is being read
      */
-    private String readFile(String source) throws IOException {
-        StringBuilder contentBuilder = new StringBuilder();
+    public TrackerSummary readSummary() throws IOException {
+        journalSequence = 0;
+        TrackerSummary summary;
+        try (JsonPullParser parser = parserOver(TrackerStreams.openInput(source, compressed))) {
+            summary = parseSummary(parser);
+        }
 
-        try (Stream<String> stream = Files.lines(Paths.get(source), StandardCharsets.UTF_8)) {
-            stream.forEach(s -> contentBuilder.append(s));
+        if (summary == null) {
+            summary = TrackerSummary.of(read());
         }
+        return summary;
+    }
 
-        return contentBuilder.toString();
+    /*
+     * EFFECTS: returns the sequence number of the last journal record already included in the file last read, or 0 if
+     *          the file was not written by a journaled store
+     */
+    long getJournalSequence() {
+        return journalSequence;
     }
 
     /*
-     * EFFECTS: parses the job application tracker from the given jsonObject and returns it
+     * MODIFIES: this, jobApplications
+     * EFFECTS: reads the whole file, parses its chunks of job applications on the fork/join pool and the rest of the
+     *          document on this thread, appends the job applications to jobApplications in file order and returns the
+     *          name of the tracker; falls back to parsing the document on this thread alone if its list of job
+     *          applications cannot be found
      */
-    private JobApplicationTracker parseJobApplicationTracker(JSONObject jsonObject) {
-        String name = jsonObject.getString("name");
-        JobApplicationTracker tracker = new JobApplicationTracker(name);
-        addAllJobApplicationsToTracker(tracker, jsonObject);
-        return tracker;
+    private String readInParallel(ArrayList<JobApplication> jobApplications) throws IOException {
+        byte[] bytes = Files.readAllBytes(Paths.get(source));
+        int chunks = ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD;
+        JsonArraySplitter splitter = new JsonArraySplitter(bytes);
+        int[] boundaries = splitter.split(LIST_KEY, Math.max(MIN_CHUNK_BYTES, bytes.length / chunks));
+        if (boundaries == null) {
+            return parseDocument(new ByteArrayInputStream(bytes), jobApplications);
+        }
+
+        ArrayList<ForkJoinTask<ArrayList<JobApplication>>> tasks = new ArrayList<>();
+        for (int i = 0; i + 1 < boundaries.length; i++) {
+            int start = boundaries[i] + 1;
+            InputStream chunk = new ByteArrayInputStream(bytes, start, boundaries[i + 1] - start);
+            tasks.add(ForkJoinPool.commonPool().submit(() -> parseChunk(chunk)));
+        }
+
+        InputStream rest = new SequenceInputStream(new ByteArrayInputStream(bytes, 0, splitter.getArrayStart() + 1),
+                new ByteArrayInputStream(bytes, splitter.getArrayEnd(), bytes.length - splitter.getArrayEnd()));
+        String name = parseDocument(rest, jobApplications);
+        joinAll(tasks, jobApplications);
+        return name;
+    }
+
+    /*
+     * EFFECTS: parses the job application tracker from the UTF-8 text in the given stream, appends its job
+     *          applications to jobApplications and returns its name
+     */
+    private String parseDocument(InputStream in, ArrayList<JobApplication> jobApplications) throws IOException {
+        try (JsonPullParser parser = parserOver(in)) {
+            return parseJobApplicationTracker(parser, jobApplications);
+        }
+    }
+
+    /*
+     * EFFECTS: parses the job applications in the given chunk, which holds consecutive elements of the list of job
+     *          applications without the surrounding brackets, and returns them in order
+     */
+    private ArrayList<JobApplication> parseChunk(InputStream chunk) throws IOException {
+        InputStream array = new SequenceInputStream(new SequenceInputStream(new ByteArrayInputStream(new byte[] {'['}),
+                chunk), new ByteArrayInputStream(new byte[] {']'}));
+        ArrayList<JobApplication> jobApplications = new ArrayList<>();
+
+        try (JsonPullParser parser = parserOver(array)) {
+            parseJobApplications(parser, jobApplications);
+            parser.endDocument();
+        }
+        return jobApplications;
+    }
+
+    /*
+     * MODIFIES: jobApplications
+     * EFFECTS: waits for the given tasks to finish and appends their results to jobApplications in task order; they
+     *          are waited for from last to first, since a task that no worker has started yet can then be run by this
+     *          thread
+     */
+    private static void joinAll(ArrayList<ForkJoinTask<ArrayList<JobApplication>>> tasks,
+                                ArrayList<JobApplication> jobApplications) throws IOException {
+        ArrayList<ArrayList<JobApplication>> results = new ArrayList<>(Collections.nCopies(tasks.size(), null));
+        int total = jobApplications.size();
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            results.set(i, join(tasks.get(i)));
+            total += results.get(i).size();
+        }
+
+        jobApplications.ensureCapacity(total);
+        for (ArrayList<JobApplication> result : results) {
+            jobApplications.addAll(result);
+        }
+    }
+
+    /*
+     * EFFECTS: waits for the given task to finish and returns its result, rethrowing any exception it threw
+     */
+    private static ArrayList<JobApplication> join(ForkJoinTask<ArrayList<JobApplication>> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading the job applications");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw (Error) e.getCause();
+        }
+    }
+
+    /*
+     * EFFECTS: returns a parser over the UTF-8 text in the given stream
+     */
+    private static JsonPullParser parserOver(InputStream in) {
+        return new JsonPullParser(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /*
+     * MODIFIES: this, parser, jobApplications
+     * EFFECTS: parses the job application tracker from the given parser, appends its job applications to
+     *          jobApplications and returns its name; members other than the name and the list of job applications are
+     *          skipped, and the members may come in any order
+     */
+    private String parseJobApplicationTracker(JsonPullParser parser, ArrayList<JobApplication> jobApplications)
+            throws IOException {
+        String name = null;
+
+        parser.beginObject();
+        while (parser.hasNext()) {
+            String key = parser.nextName();
+            if (key.equals("name")) {
+                name = parser.nextString();
+            } else if (key.equals(LIST_KEY)) {
+                parseJobApplications(parser, jobApplications);
+            } else if (key.equals("journalSequence")) {
+                journalSequence = parser.nextLong();
+            } else {
+                parser.skipValue();
+            }
+        }
+        parser.endObject();
+        parser.endDocument();
+        return require(name, "name");
+    }
+
+    /*
+     * MODIFIES: this, parser
+     * EFFECTS: parses the members of the job application tracker from the given parser up to its list of job
+     *          applications and returns its summary, or null if the name or the number of job applications per status
+     *          do not come before the list
+     */
+    private TrackerSummary parseSummary(JsonPullParser parser) throws IOException {
+        String name = null;
+        int[] statusCounts = null;
+
+        parser.beginObject();
+        while (parser.hasNext()) {
+            String key = parser.nextName();
+            if (key.equals("name")) {
+                name = parser.nextString();
+            } else if (key.equals(STATUS_COUNTS_KEY)) {
+                statusCounts = parseStatusCounts(parser);
+            } else if (key.equals("journalSequence")) {
+                journalSequence = parser.nextLong();
+            } else if (key.equals(LIST_KEY)) {
+                break;
+            } else {
+                parser.skipValue();
+            }
+        }
+        return name == null || statusCounts == null ? null : new TrackerSummary(name, statusCounts);
+    }
+
+    /*
+     * MODIFIES: parser
+     * EFFECTS: parses the object of job application counts keyed by status name from the given parser and returns
+     *          them by status ordinal; throws JSONException if a count is negative, IllegalArgumentException if a
+     *          status does not exist
+     */
+    private static int[] parseStatusCounts(JsonPullParser parser) throws IOException {
+        int[] statusCounts = new int[JobApplicationStatus.values().length];
+
+        parser.beginObject();
+        while (parser.hasNext()) {
+            JobApplicationStatus status = JobApplicationStatus.parse(parser.nextName());
+            long count = parser.nextLong();
+            if (count < 0 || count > Integer.MAX_VALUE) {
+                throw new JSONException("Invalid count of " + status + " job applications: " + count);
+            }
+            statusCounts[status.ordinal()] = (int) count;
+        }
+        parser.endObject();
+        return statusCounts;
     }
 
     /*
-     * MODIFIES: tracker
-     * EFFECTS: parses all job applications from the given JSON object and adds them to the job application tracker
+     * MODIFIES: parser, jobApplications
+     * EFFECTS: parses the array of job applications from the given parser and appends each one to jobApplications
+     *          as soon as it has been read
      */
-    private void addAllJobApplicationsToTracker(JobApplicationTracker tracker, JSONObject jsonObject) {
-        JSONArray jsonArray = jsonObject.getJSONArray("jobApplicationList");
-        for (Object json : jsonArray) {
-            JSONObject jobApplication = (JSONObject) json;
-            addSingleJobApplicationToTracker(tracker, jobApplication);
+    private void parseJobApplications(JsonPullParser parser, ArrayList<JobApplication> jobApplications)
+            throws IOException {
+        parser.beginArray();
+        while (parser.hasNext()) {
+            jobApplications.add(parseJobApplication(parser));
         }
+        parser.endArray();
     }
 
     /*
-     * MODIFIES: tracker
-     * EFFECTS: parses a single job application from the given JSON object and adds it to the job application tracker
+     * MODIFIES: parser
+     * EFFECTS: parses a single job application from the given parser and returns it
      */
-    private void addSingleJobApplicationToTracker(JobApplicationTracker tracker, JSONObject jsonObject) {
-        String submissionDate = jsonObject.getString("submissionDate");
-        String companyName = jsonObject.getString("companyName");
-        String roleName = jsonObject.getString("roleName");
-        JobApplicationStatus status = JobApplicationStatus.valueOf(jsonObject.getString("status"));
+    private JobApplication parseJobApplication(JsonPullParser parser) throws IOException {
+        String[] values = new String[JOB_APPLICATION_KEYS.size()];
 
-        JobApplication jobApplication = new JobApplication(submissionDate, companyName, roleName);
-        jobApplication.setStatus(status);
+        parser.beginObject();
+        while (parser.hasNext()) {
+            int i = JOB_APPLICATION_KEYS.indexOf(parser.nextName());
+            if (i >= 0) {
+                values[i] = parser.nextString();
+            } else {
+                parser.skipValue();
+            }
+        }
+        parser.endObject();
 
-        tracker.add(jobApplication);
+        for (int i = 0; i < values.length; i++) {
+            require(values[i], JOB_APPLICATION_KEYS.get(i));
+        }
+        JobApplication jobApplication = new JobApplication(values[0], values[1], values[2]);
+        jobApplication.setStatus(JobApplicationStatus.parse(values[3]));
+        return jobApplication;
+    }
+
+    /*
+     * EFFECTS: returns the given value of the member with the given key; throws JSONException if the member was
+     *          missing
+     */
+    private static String require(String value, String key) {
+        if (value == null) {
+            throw new JSONException("JSONObject[\"" + key + "\"] not found.");
+        }
+        return value;
     }
-}
\ No newline at end of file
+}
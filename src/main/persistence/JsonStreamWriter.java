@@ -0,0 +1,202 @@
+package persistence;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+// Represents a writer that emits a JSON document token by token straight to a character stream, without building
+// the document in memory first; when an indent is given, each member goes on its own line, as JSONObject.toString
+// lays out objects and arrays with more than one member, otherwise it is written on a single line with no whitespace
+class JsonStreamWriter {
+    private final PrintWriter writer; // the stream the document is written to
+    private final int indent; // the number of spaces per level of nesting, 0 for compact output
+    private boolean[] empty; // per open object or array, true until its first member has been written
+    private int depth; // the number of open objects and arrays
+    private boolean afterName; // true if a member name has just been written and its value is expected
+
+    /*
+     * REQUIRES: indent >= 0
+     * EFFECTS: creates a writer that writes a JSON document to the given stream, indenting nested members by the
+     *          given number of spaces
+     */
+    JsonStreamWriter(PrintWriter writer, int indent) {
+        this.writer = writer;
+        this.indent = indent;
+        empty = new boolean[16];
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the start of an object
+     */
+    void beginObject() {
+        begin('{');
+    }
+
+    /*
+     * REQUIRES: an object is open and no member name is waiting for its value
+     * MODIFIES: this
+     * EFFECTS: writes the end of the current object
+     */
+    void endObject() {
+        end('}');
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the start of an array
+     */
+    void beginArray() {
+        begin('[');
+    }
+
+    /*
+     * REQUIRES: an array is open
+     * MODIFIES: this
+     * EFFECTS: writes the end of the current array
+     */
+    void endArray() {
+        end(']');
+    }
+
+    /*
+     * REQUIRES: an object is open and no member name is waiting for its value
+     * MODIFIES: this
+     * EFFECTS: writes the name of the next member of the current object
+     */
+    void name(String name) {
+        beforeValue();
+        writeQuoted(name);
+        writer.write(indent > 0 ? ": " : ":");
+        afterName = true;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the given string value
+     */
+    void value(String value) {
+        beforeValue();
+        writeQuoted(value);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the given integer value
+     */
+    void value(long value) {
+        beforeValue();
+        writer.print(value);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the given opening character and opens a new object or array
+     */
+    private void begin(char open) {
+        beforeValue();
+        writer.write(open);
+        if (depth == empty.length) {
+            empty = Arrays.copyOf(empty, depth * 2);
+        }
+        empty[depth++] = true;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: closes the current object or array, putting the given closing character on its own line unless the
+     *          object or array is empty
+     */
+    private void end(char close) {
+        depth--;
+        if (!empty[depth]) {
+            newLine();
+        }
+        writer.write(close);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the comma and line break that separate the next value from the previous one, if needed
+     */
+    private void beforeValue() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth == 0) {
+            return;
+        }
+
+        if (empty[depth - 1]) {
+            empty[depth - 1] = false;
+        } else {
+            writer.write(',');
+        }
+        newLine();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: starts a new line indented to the current depth, if the output is indented
+     */
+    private void newLine() {
+        if (indent > 0) {
+            writer.write('\n');
+            for (int i = 0; i < depth * indent; i++) {
+                writer.write(' ');
+            }
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the given string in quotes, escaping characters the same way as JSONObject.quote
+     */
+    private void writeQuoted(String string) {
+        writer.write('"');
+        char previous = 0;
+
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c == '"' || c == '\\' || (c == '/' && previous == '<')) {
+                writer.write('\\');
+                writer.write(c);
+            } else {
+                writeEscaped(c);
+            }
+            previous = c;
+        }
+
+        writer.write('"');
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the given character, replacing control characters with escape sequences
+     */
+    private void writeEscaped(char c) {
+        switch (c) {
+            case '\b':
+                writer.write("\\b");
+                break;
+            case '\t':
+                writer.write("\\t");
+                break;
+            case '\n':
+                writer.write("\\n");
+                break;
+            case '\f':
+                writer.write("\\f");
+                break;
+            case '\r':
+                writer.write("\\r");
+                break;
+            default:
+                if (c < ' ' || (c >= '\u0080' && c < '\u00a0') || (c >= '\u2000' && c < '\u2100')) {
+                    writer.write(String.format("\\u%04x", (int) c));
+                } else {
+                    writer.write(c);
+                }
+        }
+    }
+}
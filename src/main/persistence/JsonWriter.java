@@ -1,32 +1,59 @@
 package persistence;
 
+import model.JobApplication;
+import model.JobApplicationStatus;
 import model.JobApplicationTracker;
-import org.json.JSONObject;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 
-// Represents a writer that writes the JSON representation of a job application tracker to file
+// Represents a writer that writes the JSON representation of a job application tracker to file; job applications are
+// written to the file one by one as they are visited, without building the whole document in memory first, and are
+// compressed with GZIP on the way if the writer is set to compress
 public class JsonWriter {
     private static final int TAB = 4; // the number of spaces in a tab
+    private static final int BUFFER_SIZE = 1 << 16; // the number of characters buffered before writing to the file
     private PrintWriter writer; // the writer object
     private String destination; // the destination file
+    private boolean pretty; // true if the output is indented, false if it is written on a single line
+    private boolean compressed; // true if the file is compressed with GZIP
 
     /*
-     * EFFECTS: constructs a writer to write to the given destination file
+     * EFFECTS: constructs a writer to write indented JSON to the given destination file, compressing it if its name
+     *          ends in ".gz"
      */
     public JsonWriter(String destination) {
+        this(destination, true);
+    }
+
+    /*
+     * EFFECTS: constructs a writer to write to the given destination file, indenting the JSON if pretty is true and
+     *          compressing it if its name ends in ".gz"
+     */
+    public JsonWriter(String destination, boolean pretty) {
+        this(destination, pretty, TrackerStreams.isCompressed(destination));
+    }
+
+    /*
+     * EFFECTS: constructs a writer to write to the given destination file, indenting the JSON if pretty is true and
+     *          compressing it if compressed is true
+     */
+    public JsonWriter(String destination, boolean pretty, boolean compressed) {
         this.destination = destination;
+        this.pretty = pretty;
+        this.compressed = compressed;
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: opens the writer, throws FileNotFoundException if an error occurs while the destination file is
-     *          being opened
+     * EFFECTS: opens the writer, throws IOException if an error occurs while the destination file is being opened
      */
-    public void open() throws FileNotFoundException {
-        writer = new PrintWriter(new File(destination));
+    public void open() throws IOException {
+        writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(
+                TrackerStreams.openOutput(destination, compressed), StandardCharsets.UTF_8), BUFFER_SIZE));
     }
 
     /*
@@ -34,8 +61,47 @@ public class JsonWriter {
      * EFFECTS: writes the JSON representation of the given job application tracker to the destination file
      */
     public void write(JobApplicationTracker tracker) {
-        JSONObject json = tracker.toJson();
-        saveToFile(json.toString(TAB));
+        write(tracker, 0, false);
+    }
+
+    /*
+     * REQUIRES: journalSequence >= 0
+     * MODIFIES: this
+     * EFFECTS: writes the JSON representation of the given job application tracker to the destination file as a
+     *          snapshot: the sequence number of the last journal record it includes is written unless journalSequence
+     *          is 0, and the number of job applications per status is written ahead of the job applications, so that
+     *          JsonReader.readSummary can stop before them
+     */
+    void write(JobApplicationTracker tracker, long journalSequence) {
+        write(tracker, journalSequence, true);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the JSON representation of the given job application tracker to the destination file, with the
+     *          journal sequence number unless it is 0 and with the number of job applications per status if summary
+     *          is true
+     */
+    private void write(JobApplicationTracker tracker, long journalSequence, boolean summary) {
+        JsonStreamWriter json = new JsonStreamWriter(writer, pretty ? TAB : 0);
+
+        json.beginObject();
+        json.name("name");
+        json.value(tracker.getName());
+        if (journalSequence > 0) {
+            json.name("journalSequence");
+            json.value(journalSequence);
+        }
+        if (summary) {
+            writeStatusCounts(json, tracker);
+        }
+        json.name("jobApplicationList");
+        json.beginArray();
+        for (JobApplication j : tracker.getJobApplications()) {
+            writeJobApplication(json, j);
+        }
+        json.endArray();
+        json.endObject();
     }
 
     /*
@@ -46,11 +112,42 @@ public class JsonWriter {
         writer.close();
     }
 
+    /*
+     * EFFECTS: returns true if writing to or closing the destination file has failed
+     */
+    boolean hasFailed() {
+        return writer.checkError();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: writes the number of job applications of the given tracker per status, as an object member
+     */
+    private void writeStatusCounts(JsonStreamWriter json, JobApplicationTracker tracker) {
+        json.name("statusCounts");
+        json.beginObject();
+        for (JobApplicationStatus s : JobApplicationStatus.values()) {
+            json.name(s.name());
+            json.value(tracker.count(s));
+        }
+        json.endObject();
+    }
+
     /*
      * MODIFIES: this
-     * EFFECTS: writes the given string to the destination file
+     * EFFECTS: writes the JSON representation of the given job application, with the same members as
+     *          JobApplication.toJson
      */
-    private void saveToFile(String json) {
-        writer.print(json);
+    private void writeJobApplication(JsonStreamWriter json, JobApplication j) {
+        json.beginObject();
+        json.name("companyName");
+        json.value(j.getCompanyName());
+        json.name("roleName");
+        json.value(j.getRoleName());
+        json.name("submissionDate");
+        json.value(j.getSubmissionDate().toString());
+        json.name("status");
+        json.value(j.getStatus().name());
+        json.endObject();
     }
 }
@@ -0,0 +1,302 @@
+package persistence;
+
+import model.JobApplication;
+import model.JobApplicationStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Represents a read-only view of a tracker stored in the binary format described by BinaryFormat. The file is mapped
+// into memory rather than read, so opening it only walks the header and the dictionary; each job application is
+// decoded from its record only when a caller asks for it, and only the pages of the file that are actually touched are
+// ever loaded. The job applications returned are new objects that belong to no tracker: changing them does not change
+// the file, and asking for the same position twice returns two equal but distinct job applications
+public class MappedTrackerStore implements Closeable, Iterable<JobApplication> {
+    private static final int RECORDS_PER_SEGMENT = 1 << 26; // the records per mapping, so each is under 2GB
+    private static final JobApplicationStatus[] STATUSES = JobApplicationStatus.values(); // the statuses by ordinal
+
+    private final String source; // the source file
+    private final int recordsPerSegment; // the number of records in each mapping of the records
+    private FileChannel channel; // the channel to the source file, null until opened
+    private String name; // the name of the tracker in the file
+    private int size; // the number of job applications in the file
+    private MappedByteBuffer header; // the mapping of the start of the file, up to the end of the dictionary
+    private int[] nameOffsets; // the offset in header of the length of each name in the dictionary
+    private String[] names; // the names in the dictionary decoded so far, null for the others
+    private HashMap<String, Integer> nameIndices; // the dictionary index of every name, null until first needed
+    private MappedByteBuffer[] segments; // the mappings of the records, recordsPerSegment records each
+    private int[] statusCounts; // the number of job applications per status, null until first counted
+
+    /*
+     * EFFECTS: constructs a store that maps the given source file once opened
+     */
+    public MappedTrackerStore(String source) {
+        this(source, RECORDS_PER_SEGMENT);
+    }
+
+    /*
+     * REQUIRES: recordsPerSegment > 0 and recordsPerSegment * RECORD_SIZE <= Integer.MAX_VALUE
+     * EFFECTS: constructs a store that maps the given source file once opened, with the given number of records in
+     *          each mapping
+     */
+    MappedTrackerStore(String source, int recordsPerSegment) {
+        this.source = source;
+        this.recordsPerSegment = recordsPerSegment;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: maps the source file and reads its header and the positions of the names in its dictionary; throws
+     *          IOException if the file cannot be opened, or is compressed, or is not a binary tracker file of a
+     *          supported version, or its size does not match its record count
+     */
+    public void open() throws IOException {
+        if (TrackerStreams.isCompressed(source)) {
+            throw new IOException("Compressed tracker files cannot be mapped: " + source);
+        }
+        channel = FileChannel.open(Paths.get(source));
+        try {
+            long fileSize = channel.size();
+            header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(fileSize, Integer.MAX_VALUE));
+            readHeader();
+            if (fileSize - header.position() != (long) size * BinaryFormat.RECORD_SIZE) {
+                throw BinaryFormat.corrupt(source);
+            }
+            mapRecords(header.position());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: releases the file; the mappings themselves are released once they are no longer reachable
+     */
+    @Override
+    public void close() throws IOException {
+        header = null;
+        segments = null;
+        channel.close();
+    }
+
+    /*
+     * EFFECTS: returns the name of the tracker in the file
+     */
+    public String getName() {
+        return name;
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the file
+     */
+    public int size() {
+        return size;
+    }
+
+    /*
+     * REQUIRES: 0 <= index < size()
+     * EFFECTS: decodes and returns the job application at the given position in the file; throws
+     *          UncheckedIOException if its record refers to a status or a name that does not exist
+     */
+    public JobApplication get(int index) {
+        ByteBuffer segment = segments[index / recordsPerSegment];
+        int offset = (index % recordsPerSegment) * BinaryFormat.RECORD_SIZE;
+        int status = segment.get(offset + Integer.BYTES);
+        if (status < 0 || status >= STATUSES.length) {
+            throw new UncheckedIOException(BinaryFormat.corrupt(source));
+        }
+
+        JobApplication j = new JobApplication(segment.getInt(offset),
+                nameAt(segment.getInt(offset + Integer.BYTES + 1)),
+                nameAt(segment.getInt(offset + 2 * Integer.BYTES + 1)));
+        j.setStatus(STATUSES[status]);
+        return j;
+    }
+
+    /*
+     * EFFECTS: returns an unmodifiable list of the job applications in the file, in order, that decodes each one only
+     *          when it is read
+     */
+    public List<JobApplication> getJobApplications() {
+        return new JobApplicationList();
+    }
+
+    /*
+     * EFFECTS: returns an iterator over the job applications in the file, in order, decoding each one as it is reached
+     */
+    @Override
+    public Iterator<JobApplication> iterator() {
+        return getJobApplications().iterator();
+    }
+
+    /*
+     * EFFECTS: returns the position of the first job application in the file equal to j, or -1 if there is none;
+     *          records are compared as stored, without decoding them
+     */
+    public int indexOf(JobApplication j) {
+        Integer company = getNameIndices().get(j.getCompanyName());
+        Integer role = getNameIndices().get(j.getRoleName());
+        if (company == null || role == null) {
+            return -1;
+        }
+
+        int epochDay = (int) j.getSubmissionDate().toEpochDay();
+        byte status = (byte) j.getStatus().ordinal();
+        for (int i = 0; i < size; i++) {
+            ByteBuffer segment = segments[i / recordsPerSegment];
+            int offset = (i % recordsPerSegment) * BinaryFormat.RECORD_SIZE;
+            if (segment.getInt(offset) == epochDay && segment.get(offset + Integer.BYTES) == status
+                    && segment.getInt(offset + Integer.BYTES + 1) == company
+                    && segment.getInt(offset + 2 * Integer.BYTES + 1) == role) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * EFFECTS: returns true if the file holds a job application equal to j
+     */
+    public boolean contains(JobApplication j) {
+        return indexOf(j) >= 0;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns the number of job applications in the file with the given status; the status of every record
+     *          is read the first time, and the counts are remembered after that
+     */
+    public int count(JobApplicationStatus status) {
+        if (statusCounts == null) {
+            int[] counts = new int[STATUSES.length];
+            for (int i = 0; i < size; i++) {
+                int offset = (i % recordsPerSegment) * BinaryFormat.RECORD_SIZE + Integer.BYTES;
+                int s = segments[i / recordsPerSegment].get(offset);
+                if (s >= 0 && s < counts.length) {
+                    counts[s]++;
+                }
+            }
+            statusCounts = counts;
+        }
+        return statusCounts[status.ordinal()];
+    }
+
+    /*
+     * EFFECTS: returns the percentage of job applications in the file with the given status, or 0 if the file has
+     *          no job applications
+     */
+    public double calculatePercentage(JobApplicationStatus status) {
+        if (size == 0) {
+            return 0;
+        }
+        return (double) count(status) / size;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: reads the header from the start of the mapping of the file and records the offset of each name in
+     *          the dictionary, leaving the mapping positioned at the first record
+     */
+    private void readHeader() throws IOException {
+        BinaryFormat.checkHeader(header, source);
+        name = BinaryFormat.readString(header, source);
+        size = BinaryFormat.readCount(header, BinaryFormat.RECORD_SIZE, source);
+        nameOffsets = new int[BinaryFormat.readCount(header, Integer.BYTES, source)];
+        names = new String[nameOffsets.length];
+
+        for (int i = 0; i < nameOffsets.length; i++) {
+            nameOffsets[i] = header.position();
+            int length = BinaryFormat.readCount(header, 1, source);
+            header.position(header.position() + length);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: maps the records, which start at the given offset in the file, recordsPerSegment records at a time
+     */
+    private void mapRecords(long start) throws IOException {
+        segments = new MappedByteBuffer[(size + recordsPerSegment - 1) / recordsPerSegment];
+
+        for (int i = 0; i < segments.length; i++) {
+            long first = (long) i * recordsPerSegment;
+            long records = Math.min(recordsPerSegment, size - first);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start + first * BinaryFormat.RECORD_SIZE,
+                    records * BinaryFormat.RECORD_SIZE);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns the name at the given index in the dictionary, decoding it the first time it is needed; throws
+     *          UncheckedIOException if there is no such name
+     */
+    private String nameAt(int index) {
+        if (index < 0 || index >= names.length) {
+            throw new UncheckedIOException(BinaryFormat.corrupt(source));
+        }
+
+        String s = names[index];
+        if (s == null) {
+            int length = header.getInt(nameOffsets[index]);
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = header.get(nameOffsets[index] + Integer.BYTES + i);
+            }
+            s = new String(bytes, StandardCharsets.UTF_8);
+            names[index] = s;
+        }
+        return s;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns the dictionary index of every name in the file, decoding the whole dictionary the first time
+     */
+    private HashMap<String, Integer> getNameIndices() {
+        if (nameIndices == null) {
+            HashMap<String, Integer> indices = new HashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                indices.putIfAbsent(nameAt(i), i);
+            }
+            nameIndices = indices;
+        }
+        return nameIndices;
+    }
+
+    // Represents the job applications in the file as a list that decodes each one when it is read
+    private class JobApplicationList extends AbstractList<JobApplication> implements RandomAccess {
+
+        /*
+         * EFFECTS: returns the decoded job application at the given position; throws IndexOutOfBoundsException if
+         *          index < 0 or index >= size()
+         */
+        @Override
+        public JobApplication get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return MappedTrackerStore.this.get(index);
+        }
+
+        /*
+         * EFFECTS: returns the number of job applications in the file
+         */
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package persistence;
+
+import java.io.IOException;
+
+// Represents the outcome of saving a job application tracker: the number of bytes written to disk, the time the save
+// took, and the failure of a background compaction since the previous save, if any
+public class SaveReport {
+    private static final double NANOS_PER_MILLI = 1e6; // the number of nanoseconds in a millisecond
+
+    private final long bytesWritten; // the number of bytes written to disk
+    private final long nanos; // the time the save took, in nanoseconds
+    private final IOException compactionFailure; // the failure of a background compaction since the previous save,
+                                                 // null if none
+
+    /*
+     * REQUIRES: bytesWritten >= 0 and nanos >= 0
+     * EFFECTS: creates a report of a save that wrote the given number of bytes in the given number of nanoseconds
+     */
+    SaveReport(long bytesWritten, long nanos) {
+        this(bytesWritten, nanos, null);
+    }
+
+    /*
+     * REQUIRES: bytesWritten >= 0 and nanos >= 0
+     * EFFECTS: creates a report of a save that wrote the given number of bytes in the given number of nanoseconds,
+     *          after a background compaction failed with compactionFailure, or null if none did
+     */
+    SaveReport(long bytesWritten, long nanos, IOException compactionFailure) {
+        this.bytesWritten = bytesWritten;
+        this.nanos = nanos;
+        this.compactionFailure = compactionFailure;
+    }
+
+    /*
+     * EFFECTS: returns the number of bytes written to disk
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /*
+     * EFFECTS: returns the time the save took, in nanoseconds
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /*
+     * EFFECTS: returns the exception a background compaction failed with since the previous save, or null if none did
+     */
+    public IOException getCompactionFailure() {
+        return compactionFailure;
+    }
+
+    /*
+     * EFFECTS: returns true if nothing was written, because there were no changes to save
+     */
+    public boolean isEmpty() {
+        return bytesWritten == 0;
+    }
+
+    /*
+     * EFFECTS: returns the number of bytes written and the time taken, in milliseconds, as text, followed by the
+     *          failure of a background compaction if there was one
+     */
+    @Override
+    public String toString() {
+        String text = String.format("%d bytes in %.1f ms", bytesWritten, nanos / NANOS_PER_MILLI);
+        if (compactionFailure != null) {
+            text += "; compacting the journal failed: " + compactionFailure.getMessage();
+        }
+        return text;
+    }
+}
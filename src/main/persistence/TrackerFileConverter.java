@@ -0,0 +1,49 @@
+package persistence;
+
+import model.JobApplicationTracker;
+
+import java.io.IOException;
+
+// Represents a converter between the JSON and the binary tracker file formats
+public class TrackerFileConverter {
+
+    /*
+     * EFFECTS: prevents instantiation, since this class only has static methods
+     */
+    private TrackerFileConverter() {
+    }
+
+    /*
+     * MODIFIES: the destination file
+     * EFFECTS: reads the tracker from the given JSON file and writes it to the given binary file, throws IOException
+     *          if an error occurs while either file is read or written
+     */
+    public static void jsonToBinary(String source, String destination) throws IOException {
+        JobApplicationTracker tracker = new JsonReader(source).read();
+        BinaryWriter writer = new BinaryWriter(destination);
+
+        writer.open();
+        try {
+            writer.write(tracker);
+        } finally {
+            writer.close();
+        }
+    }
+
+    /*
+     * MODIFIES: the destination file
+     * EFFECTS: reads the tracker from the given binary file and writes it to the given JSON file, throws IOException
+     *          if an error occurs while either file is read or written
+     */
+    public static void binaryToJson(String source, String destination) throws IOException {
+        JobApplicationTracker tracker = new BinaryReader(source).read();
+        JsonWriter writer = new JsonWriter(destination);
+
+        writer.open();
+        writer.write(tracker);
+        writer.close();
+        if (writer.hasFailed()) {
+            throw new IOException("Failed to write " + destination);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package persistence;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Represents the opening of tracker files as byte streams, compressed with GZIP or not. Compressed streams are
+// deflated at the fastest level, since tracker files are mostly repeated names and keys that compress well even then,
+// and both directions use large buffers so that the codec works on big blocks at a time
+final class TrackerStreams {
+    static final String COMPRESSED_EXTENSION = ".gz"; // the extension of the names of compressed tracker files
+    static final int BUFFER_SIZE = 1 << 16; // the number of bytes the codecs work on at a time
+    private static final int COMPRESSION_LEVEL = Deflater.BEST_SPEED; // the deflate level of compressed files
+
+    /*
+     * EFFECTS: prevents instantiation, since this class only has static methods
+     */
+    private TrackerStreams() {
+    }
+
+    /*
+     * EFFECTS: returns true if the file with the given name should be compressed, that is if its name ends in ".gz"
+     */
+    static boolean isCompressed(String file) {
+        return file.endsWith(COMPRESSED_EXTENSION);
+    }
+
+    /*
+     * EFFECTS: opens the given file for reading and returns a buffered stream of its bytes, decompressed if compressed
+     *          is true; throws IOException if the file cannot be opened or does not start with a GZIP header when
+     *          compressed is true
+     */
+    static InputStream openInput(String file, boolean compressed) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            return compressed ? new GZIPInputStream(in, BUFFER_SIZE) : new BufferedInputStream(in, BUFFER_SIZE);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /*
+     * EFFECTS: creates or truncates the given file and returns a stream that writes to it, compressing the bytes if
+     *          compressed is true; the stream does not buffer uncompressed bytes itself. Throws IOException if the
+     *          file cannot be opened
+     */
+    static OutputStream openOutput(String file, boolean compressed) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            return compressed ? new FastGzipOutputStream(out) : out;
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    // Represents a GZIP stream that deflates at COMPRESSION_LEVEL
+    private static class FastGzipOutputStream extends GZIPOutputStream {
+
+        /*
+         * EFFECTS: creates a stream that writes the compressed bytes to the given stream
+         */
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(COMPRESSION_LEVEL);
+        }
+    }
+}
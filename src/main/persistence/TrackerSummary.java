@@ -0,0 +1,101 @@
+package persistence;
+
+import model.JobApplicationStatus;
+import model.JobApplicationTracker;
+
+// Represents the header of a saved job application tracker: its name, its number of job applications, and its number
+// of job applications per status. A summary can be read without reading the job applications themselves, so it is
+// available at once however large the tracker is
+public class TrackerSummary {
+    private static final JobApplicationStatus[] STATUSES = JobApplicationStatus.values(); // the statuses by ordinal
+
+    private final String name; // the name of the tracker
+    private final int[] statusCounts; // the number of job applications per status, by ordinal
+    private int size; // the number of job applications in the tracker
+
+    /*
+     * REQUIRES: statusCounts.length == JobApplicationStatus.values().length and every count is >= 0
+     * EFFECTS: creates a summary of a tracker with the given name and the given number of job applications per status,
+     *          indexed by ordinal
+     */
+    TrackerSummary(String name, int[] statusCounts) {
+        this.name = name;
+        this.statusCounts = statusCounts.clone();
+        for (int count : statusCounts) {
+            size += count;
+        }
+    }
+
+    /*
+     * EFFECTS: returns a summary of the given tracker as it is now
+     */
+    public static TrackerSummary of(JobApplicationTracker tracker) {
+        int[] counts = new int[STATUSES.length];
+        for (JobApplicationStatus s : STATUSES) {
+            counts[s.ordinal()] = tracker.count(s);
+        }
+        return new TrackerSummary(tracker.getName(), counts);
+    }
+
+    /*
+     * EFFECTS: returns the name of the tracker
+     */
+    public String getName() {
+        return name;
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the tracker
+     */
+    public int size() {
+        return size;
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications in the tracker with the given status
+     */
+    public int count(JobApplicationStatus status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    /*
+     * EFFECTS: returns the percentage of job applications in the tracker with the given status, or 0 if the tracker
+     *          has no job applications
+     */
+    public double calculatePercentage(JobApplicationStatus status) {
+        if (size == 0) {
+            return 0;
+        }
+        return (double) count(status) / size;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: counts one more job application with the given status
+     */
+    void add(JobApplicationStatus status) {
+        statusCounts[status.ordinal()]++;
+        size++;
+    }
+
+    /*
+     * REQUIRES: count(status) > 0
+     * MODIFIES: this
+     * EFFECTS: counts one fewer job application with the given status
+     */
+    void remove(JobApplicationStatus status) {
+        statusCounts[status.ordinal()]--;
+        size--;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: counts no job applications under any status
+     */
+    void clear() {
+        for (int i = 0; i < statusCounts.length; i++) {
+            statusCounts[i] = 0;
+        }
+        size = 0;
+    }
+}
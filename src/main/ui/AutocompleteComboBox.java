@@ -0,0 +1,96 @@
+package ui;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.JTextComponent;
+import java.util.ArrayList;
+import java.util.function.Function;
+
+// Represents an editable combo box that suggests completions for the text typed into it
+public class AutocompleteComboBox extends JComboBox<String> implements DocumentListener {
+    private Function<String, ArrayList<String>> completer; // returns the suggestions for the text typed so far
+    private JTextComponent editor; // the text field the user types into
+    private boolean updating; // true while the suggestions are being replaced
+
+    /*
+     * EFFECTS: creates an editable combo box whose suggestions are produced by the given completer
+     */
+    public AutocompleteComboBox(Function<String, ArrayList<String>> completer) {
+        this.completer = completer;
+        setEditable(true);
+        editor = (JTextComponent) getEditor().getEditorComponent();
+        editor.getDocument().addDocumentListener(this);
+    }
+
+    /*
+     * EFFECTS: returns the text currently entered in the combo box
+     */
+    public String getText() {
+        return editor.getText();
+    }
+
+    /*
+     * EFFECTS: moves keyboard focus to the text field once the combo box is displayed
+     */
+    public void focusTextLater() {
+        SwingUtilities.invokeLater(editor::requestFocusInWindow);
+    }
+
+    /*
+     * EFFECTS: schedules the suggestions to be updated after text was typed
+     */
+    @Override
+    public void insertUpdate(DocumentEvent e) {
+        scheduleSuggestions();
+    }
+
+    /*
+     * EFFECTS: schedules the suggestions to be updated after text was deleted
+     */
+    @Override
+    public void removeUpdate(DocumentEvent e) {
+        scheduleSuggestions();
+    }
+
+    /*
+     * EFFECTS: does nothing, since plain text fields do not change attributes
+     */
+    @Override
+    public void changedUpdate(DocumentEvent e) {
+        // Attribute changes do not affect suggestions
+    }
+
+    /*
+     * EFFECTS: updates the suggestions once the current document change has been processed, unless the change was
+     *          made by this combo box itself
+     */
+    private void scheduleSuggestions() {
+        if (!updating) {
+            SwingUtilities.invokeLater(this::updateSuggestions);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: replaces the suggestions with the completions of the current text, keeping the text and caret where
+     *          the user left them, and shows the suggestions if there are any
+     */
+    private void updateSuggestions() {
+        String text = editor.getText();
+        int caret = editor.getCaretPosition();
+        ArrayList<String> suggestions = completer.apply(text);
+
+        updating = true;
+        setModel(new DefaultComboBoxModel<>(suggestions.toArray(new String[0])));
+        editor.setText(text);
+        editor.setCaretPosition(Math.min(caret, text.length()));
+        updating = false;
+
+        if (!suggestions.isEmpty() && isShowing()) {
+            showPopup();
+        } else {
+            hidePopup();
+        }
+    }
+}
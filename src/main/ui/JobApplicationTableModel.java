@@ -0,0 +1,553 @@
+package ui;
+
+import model.JobApplication;
+import model.JobApplicationField;
+import model.JobApplicationTracker;
+import model.JobApplicationTrackerListener;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Represents the rows of the tracker table: the job applications of a tracker that pass the filter, in the order they
+// are shown, kept in an array of the model's own. A flush finds the rows of the job applications touched since the
+// last flush by binary search, skipping the rows of the others touched, and moves only those rows, so the rows that
+// were not touched are never compared or sorted again
+public class JobApplicationTableModel extends AbstractTableModel implements JobApplicationTrackerListener {
+    private static final String[] COLUMN_NAMES = {"Submission Date", "Company", "Role", "Status"}; // the headers
+    private static final JobApplicationField[] FIELDS = {JobApplicationField.SUBMISSION_DATE,
+        JobApplicationField.COMPANY_NAME, JobApplicationField.ROLE_NAME, JobApplicationField.STATUS}; // by column
+    private static final int MAX_TOUCHED = 64; // the most changed job applications noted before a full refresh
+
+    private JobApplicationTracker tracker; // the tracker whose job applications are shown
+    private JobApplication[] rows; // the job applications shown, one per row, followed by unused slots
+    private int rowCount; // the number of rows shown
+    private Comparator<JobApplication> order; // the order of the rows
+    private JobApplicationField sortField; // the field the rows are sorted by, null for the order they were added
+    private boolean descending; // true if the rows are sorted from last to first
+    private JobApplicationField filterField; // the field the rows are filtered by
+    private String filterPrefix; // the prefix the filtered field must start with, empty to show every row
+    private Map<JobApplication, Integer> touched; // the job applications touched since the last flush, with their rows
+    private Set<JobApplication> detached; // the touched job applications that are no longer in the tracker
+    private boolean overflow; // true if more job applications were touched than could be noted, or all were removed
+    private boolean changesPending; // true if job applications have been modified since the last flush
+    private boolean flushScheduled; // true if a flush is waiting to run on the event dispatch thread
+
+    /*
+     * REQUIRES: tracker is only changed on the event dispatch thread
+     * MODIFIES: tracker
+     * EFFECTS: creates a model showing the job applications of the given tracker in the order they were added,
+     *          unfiltered, and starts listening to the tracker
+     */
+    public JobApplicationTableModel(JobApplicationTracker tracker) {
+        this.tracker = tracker;
+        filterField = FIELDS[0];
+        filterPrefix = "";
+        touched = new IdentityHashMap<>();
+        detached = Collections.newSetFromMap(new IdentityHashMap<>());
+        load();
+        tracker.addListener(this);
+    }
+
+    /*
+     * MODIFIES: this, tracker
+     * EFFECTS: stops listening to the current tracker, shows the job applications of the given tracker instead and
+     *          listens to it, and tells the table that all rows have changed
+     */
+    public void setTracker(JobApplicationTracker tracker) {
+        this.tracker.removeListener(this);
+        this.tracker = tracker;
+        tracker.addListener(this);
+        reload();
+    }
+
+    /*
+     * REQUIRES: 0 <= column < getColumnCount()
+     * MODIFIES: this
+     * EFFECTS: sorts the rows by the given column from first to last if they are not sorted by it yet, from last to
+     *          first if they are sorted by it from first to last, and otherwise goes back to the order the job
+     *          applications were added in; tells the table that all rows have changed
+     */
+    public void sortBy(int column) {
+        if (sortField != FIELDS[column]) {
+            sortField = FIELDS[column];
+            descending = false;
+        } else if (!descending) {
+            descending = true;
+        } else {
+            sortField = null;
+            descending = false;
+        }
+        reload();
+    }
+
+    /*
+     * REQUIRES: 0 <= column < getColumnCount() and submission dates have four-digit years
+     * MODIFIES: this
+     * EFFECTS: shows only the job applications whose text in the given column starts with the given prefix, ignoring
+     *          case, or every job application if the prefix is empty; tells the table that all rows have changed
+     */
+    public void setFilter(int column, String prefix) {
+        filterField = FIELDS[column];
+        filterPrefix = prefix;
+        reload();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: notes that a row may have to be inserted for j
+     */
+    @Override
+    public void jobApplicationAdded(JobApplication j) {
+        if (touch(j, null)) {
+            detached.remove(j);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: notes that the row of j, if it is shown, has to be deleted
+     */
+    @Override
+    public void jobApplicationRemoved(JobApplication j) {
+        if (touch(j, j)) {
+            detached.add(j);
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: notes that the row of j has to be repainted, or moved if the rows are sorted or filtered
+     */
+    @Override
+    public void jobApplicationChanged(JobApplication j, JobApplication old) {
+        changesPending = true;
+        touch(j, old);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: notes that all rows have to be deleted
+     */
+    @Override
+    public void jobApplicationsCleared() {
+        overflow = true;
+        scheduleFlush();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: brings the rows shown up to date with the tracker and tells the table which rows were deleted,
+     *          inserted, and updated since the last flush, or that all rows have changed if there are too many runs of
+     *          them. The rows of the touched job applications are deleted and their new rows found by binary search;
+     *          only if too many job applications were touched to note are the rows read from the tracker again and
+     *          walked from start to end. Every change made during one turn of the event dispatch thread is flushed
+     *          together on its next turn, so a bulk change repaints the table once
+     */
+    void flush() {
+        flushScheduled = false;
+        if (overflow) {
+            flushAll();
+        } else {
+            flushTouched();
+        }
+        clearPending();
+    }
+
+    /*
+     * REQUIRES: 0 <= row < getRowCount()
+     * EFFECTS: returns the job application shown in the given row
+     */
+    public JobApplication getJobApplicationAt(int row) {
+        return rows[row];
+    }
+
+    /*
+     * EFFECTS: returns the number of job applications shown
+     */
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /*
+     * EFFECTS: returns the number of columns: submission date, company, role, and status
+     */
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    /*
+     * EFFECTS: returns the header of the given column, followed by an arrow pointing up or down if the rows are
+     *          sorted by it from first to last or from last to first
+     */
+    @Override
+    public String getColumnName(int column) {
+        if (FIELDS[column] != sortField) {
+            return COLUMN_NAMES[column];
+        }
+        return COLUMN_NAMES[column] + (descending ? " \u25BC" : " \u25B2");
+    }
+
+    /*
+     * EFFECTS: returns the type of the values in every column, which are all text
+     */
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return String.class;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: reads the job applications of the tracker that pass the filter into the rows, in the order they are
+     *          shown; both are served by the orders the tracker keeps by each field
+     */
+    private void load() {
+        List<JobApplication> view;
+        if (!filterPrefix.isEmpty()) {
+            view = tracker.getJobApplications(sortField, filterField, filterPrefix);
+        } else if (sortField != null) {
+            view = tracker.getJobApplications(sortField);
+        } else {
+            view = tracker.getJobApplications();
+        }
+
+        rows = view.toArray(new JobApplication[0]);
+        rowCount = rows.length;
+        order = tracker.getOrder(sortField);
+        if (descending) {
+            Collections.reverse(Arrays.asList(rows));
+            order = order.reversed();
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: shows the job applications of the tracker again as they are now, forgetting any changes noted since
+     *          the last flush, and tells the table that all rows have changed
+     */
+    private void reload() {
+        load();
+        clearPending();
+        fireTableDataChanged();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: arranges for a flush and notes that j was touched along with its row, found under the fields of
+     *          shownAs, or no row if shownAs is null; j keeps the row noted when it was first touched since the last
+     *          flush. Returns false without noting j if too many job applications have been touched already
+     */
+    private boolean touch(JobApplication j, JobApplication shownAs) {
+        scheduleFlush();
+        if (touched.containsKey(j)) {
+            return true;
+        } else if (overflow || touched.size() >= MAX_TOUCHED) {
+            overflow = true;
+            return false;
+        }
+
+        int row = shownAs == null ? rowCount : find(shownAs, j);
+        touched.put(j, row < rowCount && rows[row] == j ? row : -1);
+        return true;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: forgets the changes noted since the last flush
+     */
+    private void clearPending() {
+        touched.clear();
+        detached.clear();
+        overflow = false;
+        changesPending = false;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: arranges for flush to run on the next turn of the event dispatch thread, unless it already will
+     */
+    private void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            SwingUtilities.invokeLater(this::flush);
+        }
+    }
+
+    /*
+     * EFFECTS: returns the first row, not holding a touched job application, whose job application is j or does not
+     *          sort before key, or getRowCount() if there is none; the rows of touched job applications are skipped,
+     *          and the row of j is not compared, since their fields may no longer match their rows
+     */
+    private int find(JobApplication key, JobApplication j) {
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int middle = nextUntouched((low + high) >>> 1, high);
+            if (middle == high) {
+                high = (low + high) >>> 1;
+            } else if (rows[middle] != j && order.compare(rows[middle], key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return nextUntouched(low, rowCount);
+    }
+
+    /*
+     * EFFECTS: returns the first row from row up to end that does not hold a touched job application, or end if
+     *          there is none
+     */
+    private int nextUntouched(int row, int end) {
+        while (row < end && touched.containsKey(rows[row])) {
+            row++;
+        }
+        return row;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: deletes the rows noted for the touched job applications, inserts a row for each of them that is still
+     *          in the tracker and passes the filter, and tells the table which rows changed; a job application whose
+     *          row did not move among the rows that were not touched is told as updated rather than moved
+     */
+    private void flushTouched() {
+        int[] gone = touchedRows();
+        JobApplication[] arriving = arriving();
+        int[] at = new int[arriving.length];
+        for (int i = 0; i < arriving.length; i++) {
+            int row = find(arriving[i], null);
+            at[i] = row - rank(gone, row) + i;
+        }
+
+        ArrayList<int[]> deleted = new ArrayList<>();
+        ArrayList<int[]> inserted = new ArrayList<>();
+        ArrayList<int[]> updated = new ArrayList<>();
+        findRuns(gone, arriving, at, deleted, inserted, updated);
+        move(gone, arriving, at);
+        if (deleted.size() + inserted.size() + updated.size() <= MAX_TOUCHED) {
+            fireRuns(deleted, inserted, updated);
+        } else {
+            fireTableDataChanged();
+        }
+    }
+
+    /*
+     * EFFECTS: returns the rows noted for the touched job applications that were shown, from first to last
+     */
+    private int[] touchedRows() {
+        int[] gone = new int[touched.size()];
+        int n = 0;
+        for (int row : touched.values()) {
+            if (row >= 0) {
+                gone[n++] = row;
+            }
+        }
+        gone = Arrays.copyOf(gone, n);
+        Arrays.sort(gone);
+        return gone;
+    }
+
+    /*
+     * EFFECTS: returns the touched job applications that are in the tracker and pass the filter, in the order of the
+     *          rows
+     */
+    private JobApplication[] arriving() {
+        ArrayList<JobApplication> arriving = new ArrayList<>();
+        for (JobApplication j : touched.keySet()) {
+            if (!detached.contains(j) && (filterPrefix.isEmpty() || filterField.matches(j, filterPrefix))) {
+                arriving.add(j);
+            }
+        }
+        JobApplication[] sorted = arriving.toArray(new JobApplication[0]);
+        Arrays.sort(sorted, order);
+        return sorted;
+    }
+
+    /*
+     * REQUIRES: gone is sorted and at[i] is the new row of arriving[i]
+     * MODIFIES: deleted, inserted, updated
+     * EFFECTS: adds the rows of gone to deleted and the rows of at to inserted, except that a job application noted
+     *          in gone that arrives with as many untouched rows before it as it had is added to updated, as long as
+     *          the job applications added to updated stay in the same order among themselves
+     */
+    private void findRuns(int[] gone, JobApplication[] arriving, int[] at, ArrayList<int[]> deleted,
+                          ArrayList<int[]> inserted, ArrayList<int[]> updated) {
+        boolean[] stayed = new boolean[gone.length];
+        boolean[] kept = new boolean[arriving.length];
+        int last = -1;
+        for (int i = 0; i < arriving.length; i++) {
+            int row = touched.get(arriving[i]);
+            int g = Arrays.binarySearch(gone, row);
+            if (row > last && row - g == at[i] - i) {
+                stayed[g] = true;
+                kept[i] = true;
+                last = row;
+            }
+        }
+
+        for (int g = 0; g < gone.length; g++) {
+            if (!stayed[g]) {
+                addToRuns(deleted, gone[g]);
+            }
+        }
+        for (int i = 0; i < arriving.length; i++) {
+            addToRuns(kept[i] ? updated : inserted, at[i]);
+        }
+    }
+
+    /*
+     * REQUIRES: gone is sorted, at is sorted, and at[i] is the new row of arriving[i]
+     * MODIFIES: this
+     * EFFECTS: removes the rows of gone and puts each of arriving in its new row, shifting only the rows from the
+     *          first one that changes
+     */
+    private void move(int[] gone, JobApplication[] arriving, int[] at) {
+        int from = Math.min(gone.length > 0 ? gone[0] : rowCount, at.length > 0 ? at[0] : rowCount);
+        JobApplication[] tail = Arrays.copyOfRange(rows, from, rowCount);
+        int size = rowCount - gone.length + arriving.length;
+        if (size > rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(size, 2 * rows.length));
+        }
+
+        int g = 0;
+        int a = 0;
+        int w = from;
+        for (int t = 0; t < tail.length; t++) {
+            while (a < at.length && at[a] == w) {
+                rows[w++] = arriving[a++];
+            }
+            if (g < gone.length && gone[g] == from + t) {
+                g++;
+            } else {
+                rows[w++] = tail[t];
+            }
+        }
+        while (a < arriving.length) {
+            rows[w++] = arriving[a++];
+        }
+        Arrays.fill(rows, w, Math.max(w, rowCount), null);
+        rowCount = w;
+    }
+
+    /*
+     * EFFECTS: returns the number of entries of the sorted array rows that are less than row
+     */
+    private static int rank(int[] rows, int row) {
+        int i = Arrays.binarySearch(rows, row);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: reads the rows from the tracker again and tells the table which rows were deleted and inserted if the
+     *          old and new rows differ only by rows deleted from the rows in the order the job applications were
+     *          added, unfiltered, or at their end, and otherwise that all rows have changed
+     */
+    private void flushAll() {
+        JobApplication[] old = rows;
+        int oldCount = rowCount;
+        load();
+
+        ArrayList<int[]> deleted = new ArrayList<>();
+        ArrayList<int[]> inserted = new ArrayList<>();
+        if (!changesPending && findMoved(old, oldCount, deleted, inserted)
+                && deleted.size() + inserted.size() <= MAX_TOUCHED) {
+            fireRuns(deleted, inserted, new ArrayList<>());
+        } else {
+            fireTableDataChanged();
+        }
+    }
+
+    /*
+     * MODIFIES: deleted, inserted
+     * EFFECTS: walks the first oldCount of old and the rows together, comparing them by reference, and adds to deleted
+     *          the runs of old that are no longer shown and to inserted the runs of rows added at the end; where they
+     *          differ before the end, the row of old was deleted if the rows are in the order the job applications
+     *          were added, unfiltered, since new job applications then only ever come at the end, and otherwise
+     *          returns false
+     */
+    private boolean findMoved(JobApplication[] old, int oldCount, ArrayList<int[]> deleted,
+                              ArrayList<int[]> inserted) {
+        boolean appendOnly = sortField == null && !descending && filterPrefix.isEmpty();
+        int i = 0;
+        int k = 0;
+        while (i < oldCount && k < rowCount) {
+            if (old[i] == rows[k]) {
+                i++;
+                k++;
+            } else if (appendOnly) {
+                addToRuns(deleted, i++);
+            } else {
+                return false;
+            }
+        }
+        addRun(deleted, i, oldCount - 1);
+        addRun(inserted, k, rowCount - 1);
+        return true;
+    }
+
+    /*
+     * EFFECTS: tells the table that the given runs of rows were deleted, last first so that the earlier runs keep
+     *          their positions, then that the given runs of rows were inserted, and then that the given runs of rows
+     *          were updated
+     */
+    private void fireRuns(ArrayList<int[]> deleted, ArrayList<int[]> inserted, ArrayList<int[]> updated) {
+        for (int r = deleted.size() - 1; r >= 0; r--) {
+            fireTableRowsDeleted(deleted.get(r)[0], deleted.get(r)[1]);
+        }
+        for (int[] run : inserted) {
+            fireTableRowsInserted(run[0], run[1]);
+        }
+        for (int[] run : updated) {
+            fireTableRowsUpdated(run[0], run[1]);
+        }
+    }
+
+    /*
+     * REQUIRES: first is greater than the end of every run in runs
+     * MODIFIES: runs
+     * EFFECTS: adds the indexes from first to last to runs, extending the last run if it ends just before first;
+     *          adds nothing if last < first
+     */
+    private static void addRun(ArrayList<int[]> runs, int first, int last) {
+        if (first <= last) {
+            addToRuns(runs, first);
+            runs.get(runs.size() - 1)[1] = last;
+        }
+    }
+
+    /*
+     * REQUIRES: index is greater than the end of every run in runs
+     * MODIFIES: runs
+     * EFFECTS: extends the last run of runs to the given index if it ends just before it, otherwise starts a new run
+     *          holding only the given index; each run is its first and last index
+     */
+    private static void addToRuns(ArrayList<int[]> runs, int index) {
+        if (!runs.isEmpty() && runs.get(runs.size() - 1)[1] == index - 1) {
+            runs.get(runs.size() - 1)[1] = index;
+        } else {
+            runs.add(new int[] {index, index});
+        }
+    }
+
+    /*
+     * REQUIRES: 0 <= row < getRowCount() and 0 <= column < getColumnCount()
+     * EFFECTS: returns the text of the given field of the job application in the given row; dates are formatted
+     *          through the IsoDates cache, and names and statuses are returned as they are stored. The table only asks
+     *          for the rows it paints, so showing it takes the same time however many job applications there are
+     */
+    @Override
+    public Object getValueAt(int row, int column) {
+        return FIELDS[column].text(rows[row]);
+    }
+}
@@ -3,12 +3,14 @@ package ui;
 import model.JobApplication;
 import model.JobApplicationTracker;
 import model.JobApplicationStatus;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import persistence.JournaledStore;
+import persistence.SaveReport;
+import persistence.TrackerSummary;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 // Represents the job application tracker application
 public class JobTrackApp {
@@ -19,13 +21,16 @@ public class JobTrackApp {
     private static final String UPDATE_STATUS_COMMAND = "update";
     private static final String VIEW_TRACKER_COMMAND = "tracker";
     private static final String VIEW_STATS_COMMAND = "stats";
+    private static final String SEARCH_COMMAND = "search";
     private static final String EXIT_COMMAND = "exit";
     private static final String JSON_STORE = "./data/jobApplicationTracker.json";
+    private static final int SEARCH_LIMIT = 20; // the maximum number of search results to print
 
     private Scanner input; // the scanner for user input
     private JobApplicationTracker jobApplicationTracker; // the tracker containing the user's job applications
-    private JsonReader jsonReader; // the JSON file reader
-    private JsonWriter jsonWriter; // the JSON file writer
+    private JournaledStore store; // the store that saves the tracker as a snapshot and a journal of changes
+    private TrackerSummary loadingSummary; // the summary of the saved tracker being loaded, null if none
+    private FutureTask<JobApplicationTracker> loader; // loads the saved tracker in the background, null if none
 
     /*
      * MODIFIES: this
@@ -64,18 +69,18 @@ public class JobTrackApp {
             }
         }
 
+        closeStore();
         System.out.println("Thank you for using JobTrack.");
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: initializes the job application list, scanner, and JSON file reader
+     * EFFECTS: initializes the job application list, scanner, and journaled store
      */
     private void initialize() {
         jobApplicationTracker = new JobApplicationTracker("Sophia's Job Application Tracker");
         input = new Scanner(System.in);
-        jsonReader = new JsonReader(JSON_STORE);
-        jsonWriter = new JsonWriter(JSON_STORE);
+        store = new JournaledStore(JSON_STORE);
     }
 
     /*
@@ -97,49 +102,99 @@ public class JobTrackApp {
 
     /*
      * MODIFIES: this
-     * EFFECTS: loads job application tracker from file, prints error message in case of IOException
+     * EFFECTS: reads the summary of the job application tracker from file and starts loading its job applications on
+     *          a background thread, prints error message in case of IOException
      * Based on JsonSerializationDemo-master project provided by the CPSC 210 teaching team
      */
     private void loadJobApplicationTracker() {
         try {
-            jobApplicationTracker = jsonReader.read();
-            System.out.println("Successfully loaded '" + jobApplicationTracker.getName() + "' from " + JSON_STORE
-                    + ".");
+            loadingSummary = store.loadSummary();
+            System.out.println("Successfully loaded '" + loadingSummary.getName() + "' from " + JSON_STORE + " ("
+                    + loadingSummary.size() + " job applications).");
         } catch (IOException ioe) {
             System.out.println("ERROR: '" + JSON_STORE + "' could not be read.");
+            return;
         }
+
+        loader = new FutureTask<>(store::load);
+        Thread thread = new Thread(loader, "tracker-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: waits for the saved tracker being loaded in the background, if any, and replaces the tracker with it,
+     *          prints error message if it could not be read
+     */
+    private void awaitJobApplicationTracker() {
+        if (loader == null) {
+            return;
+        }
+
+        try {
+            jobApplicationTracker = loader.get();
+        } catch (ExecutionException e) {
+            System.out.println("ERROR: '" + JSON_STORE + "' could not be read.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        loader = null;
+        loadingSummary = null;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: returns the summary of the tracker; while the saved tracker is still being loaded, returns the summary
+     *          read from file instead of waiting for it
+     */
+    private TrackerSummary summarizeJobApplicationTracker() {
+        if (loader != null && !loader.isDone()) {
+            return loadingSummary;
+        }
+        awaitJobApplicationTracker();
+        return TrackerSummary.of(jobApplicationTracker);
     }
 
     /*
+     * MODIFIES: this
      * EFFECTS: prints out the main menu containing available user options
      */
     private void showMainMenu() {
+        int size = summarizeJobApplicationTracker().size();
         System.out.println();
         System.out.println("Select an option by typing the keyword to the left of '->' and pressing Enter:");
 
         System.out.println(ADD_COMMAND + " -> add a job application to your tracker");
 
-        if (jobApplicationTracker.getJobApplications().size() > 0) {
+        if (size > 0) {
             System.out.println(DELETE_COMMAND + " -> delete a job application from your tracker");
             System.out.println(UPDATE_STATUS_COMMAND + " -> update the status of an existing job application");
             System.out.println(VIEW_TRACKER_COMMAND + " -> view all job applications in your tracker");
             System.out.println(VIEW_STATS_COMMAND + " -> view job application statistics");
+            System.out.println(SEARCH_COMMAND + " -> search your job applications by company or role");
         }
 
         System.out.println(EXIT_COMMAND + " -> exit program");
         System.out.println();
 
-        if (jobApplicationTracker.getJobApplications().size() == 0) {
+        if (size == 0) {
             System.out.println("TIP: Unlock more options by adding your first job application now!");
         }
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: presents user with the option to save data, saves data to file if user says yes and prints
-     *          confirmation message if user says no
+     * EFFECTS: presents user with the option to save data if the tracker has been changed since it was last loaded or
+     *          saved, saves data to file if user says yes and prints confirmation message if user says no
      */
     private void showOptionToSave() {
+        awaitJobApplicationTracker();
+        if (!jobApplicationTracker.isDirty()) {
+            System.out.println("There are no unsaved changes.");
+            return;
+        }
+
         System.out.println("Would you like to save your work before quitting? Type yes or no and press Enter:");
         String command = input.nextLine();
         command = command.toLowerCase();
@@ -153,25 +208,43 @@ public class JobTrackApp {
 
     /*
      * MODIFIES: this
-     * EFFECTS: saves the job application tracker to file, prints error message in case of FileNotFoundException
+     * EFFECTS: saves the job application tracker to file, prints error message in case of IOException; only the
+     *          changes made since the tracker was last loaded or saved are written
      * Based on JsonSerializationDemo-master project provided by the CPSC 210 teaching team
      */
     private void saveJobApplicationTracker() {
         try {
-            jsonWriter.open();
-            jsonWriter.write(jobApplicationTracker);
-            jsonWriter.close();
-            System.out.println("Successfully saved '" + jobApplicationTracker.getName() + "' to " + JSON_STORE + ".");
-        } catch (FileNotFoundException e) {
+            SaveReport report = store.save(jobApplicationTracker);
+            System.out.println("Successfully saved '" + jobApplicationTracker.getName() + "' to " + JSON_STORE + " ("
+                    + report + ").");
+        } catch (IOException e) {
             System.out.println("ERROR: " + JSON_STORE + " could not be written to. Your data will not be saved.");
         }
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: executes the command given by the user in the main menu
+     * EFFECTS: waits for the store to finish compacting its journal and closes it, prints error message in case of
+     *          IOException
+     */
+    private void closeStore() {
+        try {
+            store.close();
+        } catch (IOException e) {
+            System.out.println("ERROR: " + JSON_STORE + " could not be closed.");
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: executes the command given by the user in the main menu; every command but viewing the statistics
+     *          first waits for the saved tracker being loaded, if any
      */
     private void executeCommand(String command) {
+        if (!command.equals(VIEW_STATS_COMMAND)) {
+            awaitJobApplicationTracker();
+        }
+
         if (command.equals(ADD_COMMAND)) {
             addJobApplication();
         } else if (command.equals(DELETE_COMMAND)) {
@@ -182,6 +255,8 @@ public class JobTrackApp {
             printAllJobApplications();
         } else if (command.equals(VIEW_STATS_COMMAND)) {
             printJobApplicationStatistics();
+        } else if (command.equals(SEARCH_COMMAND)) {
+            searchJobApplications();
         } else {
             System.out.println("Invalid command. Please try again.");
         }
@@ -287,21 +362,41 @@ public class JobTrackApp {
     }
 
     /*
+     * EFFECTS: prompts the user for a search query and prints the job applications whose company or role names
+     *          best match it
+     */
+    private void searchJobApplications() {
+        System.out.println();
+        System.out.println("Type part of a company or role name and press Enter:");
+        String query = input.nextLine();
+
+        System.out.println();
+        System.out.println("DATE APPLIED | COMPANY | ROLE | STATUS");
+
+        for (JobApplication j : jobApplicationTracker.search(query, SEARCH_LIMIT)) {
+            System.out.println(j.getSubmissionDate() + " | " + j.getCompanyName() + " | " + j.getRoleName() + " | "
+                    + j.getStatus());
+        }
+        System.out.println();
+    }
+
+    /*
+     * MODIFIES: this
      * EFFECTS: prints the job application statistics, including the number and percentage of job applications under
-     *          each status category
+     *          each status category; these are available from the summary of the saved tracker while it is loading
      */
     private void printJobApplicationStatistics() {
+        TrackerSummary summary = summarizeJobApplicationTracker();
         System.out.println();
         System.out.println("Number of Job Applications Per Status Category");
         for (JobApplicationStatus s : JobApplicationStatus.values()) {
-            System.out.println(s + ": " + jobApplicationTracker.count(s));
+            System.out.println(s + ": " + summary.count(s));
         }
 
         System.out.println();
         System.out.println("Percentage of Total Job Applications Per Status Category");
         for (JobApplicationStatus s : JobApplicationStatus.values()) {
-            System.out.println(s + ": " + String.format("%.2f", jobApplicationTracker.calculatePercentage(s) * 100.0)
-                                + "%");
+            System.out.println(s + ": " + String.format("%.2f", summary.calculatePercentage(s) * 100.0) + "%");
         }
     }
 }
\ No newline at end of file
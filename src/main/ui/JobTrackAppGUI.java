@@ -3,16 +3,22 @@ package ui;
 import model.Event;
 import model.EventLog;
 import model.JobApplication;
+import model.JobApplicationStatus;
 import model.JobApplicationTracker;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import persistence.JournaledStore;
+import persistence.SaveReport;
+import persistence.TrackerSummary;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
-import java.io.FileNotFoundException;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 
 // Represents the JobTrack Application GUI
 public class JobTrackAppGUI extends JFrame {
@@ -20,16 +26,26 @@ public class JobTrackAppGUI extends JFrame {
     private static final int HEIGHT = 800; // the height of this window
     private static final String JSON_STORE = "./data/jobApplicationTracker.json"; // the file path to user data
     private static final String LOGO_STORE = "./data/jobTrackLogo.png"; // the file path to the JobTrack logo
+    private static final int AUTOCOMPLETE_LIMIT = 8; // the maximum number of name suggestions shown in a prompt
 
     private JobApplicationTracker jobApplicationTracker; // the tracker containing the user's job applications
-    private JsonReader jsonReader; // the JSON file reader
-    private JsonWriter jsonWriter; // the JSON file writer
+    private JournaledStore store; // the store that saves the tracker as a snapshot and a journal of changes
+    private TrackerSummary savedSummary; // the summary of the saved tracker read at startup, null if unreadable
+    private TrackerSummary loadingSummary; // the summary of the saved tracker still to be loaded, null if none
+    private TrackerLoader loader; // the worker loading the saved tracker in the background, null if none
+    private int startupTasks; // the number of startup workers that have not finished yet
 
     private JLabel logoLabel; // the label containing the JobTrack logo
+    private JProgressBar progressBar; // the bar shown while data is being loaded or saved
     private JMenuBar menuBar; // the menu bar
+    private JMenu trackerMenu; // the "Tracker" menu, disabled while the saved tracker is being loaded
     private JPanel trackerPanel; // the panel displaying the job application tracker
     private JTable trackerTable; // the table containing the job application tracker data
-    private DefaultTableModel tableModel; // the model for the table data
+    private JobApplicationTableModel tableModel; // the model reading the table data from the tracker
+    private JComboBox<String> filterColumn; // the column the filter bar filters the table by
+    private JTextField filterText; // the text the filtered column must start with
+    private JLabel summaryLabel; // the label showing the name, size, and status counts of the tracker
+    private StatisticsPanel statisticsPanel; // the dashboard showing live statistics of the tracker
 
     private EventLog eventLog; // the event log for the job application tracker
 
@@ -45,20 +61,20 @@ public class JobTrackAppGUI extends JFrame {
 
     /*
      * MODIFIES: this
-     * EFFECTS: initializes the job application tracker with title "Sophia's Job Application Tracker", JSON
-     *          file reader, and JSON file writer
+     * EFFECTS: initializes the job application tracker with title "Sophia's Job Application Tracker" and the
+     *          journaled store
      */
     private void initializeFields() {
         jobApplicationTracker = new JobApplicationTracker("Sophia's Job Application Tracker");
-        jsonReader = new JsonReader(JSON_STORE);
-        jsonWriter = new JsonWriter(JSON_STORE);
+        store = new JournaledStore(JSON_STORE);
         eventLog = EventLog.getInstance();
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: configures the JFrame window where JobTrackAppGUI will run, adds and displays the JobTrack logo for 3
-     *          seconds, displays the load data prompt, and adds menu bar, tracker panel, and tracker table
+     * EFFECTS: configures the JFrame window where JobTrackAppGUI will run, adds the logo label, progress bar, and
+     *          hidden menu bar, displays the window, and starts loading the JobTrack logo and the saved data on
+     *          background threads; the rest of the window is built once they have finished
      */
     private void initializeGraphics() {
         setLayout(new BorderLayout());
@@ -67,61 +83,95 @@ public class JobTrackAppGUI extends JFrame {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 
         addLogoLabel();
+        addProgressBar();
         addMenuBar();
-
-        displayLogoForThreeSeconds();
-        displayLoadDataPrompt();
-
-        addTrackerPanel();
-        addTrackerTable();
-        menuBar.setVisible(true);
         setVisible(true);
+        startStartupTasks();
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: creates and adds the JobTrack logo to the center of the window
+     * EFFECTS: creates and adds an empty label for the JobTrack logo to the center of the window
      */
     private void addLogoLabel() {
-        createLogoLabel();
+        logoLabel = new JLabel();
         add(logoLabel, BorderLayout.CENTER);
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: creates the JLabel for logoLabel and sets it to contain the JobTrack logo
+     * EFFECTS: creates and adds a progress bar to the south of the window, showing that data is being loaded
      */
-    private void createLogoLabel() {
-        ImageIcon logo = new ImageIcon(LOGO_STORE);
-        logoLabel = new JLabel();
-        logoLabel.setIcon(logo);
+    private void addProgressBar() {
+        progressBar = new JProgressBar();
+        progressBar.setStringPainted(true);
+        showProgress("Loading...");
+        add(progressBar, BorderLayout.SOUTH);
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: displays the JobTrack logo for 3 seconds
+     * EFFECTS: shows the progress bar with the given text, moving back and forth since the length of the task is
+     *          not known
      */
-    private void displayLogoForThreeSeconds() {
-        setVisible(true);
-        waitForThreeSeconds();
-        hideComponent(logoLabel);
+    private void showProgress(String text) {
+        progressBar.setString(text);
+        progressBar.setIndeterminate(true);
+        progressBar.setVisible(true);
     }
 
     /*
-     * EFFECTS: pauses program execution for 3 seconds, prints the stack trace in case an InterruptedException is thrown
+     * MODIFIES: this
+     * EFFECTS: hides the progress bar
      */
-    private void waitForThreeSeconds() {
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+    private void hideProgress() {
+        progressBar.setIndeterminate(false);
+        hideComponent(progressBar);
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: starts loading the JobTrack logo and reading the summary of the saved tracker, each on a background
+     *          thread
+     */
+    private void startStartupTasks() {
+        startupTasks = 2;
+        new LogoLoader().execute();
+        new SummaryLoader().execute();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: notes that a startup worker has finished; once all of them have, dismisses the progress bar, displays
+     *          the load data prompt with the logo behind it, replaces the logo with the tracker panel, tracker table,
+     *          summary label, and statistics panel, shows the menu bar, and finishes loading the saved job
+     *          applications in the background if the user chose to load them
+     */
+    private void finishStartupTask() {
+        startupTasks--;
+        if (startupTasks > 0) {
+            return;
         }
+
+        hideProgress();
+        displayLoadDataPrompt();
+
+        hideComponent(logoLabel);
+        addTrackerPanel();
+        addTrackerTable();
+        addFilterBar();
+        addSummaryLabel();
+        addStatisticsPanel();
+        menuBar.setVisible(true);
+        revalidate();
+        loadInBackground();
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: asks the user if they want to load their data from file, displays message dialog containing an
-     *          outcome message depending on user selection and whether data was loaded successfully
+     * EFFECTS: asks the user if they want to load their data from file, displays message dialog saying that the data
+     *          will not be loaded, that it is being loaded, or that it could not be read; whether it was loaded
+     *          successfully is only told once its job applications have been loaded
      */
     private void displayLoadDataPrompt() {
         int response = displayYesOrNoPrompt("load");
@@ -130,7 +180,12 @@ public class JobTrackAppGUI extends JFrame {
             JOptionPane.showMessageDialog(null, "Your data will not be loaded.",
                     "Confirmation", JOptionPane.INFORMATION_MESSAGE);
         } else if (response == 1) {
-            displayOutcomeMessage(loadJobApplicationTracker());
+            String outcome = loadJobApplicationTracker();
+            if (loadingSummary == null) {
+                displayOutcomeMessage(outcome);
+            } else {
+                JOptionPane.showMessageDialog(null, outcome, "Loading", JOptionPane.INFORMATION_MESSAGE);
+            }
         }
     }
 
@@ -161,16 +216,68 @@ public class JobTrackAppGUI extends JFrame {
 
     /*
      * MODIFIES: this
-     * EFFECTS: loads job application tracker from file, returns message indicating whether file was successfully read
+     * EFFECTS: takes the summary of the job application tracker read from file at startup, so that it can be shown
+     *          before its job applications have finished loading in the background; returns message indicating
+     *          whether the data is being loaded or could not be read
      * Based on JsonSerializationDemo-master project provided by the CPSC 210 teaching team
      */
     private String loadJobApplicationTracker() {
-        try {
-            jobApplicationTracker = jsonReader.read();
-            return "Successfully loaded '" + jobApplicationTracker.getName() + "'.";
-        } catch (IOException ioe) {
+        if (savedSummary == null) {
             return "ERROR: '" + JSON_STORE + "' could not be read. Your data will not be loaded.";
         }
+        loadingSummary = savedSummary;
+        return "Loading '" + loadingSummary.getName() + "'...";
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: if the user chose to load their data, starts loading its job applications on a background thread,
+     *          and shows its summary and the progress bar and disables the "Tracker" menu until they have been
+     *          loaded; otherwise leaves the saved data unread, so that the store is not attached to any tracker
+     */
+    private void loadInBackground() {
+        if (loadingSummary == null) {
+            return;
+        }
+
+        trackerMenu.setEnabled(false);
+        updateSummaryLabel(loadingSummary, true);
+        showProgress("Loading job applications...");
+        loader = new TrackerLoader();
+        loader.addPropertyChangeListener(e -> {
+            if (e.getNewValue() == SwingWorker.StateValue.DONE) {
+                finishLoading();
+            }
+        });
+        loader.execute();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: replaces the tracker with the one loaded in the background and shows it in the tracker table and
+     *          statistics panel, enables the "Tracker" menu again, and then displays a message saying whether the
+     *          tracker was loaded successfully
+     */
+    private void finishLoading() {
+        String outcome;
+        try {
+            jobApplicationTracker = loader.get();
+            tableModel.setTracker(jobApplicationTracker);
+            statisticsPanel.setTracker(jobApplicationTracker);
+            outcome = "Successfully loaded '" + jobApplicationTracker.getName() + "'.";
+        } catch (ExecutionException e) {
+            outcome = "ERROR: '" + JSON_STORE + "' could not be read. Your data will not be loaded.";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "ERROR: loading '" + JSON_STORE + "' was interrupted. Your data will not be loaded.";
+        }
+
+        loader = null;
+        loadingSummary = null;
+        hideProgress();
+        trackerMenu.setEnabled(true);
+        updateSummaryLabel(TrackerSummary.of(jobApplicationTracker), false);
+        displayOutcomeMessage(outcome);
     }
 
     /*
@@ -195,16 +302,16 @@ public class JobTrackAppGUI extends JFrame {
         JMenu jobTrackOption = new JMenu("JobTrack");
         menuBar.add(jobTrackOption);
 
-        JMenu trackerOption = new JMenu("Tracker");
-        menuBar.add(trackerOption);
+        trackerMenu = new JMenu("Tracker");
+        menuBar.add(trackerMenu);
 
         JMenuItem quitOption = createQuitMenuItem();
         jobTrackOption.add(quitOption);
 
         JMenuItem addOption = createAddMenuItem();
         JMenuItem deleteOption = createDeleteAllMenuItem();
-        trackerOption.add(addOption);
-        trackerOption.add(deleteOption);
+        trackerMenu.add(addOption);
+        trackerMenu.add(deleteOption);
     }
 
     /*
@@ -216,19 +323,30 @@ public class JobTrackAppGUI extends JFrame {
     }
 
     /*
-     * EFFECTS: creates and returns a menu item for quitting the application
+     * EFFECTS: creates and returns a menu item for quitting the application; the user is only asked to save if the
+     *          tracker has been changed since it was last loaded or saved
      */
     private JMenuItem createQuitMenuItem() {
         JMenuItem quitOption = new JMenuItem("Quit JobTrack");
         quitOption.addActionListener(e -> {
-            displaySaveDataPrompt();
-            printEventLog();
-            System.exit(0);
+            if (loader == null && jobApplicationTracker.isDirty()) {
+                displaySaveDataPrompt();
+            } else {
+                quit();
+            }
         });
 
         return quitOption;
     }
 
+    /*
+     * EFFECTS: prints the event log and exits the application
+     */
+    private void quit() {
+        printEventLog();
+        System.exit(0);
+    }
+
     /*
      * EFFECTS: prints all events in the event log to the console
      */
@@ -275,12 +393,12 @@ public class JobTrackAppGUI extends JFrame {
      * REQUIRES: given parameters are not empty and not null, submissionDate is in format YYYY-MM-DD, and a job
      *           application with given parameters are not already in the tracker
      * MODIFIES: this
-     * EFFECTS: creates a new job application and adds it to the tracker, adds a row containing the given parameters
-     *          and a default status of "SUBMITTED" to the tracker table
+     * EFFECTS: creates a new job application and adds it to the tracker, which adds a row for it with a default
+     *          status of "SUBMITTED" to the tracker table
      */
     private void addJobApplicationToTracker(String submissionDate, String companyName, String roleName) {
         jobApplicationTracker.add(new JobApplication(submissionDate, companyName, roleName));
-        addRowToTable(submissionDate, companyName, roleName, "SUBMITTED");
+        updateSummaryLabel(TrackerSummary.of(jobApplicationTracker), false);
     }
 
     /*
@@ -294,23 +412,42 @@ public class JobTrackAppGUI extends JFrame {
     }
 
     /*
-     * EFFECTS: prompts user to enter a company name; returns a null string if user pressed cancel, otherwise
-     *          returns the company name entered by user
+     * EFFECTS: prompts user to enter a company name, suggesting company names already in the tracker; returns a null
+     *          string if user pressed cancel, otherwise returns the company name entered by user
      */
     private String displayCompanyNamePrompt() {
-        String companyName = JOptionPane.showInputDialog("Please enter the name of the company you applied to:");
+        String companyName = displayAutocompletePrompt("Please enter the name of the company you applied to:",
+                prefix -> jobApplicationTracker.completeCompanyName(prefix, AUTOCOMPLETE_LIMIT));
         return companyName;
     }
 
     /*
-     * EFFECTS: prompts the user to enter a role name; returns a null string if user pressed cancel, otherwise
-     *          returns the role name entered by user
+     * EFFECTS: prompts the user to enter a role name, suggesting role names already in the tracker; returns a null
+     *          string if user pressed cancel, otherwise returns the role name entered by user
      */
     private String displayRoleNamePrompt() {
-        String roleName = JOptionPane.showInputDialog("Please enter the name of the role you applied for:");
+        String roleName = displayAutocompletePrompt("Please enter the name of the role you applied for:",
+                prefix -> jobApplicationTracker.completeRoleName(prefix, AUTOCOMPLETE_LIMIT));
         return roleName;
     }
 
+    /*
+     * EFFECTS: prompts the user with the given message and a text field that suggests the completions produced by
+     *          completer as the user types; returns a null string if user pressed cancel, otherwise returns the text
+     *          entered by user
+     */
+    private String displayAutocompletePrompt(String message, Function<String, ArrayList<String>> completer) {
+        AutocompleteComboBox comboBox = new AutocompleteComboBox(completer);
+        comboBox.focusTextLater();
+        int selection = JOptionPane.showConfirmDialog(null, new Object[]{message, comboBox}, "Input",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+
+        if (selection != JOptionPane.OK_OPTION) {
+            return null;
+        }
+        return comboBox.getText();
+    }
+
     /*
      * EFFECTS: creates and returns a menu item for deleting all job applications
      */
@@ -357,37 +494,47 @@ public class JobTrackAppGUI extends JFrame {
      */
     private void deleteAllJobApplications() {
         jobApplicationTracker.removeAllJobApplications();
-        tableModel.setRowCount(0);
+        updateSummaryLabel(TrackerSummary.of(jobApplicationTracker), false);
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: asks the user if they want to save their data to file, displays message dialog containing outcome
-     *          message depending on user selection and whether data was saved successfully
+     * EFFECTS: asks the user if they want to save their data to file before quitting; quits at once if user selects
+     *          No, otherwise saves the data on a background thread, with the progress bar shown and the menus
+     *          disabled, and quits after displaying a message dialog containing an outcome message depending on
+     *          whether data was saved successfully
      */
     private void displaySaveDataPrompt() {
         int response = displayYesOrNoPrompt("save");
 
+        if (response == 1) {
+            for (int i = 0; i < menuBar.getMenuCount(); i++) {
+                menuBar.getMenu(i).setEnabled(false);
+            }
+            showProgress("Saving...");
+            new TrackerSaver().execute();
+            return;
+        }
+
         if (response == 0) {
             JOptionPane.showMessageDialog(null, "Your data will not be saved.",
                     "Confirmation", JOptionPane.INFORMATION_MESSAGE);
-        } else if (response == 1) {
-            displayOutcomeMessage(saveJobApplicationTracker());
         }
+        quit();
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: saves job application tracker to file, returns message indicating whether file was successfully saved
+     * EFFECTS: saves job application tracker to file on the calling thread, returns message indicating whether file
+     *          was successfully saved and how many bytes were written in how long; only the changes made since the
+     *          tracker was last loaded or saved are written
      * Based on JsonSerializationDemo-master project provided by the CPSC 210 teaching team
      */
     private String saveJobApplicationTracker() {
         try {
-            jsonWriter.open();
-            jsonWriter.write(jobApplicationTracker);
-            jsonWriter.close();
-            return "Successfully saved '" + jobApplicationTracker.getName() + "'.";
-        } catch (FileNotFoundException e) {
+            SaveReport report = store.save(jobApplicationTracker);
+            return "Successfully saved '" + jobApplicationTracker.getName() + "' (" + report + ").";
+        } catch (IOException e) {
             return "ERROR: " + JSON_STORE + " could not be written to. Your data will not be saved.";
         }
     }
@@ -421,62 +568,233 @@ public class JobTrackAppGUI extends JFrame {
 
     /*
      * MODIFIES: this
-     * EFFECTS: initializes a table model and creates a non-editable JTable for trackerTable for storing tracker data,
-     *          populates the tracker table with the data from the model
+     * EFFECTS: creates a table model that reads the tracker data directly from jobApplicationTracker, with columns
+     *          for "Submission Date", "Company", "Role", and "Status", and a non-editable JTable for trackerTable that
+     *          shows it and is sorted by a column when its header is clicked; rows are only read from the tracker as
+     *          they are painted
      */
     private void createTable() {
-        initializeTableModel();
+        tableModel = new JobApplicationTableModel(jobApplicationTracker);
         trackerTable = new JTable(tableModel);
         trackerTable.setEnabled(false);
-        populateTable();
+        trackerTable.getTableHeader().setReorderingAllowed(false);
+        trackerTable.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int column = trackerTable.columnAtPoint(e.getPoint());
+                if (column >= 0) {
+                    sortTable(column);
+                }
+            }
+        });
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: creates a DefaultTableModel for tableModel and adds columns for "Submission Date", "Company", "Role",
-     *          and "Status"
+     * EFFECTS: sorts the tracker table by the given column, or reverses or removes the sort if it is already sorted
+     *          by it, and shows the sort in the column headers
      */
-    private void initializeTableModel() {
-        tableModel = new DefaultTableModel();
-        tableModel.addColumn("Submission Date");
-        tableModel.addColumn("Company");
-        tableModel.addColumn("Role");
-        tableModel.addColumn("Status");
+    private void sortTable(int column) {
+        tableModel.sortBy(column);
+        for (int i = 0; i < tableModel.getColumnCount(); i++) {
+            trackerTable.getColumnModel().getColumn(i).setHeaderValue(tableModel.getColumnName(i));
+        }
+        trackerTable.getTableHeader().repaint();
     }
 
     /*
      * MODIFIES: this
-     * EFFECTS: populates the tracker table with data from jobApplicationTracker
+     * EFFECTS: creates a filter bar, with a choice of column and a text field, that shows only the rows whose text
+     *          in the chosen column starts with the text typed, and adds it to the north of trackerPanel
      */
-    private void populateTable() {
-        int numJobApplications = jobApplicationTracker.getJobApplications().size();
-        for (int i = 0; i < numJobApplications; i++) {
-            addJobApplicationDataToTable(i);
+    private void addFilterBar() {
+        filterColumn = new JComboBox<>();
+        for (int i = 0; i < tableModel.getColumnCount(); i++) {
+            filterColumn.addItem(tableModel.getColumnName(i));
         }
+        filterColumn.addActionListener(e -> applyFilter());
+
+        filterText = new JTextField(30);
+        filterText.getDocument().addDocumentListener(new FilterListener());
+
+        JPanel filterBar = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        filterBar.add(new JLabel("Filter:"));
+        filterBar.add(filterColumn);
+        filterBar.add(filterText);
+        trackerPanel.add(filterBar, BorderLayout.NORTH);
     }
 
     /*
-     * REQUIRES: index >= 0 && index < the number of job applications in the tracker
      * MODIFIES: this
-     * EFFECTS: adds the data of the job application at the given index to the tracker table
+     * EFFECTS: filters the tracker table by the column and text in the filter bar
      */
-    private void addJobApplicationDataToTable(int index) {
-        ArrayList<JobApplication> jobApplicationList = jobApplicationTracker.getJobApplications();
+    private void applyFilter() {
+        tableModel.setFilter(filterColumn.getSelectedIndex(), filterText.getText().trim());
+    }
 
-        String submissionDate = jobApplicationList.get(index).getSubmissionDate().toString();
-        String company = jobApplicationList.get(index).getCompanyName();
-        String role = jobApplicationList.get(index).getRoleName();
-        String status = String.valueOf(jobApplicationList.get(index).getStatus());
+    /*
+     * MODIFIES: this
+     * EFFECTS: creates a label showing the summary of the tracker and adds it to the south of trackerPanel
+     */
+    private void addSummaryLabel() {
+        summaryLabel = new JLabel();
+        summaryLabel.setBorder(BorderFactory.createEmptyBorder(4, 8, 4, 8));
+        updateSummaryLabel(TrackerSummary.of(jobApplicationTracker), false);
+        trackerPanel.add(summaryLabel, BorderLayout.SOUTH);
+    }
 
-        addRowToTable(submissionDate, company, role, status);
+    /*
+     * MODIFIES: this
+     * EFFECTS: shows the name, number of job applications, and number of job applications per status of the given
+     *          summary in the summary label, noting that the job applications are still loading if loading is true
+     */
+    private void updateSummaryLabel(TrackerSummary summary, boolean loading) {
+        StringBuilder text = new StringBuilder(summary.getName());
+        text.append(": ").append(summary.size()).append(" job applications");
+        for (JobApplicationStatus s : JobApplicationStatus.values()) {
+            text.append(" | ").append(s).append(": ").append(summary.count(s));
+        }
+        if (loading) {
+            text.append(" | Loading job applications...");
+        }
+        summaryLabel.setText(text.toString());
     }
 
     /*
-     * REQUIRES: a job application with given submissionDate, company, role, and status are already in the tracker
      * MODIFIES: this
-     * EFFECTS: adds a row to the table that represents a job application with the given parameters
+     * EFFECTS: creates a dashboard of live statistics of the tracker and adds it to the east of trackerPanel
      */
-    private void addRowToTable(String submissionDate, String company, String role, String status) {
-        tableModel.addRow(new Object[]{submissionDate, company, role, status});
+    private void addStatisticsPanel() {
+        statisticsPanel = new StatisticsPanel(jobApplicationTracker);
+        trackerPanel.add(statisticsPanel, BorderLayout.EAST);
+    }
+
+    // Represents a listener that filters the tracker table again whenever the text in the filter bar changes
+    private class FilterListener implements DocumentListener {
+
+        /*
+         * MODIFIES: JobTrackAppGUI.this
+         * EFFECTS: filters the tracker table by the text now in the filter bar
+         */
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            applyFilter();
+        }
+
+        /*
+         * MODIFIES: JobTrackAppGUI.this
+         * EFFECTS: filters the tracker table by the text now in the filter bar
+         */
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            applyFilter();
+        }
+
+        /*
+         * MODIFIES: JobTrackAppGUI.this
+         * EFFECTS: filters the tracker table by the text now in the filter bar
+         */
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            applyFilter();
+        }
+    }
+
+    // Represents a worker that loads the JobTrack logo on a background thread
+    private class LogoLoader extends SwingWorker<ImageIcon, Void> {
+
+        /*
+         * EFFECTS: loads and returns the JobTrack logo
+         */
+        @Override
+        protected ImageIcon doInBackground() {
+            return new ImageIcon(LOGO_STORE);
+        }
+
+        /*
+         * MODIFIES: JobTrackAppGUI.this
+         * EFFECTS: shows the loaded logo in the logo label, on the event dispatch thread
+         */
+        @Override
+        protected void done() {
+            try {
+                logoLabel.setIcon(get());
+            } catch (ExecutionException e) {
+                e.printStackTrace();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finishStartupTask();
+        }
+    }
+
+    // Represents a worker that reads the summary of the saved job application tracker on a background thread
+    private class SummaryLoader extends SwingWorker<TrackerSummary, Void> {
+
+        /*
+         * EFFECTS: reads the summary of the saved tracker from the store and returns it; throws IOException if it
+         *          cannot be read
+         */
+        @Override
+        protected TrackerSummary doInBackground() throws IOException {
+            return store.loadSummary();
+        }
+
+        /*
+         * MODIFIES: JobTrackAppGUI.this
+         * EFFECTS: keeps the summary read, or leaves savedSummary null if it could not be read; runs on the event
+         *          dispatch thread
+         */
+        @Override
+        protected void done() {
+            try {
+                savedSummary = get();
+            } catch (ExecutionException e) {
+                savedSummary = null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finishStartupTask();
+        }
+    }
+
+    // Represents a worker that loads the saved job application tracker on a background thread
+    private class TrackerLoader extends SwingWorker<JobApplicationTracker, Void> {
+
+        /*
+         * EFFECTS: loads the saved tracker from the store and returns it; throws IOException if it cannot be read
+         */
+        @Override
+        protected JobApplicationTracker doInBackground() throws IOException {
+            return store.load();
+        }
+    }
+
+    // Represents a worker that saves the job application tracker on a background thread
+    private class TrackerSaver extends SwingWorker<String, Void> {
+
+        /*
+         * EFFECTS: saves the tracker and returns the outcome message
+         */
+        @Override
+        protected String doInBackground() {
+            return saveJobApplicationTracker();
+        }
+
+        /*
+         * EFFECTS: displays the outcome message and quits, on the event dispatch thread
+         */
+        @Override
+        protected void done() {
+            try {
+                displayOutcomeMessage(get());
+            } catch (ExecutionException e) {
+                displayOutcomeMessage("ERROR: " + JSON_STORE + " could not be written to. "
+                        + "Your data will not be saved.");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            quit();
+        }
     }
 }
@@ -1,12 +1,14 @@
 package ui;
 
+import javax.swing.*;
+
 // Represents the class containing the main method
 public class Main {
 
     /*
-     * EFFECTS: creates a new JobTrackAppGUI
+     * EFFECTS: creates a new JobTrackAppGUI on the event dispatch thread
      */
     public static void main(String[] args) {
-        new JobTrackAppGUI();
+        SwingUtilities.invokeLater(JobTrackAppGUI::new);
     }
 }
@@ -0,0 +1,196 @@
+package ui;
+
+import model.JobApplication;
+import model.JobApplicationStatistics;
+import model.JobApplicationStatus;
+import model.JobApplicationTracker;
+import model.JobApplicationTrackerListener;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+// Represents a dashboard showing live statistics of the job applications in a tracker: the number and percentage of
+// job applications per status, and a histogram of the number submitted in each of the latest weeks. The statistics
+// are kept up to date by the tracker's change notifications; the panel itself listens too, but only to note that it is
+// out of date, and is updated at most once per UPDATE_DELAY milliseconds, so a bulk change of any size repaints it
+// once. The tracker must only be changed on the event dispatch thread
+public class StatisticsPanel extends JPanel implements JobApplicationTrackerListener {
+    private static final int UPDATE_DELAY = 200; // the least time between two updates of the panel, in milliseconds
+    private static final int WEEKS_SHOWN = 12; // the number of weeks in the histogram
+    private static final JobApplicationStatus[] STATUSES = JobApplicationStatus.values(); // the statuses by ordinal
+
+    private JobApplicationTracker tracker; // the tracker whose statistics are shown
+    private final JobApplicationStatistics statistics; // the statistics of the tracker, kept up to date
+    private final JLabel totalLabel; // the label showing the number of job applications
+    private final JLabel[] statusLabels; // the labels showing the count and percentage per status, by ordinal
+    private final Histogram histogram; // the chart of the number of job applications submitted per week
+    private final Timer updateTimer; // the timer that updates the panel once changes have been noted
+
+    /*
+     * MODIFIES: tracker
+     * EFFECTS: creates a panel showing the statistics of the given tracker, and starts listening to it
+     */
+    public StatisticsPanel(JobApplicationTracker tracker) {
+        super(new BorderLayout());
+        this.tracker = tracker;
+        statistics = new JobApplicationStatistics(tracker);
+        totalLabel = new JLabel();
+        statusLabels = new JLabel[STATUSES.length];
+        histogram = new Histogram();
+        updateTimer = new Timer(UPDATE_DELAY, e -> update());
+        updateTimer.setRepeats(false);
+
+        setBorder(BorderFactory.createTitledBorder("Statistics"));
+        add(createStatusGrid(), BorderLayout.NORTH);
+        add(histogram, BorderLayout.CENTER);
+        update();
+        tracker.addListener(this);
+    }
+
+    /*
+     * MODIFIES: this, tracker
+     * EFFECTS: stops listening to the current tracker, shows the statistics of the given tracker instead and listens
+     *          to it
+     */
+    public void setTracker(JobApplicationTracker tracker) {
+        this.tracker.removeListener(this);
+        this.tracker = tracker;
+        statistics.setTracker(tracker);
+        tracker.addListener(this);
+        update();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: arranges for the panel to be updated
+     */
+    @Override
+    public void jobApplicationAdded(JobApplication j) {
+        scheduleUpdate();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: arranges for the panel to be updated
+     */
+    @Override
+    public void jobApplicationRemoved(JobApplication j) {
+        scheduleUpdate();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: arranges for the panel to be updated
+     */
+    @Override
+    public void jobApplicationChanged(JobApplication j, JobApplication old) {
+        scheduleUpdate();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: arranges for the panel to be updated
+     */
+    @Override
+    public void jobApplicationsCleared() {
+        scheduleUpdate();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: creates a grid of the total label above a label per status
+     */
+    private JPanel createStatusGrid() {
+        JPanel grid = new JPanel(new GridLayout(STATUSES.length + 1, 1));
+        grid.add(totalLabel);
+        for (JobApplicationStatus s : STATUSES) {
+            statusLabels[s.ordinal()] = new JLabel();
+            grid.add(statusLabels[s.ordinal()]);
+        }
+        return grid;
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: starts the update timer unless it is already running, so that changes made before it fires are shown
+     *          by a single update
+     */
+    private void scheduleUpdate() {
+        if (!updateTimer.isRunning()) {
+            updateTimer.start();
+        }
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: shows the current statistics in the labels and repaints the histogram
+     */
+    private void update() {
+        totalLabel.setText("Total: " + statistics.size() + " job applications");
+        for (JobApplicationStatus s : STATUSES) {
+            statusLabels[s.ordinal()].setText(String.format("%s: %d (%.1f%%)", s, statistics.count(s),
+                    statistics.calculatePercentage(s) * 100.0));
+        }
+        histogram.repaint();
+    }
+
+    // Represents a bar chart of the number of job applications submitted in each of the WEEKS_SHOWN weeks up to the
+    // latest week with a submission, labelled by the first day of each week
+    private class Histogram extends JComponent {
+        private static final int PADDING = 8; // the space around the chart, in pixels
+        private static final int BAR_GAP = 4; // the space between two bars, in pixels
+        private final DateTimeFormatter weekFormat = DateTimeFormatter.ofPattern("MM-dd"); // the week label format
+
+        /*
+         * EFFECTS: creates an empty chart with room for a bar per week
+         */
+        Histogram() {
+            setPreferredSize(new Dimension(WEEKS_SHOWN * 36, 180));
+        }
+
+        /*
+         * MODIFIES: g
+         * EFFECTS: draws a bar per week, as tall as its count relative to the busiest week shown, with the count
+         *          above it and the first day of the week below it
+         */
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            LocalDate latest = statistics.getLatestWeek();
+            if (latest == null) {
+                g.drawString("No job applications yet", PADDING, PADDING + g.getFontMetrics().getAscent());
+                return;
+            }
+
+            int[] counts = new int[WEEKS_SHOWN];
+            int max = 1;
+            for (int i = 0; i < WEEKS_SHOWN; i++) {
+                counts[i] = statistics.countWeek(latest.minusWeeks(WEEKS_SHOWN - 1 - i));
+                max = Math.max(max, counts[i]);
+            }
+            for (int i = 0; i < WEEKS_SHOWN; i++) {
+                paintBar(g, i, counts[i], max, latest.minusWeeks(WEEKS_SHOWN - 1 - i));
+            }
+        }
+
+        /*
+         * MODIFIES: g
+         * EFFECTS: draws the bar in the given position for the given week and count, scaled to the given largest count
+         */
+        private void paintBar(Graphics g, int position, int count, int max, LocalDate week) {
+            FontMetrics metrics = g.getFontMetrics();
+            int slot = (getWidth() - 2 * PADDING) / WEEKS_SHOWN;
+            int x = PADDING + position * slot;
+            int bottom = getHeight() - PADDING - metrics.getHeight();
+            int room = bottom - PADDING - metrics.getHeight();
+            int height = room * count / max;
+
+            g.setColor(getForeground());
+            g.fillRect(x + BAR_GAP / 2, bottom - height, slot - BAR_GAP, height);
+            g.drawString(Integer.toString(count), x + BAR_GAP / 2, bottom - height - metrics.getDescent());
+            g.drawString(week.format(weekFormat), x, bottom + metrics.getAscent());
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package model;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the ColumnarJobApplicationStore class
+public class ColumnarJobApplicationStoreTest {
+    private ColumnarJobApplicationStore store;
+    private JobApplication j1;
+    private JobApplication j2;
+    private JobApplication j3;
+    private JobApplication j4;
+
+    @BeforeEach
+    public void setUp() {
+        store = new ColumnarJobApplicationStore("Sophia's Job Application Tracker");
+        j1 = new JobApplication("2023-02-05", "Microsoft", "Product Manager");
+        j2 = new JobApplication("2023-06-20", "Google", "Software Engineer");
+        j3 = new JobApplication("2022-12-25", "Apple", "iOS Engineer");
+        j4 = new JobApplication("2022-11-28", "Meta", "Software Engineer");
+        j2.setStatus(INTERVIEWED);
+        j4.setStatus(REJECTED);
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals("Sophia's Job Application Tracker", store.getName());
+        assertEquals(0, store.size());
+        assertEquals(0, store.getJobApplications().size());
+    }
+
+    @Test
+    public void testAddAndGet() {
+        addAllJobApplicationsToStore();
+        assertEquals(4, store.size());
+        assertEquals(j1, store.get(0));
+        assertEquals(j2, store.get(1));
+        assertEquals(j3, store.get(2));
+        assertEquals(j4, store.get(3));
+        assertEquals(INTERVIEWED, store.get(1).getStatus());
+        assertEquals(LocalDate.parse("2022-11-28"), store.get(3).getSubmissionDate());
+        assertEquals(j4.hashCode(), store.get(3).hashCode());
+    }
+
+    @Test
+    public void testAddDuplicate() {
+        assertTrue(store.add(j1));
+        assertFalse(store.add(new JobApplication("2023-02-05", "Microsoft", "Product Manager")));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testAddManyGrowsColumns() {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(store.add(new JobApplication(LocalDate.ofEpochDay(19000 + i).toString(), "Company",
+                    "Role")));
+        }
+        assertEquals(1000, store.size());
+        assertTrue(store.contains(new JobApplication(LocalDate.ofEpochDay(19500).toString(), "Company", "Role")));
+        assertEquals(1000, store.count(SUBMITTED));
+    }
+
+    @Test
+    public void testRemove() {
+        addAllJobApplicationsToStore();
+        assertTrue(store.remove(j2));
+        assertFalse(store.remove(j2));
+        assertFalse(store.contains(j2));
+        assertFalse(store.remove(new JobApplication("2023-01-01", "Unknown", "Unknown")));
+        assertEquals(3, store.size());
+        assertEquals(j3, store.get(1));
+        assertTrue(store.contains(j4));
+    }
+
+    @Test
+    public void testRemoveManyThenReadByPosition() {
+        addAllJobApplicationsToStore();
+        assertTrue(store.remove(j1));
+        assertTrue(store.remove(j3));
+        assertEquals(2, store.size());
+        assertEquals(1, store.count(INTERVIEWED));
+        assertEquals(0, store.count(SUBMITTED));
+        assertEquals(1, store.countBetween(LocalDate.parse("2022-01-01"), LocalDate.parse("2023-12-31"), REJECTED));
+        assertTrue(store.add(j1));
+
+        assertEquals(j2, store.get(0));
+        assertEquals(j4, store.get(1));
+        assertEquals(j1, store.get(2));
+        assertTrue(store.contains(j4));
+        assertTrue(store.remove(j4));
+        assertEquals(j1, store.get(1));
+    }
+
+    @Test
+    public void testRemoveAndAddManyReusesRows() {
+        for (int i = 0; i < 1000; i++) {
+            JobApplication j = new JobApplication(LocalDate.ofEpochDay(19000 + i).toString(), "Company", "Role");
+            assertTrue(store.add(j));
+            if (i % 3 != 0) {
+                assertTrue(store.remove(j));
+            }
+        }
+        assertEquals(334, store.size());
+        assertTrue(store.contains(new JobApplication(LocalDate.ofEpochDay(19999).toString(), "Company", "Role")));
+        assertFalse(store.contains(new JobApplication(LocalDate.ofEpochDay(19998).toString(), "Company", "Role")));
+        assertEquals(LocalDate.ofEpochDay(19003), store.get(1).getSubmissionDate());
+        assertEquals(LocalDate.ofEpochDay(19999), store.get(333).getSubmissionDate());
+    }
+
+    @Test
+    public void testViewOfRemovedRowFailsFast() {
+        addAllJobApplicationsToStore();
+        JobApplication view = store.get(1);
+        store.remove(j2);
+
+        assertThrows(IllegalStateException.class, view::getStatus);
+        assertThrows(IllegalStateException.class, () -> view.setCompanyName("Alphabet"));
+        assertThrows(IllegalStateException.class, () -> view.setStatus(ACCEPTED));
+        store.get(0);
+        assertThrows(IllegalStateException.class, view::getCompanyName);
+        assertEquals(3, store.size());
+        assertTrue(store.contains(j3));
+    }
+
+    @Test
+    public void testViewFollowsRowAfterEarlierRemoval() {
+        addAllJobApplicationsToStore();
+        JobApplication view = store.get(2);
+        store.remove(j2);
+        assertEquals(j1, store.get(0));
+
+        assertEquals(j3, view);
+        view.setCompanyName("Apple Inc.");
+        assertEquals("Apple Inc.", store.get(1).getCompanyName());
+        assertFalse(store.contains(j3));
+        assertTrue(store.contains(new JobApplication("2022-12-25", "Apple Inc.", "iOS Engineer")));
+        assertEquals(j4, store.get(2));
+    }
+
+    @Test
+    public void testViewAfterRemoveAllFailsFast() {
+        addAllJobApplicationsToStore();
+        JobApplication view = store.get(0);
+        store.removeAllJobApplications();
+        store.add(j3);
+
+        assertThrows(IllegalStateException.class, view::getSubmissionDate);
+        assertEquals(j3, store.get(0));
+    }
+
+    @Test
+    public void testRemoveAllJobApplications() {
+        addAllJobApplicationsToStore();
+        store.removeAllJobApplications();
+        assertEquals(0, store.size());
+        assertFalse(store.contains(j1));
+        assertTrue(store.add(j1));
+    }
+
+    @Test
+    public void testSetThroughView() {
+        addAllJobApplicationsToStore();
+        JobApplication view = store.get(0);
+        view.setStatus(ACCEPTED);
+        view.setCompanyName("Amazon");
+        view.setRoleName("Data Analyst");
+        view.setSubmissionDate("2023-03-01");
+
+        JobApplication expected = new JobApplication("2023-03-01", "Amazon", "Data Analyst");
+        expected.setStatus(ACCEPTED);
+        assertEquals(expected, store.get(0));
+        assertTrue(store.contains(expected));
+        assertFalse(store.contains(j1));
+        assertEquals(1, store.count(ACCEPTED));
+    }
+
+    @Test
+    public void testCountAndCalculatePercentage() {
+        addAllJobApplicationsToStore();
+        assertEquals(2, store.count(SUBMITTED));
+        assertEquals(1, store.count(INTERVIEWED));
+        assertEquals(0, store.count(ACCEPTED));
+        assertEquals(0.25, store.calculatePercentage(REJECTED), 0.01);
+    }
+
+    @Test
+    public void testBetween() {
+        addAllJobApplicationsToStore();
+        ArrayList<JobApplication> result = store.between(LocalDate.parse("2022-12-01"),
+                LocalDate.parse("2023-12-31"), SUBMITTED);
+        assertEquals(2, result.size());
+        assertEquals(j1, result.get(0));
+        assertEquals(j3, result.get(1));
+        assertEquals(2, store.countBetween(LocalDate.parse("2022-12-01"), LocalDate.parse("2023-12-31"), SUBMITTED));
+        assertEquals(0, store.countBetween(LocalDate.parse("2023-07-01"), LocalDate.parse("2023-12-31"), SUBMITTED));
+    }
+
+    @Test
+    public void testConvertToAndFromTracker() {
+        JobApplicationTracker tracker = new JobApplicationTracker("Sophia's Job Application Tracker");
+        tracker.add(j1);
+        tracker.add(j2);
+        tracker.add(j3);
+
+        store = ColumnarJobApplicationStore.fromTracker(tracker);
+        assertEquals(3, store.size());
+        assertEquals(j2, store.get(1));
+
+        JobApplicationTracker copy = store.toTracker();
+        assertEquals("Sophia's Job Application Tracker", copy.getName());
+        List<JobApplication> jobApplications = copy.getJobApplications();
+        assertEquals(3, jobApplications.size());
+        assertEquals(j1, jobApplications.get(0));
+        assertEquals(j2, jobApplications.get(1));
+        assertEquals(1, copy.count(INTERVIEWED));
+    }
+
+    @Test
+    public void testToJsonMatchesTracker() {
+        JobApplicationTracker tracker = new JobApplicationTracker("Sophia's Job Application Tracker");
+        tracker.add(j1);
+        tracker.add(j2);
+        store = ColumnarJobApplicationStore.fromTracker(tracker);
+
+        JSONObject expected = tracker.toJson();
+        assertTrue(expected.similar(store.toJson()));
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: adds all instantiated job applications to the store
+     */
+    private void addAllJobApplicationsToStore() {
+        store.add(j1);
+        store.add(j2);
+        store.add(j3);
+        store.add(j4);
+    }
+}
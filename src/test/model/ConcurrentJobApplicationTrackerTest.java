@@ -0,0 +1,298 @@
+package model;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the ConcurrentJobApplicationTracker class
+public class ConcurrentJobApplicationTrackerTest {
+    private static final int APPLICATIONS_PER_THREAD = 5000;
+    private static final int BATCH_SIZE = 100;
+
+    private ConcurrentJobApplicationTracker tracker;
+    private JobApplication j1;
+    private JobApplication j2;
+    private JobApplication j3;
+
+    @BeforeEach
+    public void setUp() {
+        tracker = new ConcurrentJobApplicationTracker("Sophia's Job Application Tracker");
+        j1 = new JobApplication("2023-02-05", "Microsoft", "Product Manager");
+        j2 = new JobApplication("2023-06-20", "Google", "Software Engineer");
+        j3 = new JobApplication("2022-12-25", "Apple", "iOS Engineer");
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals("Sophia's Job Application Tracker", tracker.getName());
+        assertEquals(0, tracker.size());
+        assertFalse(tracker.iterator().hasNext());
+    }
+
+    @Test
+    public void testAddKeepsInsertionOrder() {
+        assertTrue(tracker.add(j1));
+        assertTrue(tracker.add(j2));
+        assertTrue(tracker.add(j3));
+
+        List<JobApplication> jobApplications = tracker.getJobApplications();
+        assertEquals(3, jobApplications.size());
+        assertSame(j1, jobApplications.get(0));
+        assertSame(j2, jobApplications.get(1));
+        assertSame(j3, jobApplications.get(2));
+    }
+
+    @Test
+    public void testAddDuplicate() {
+        assertTrue(tracker.add(j1));
+        assertFalse(tracker.add(j1));
+        assertFalse(tracker.add(new JobApplication("2023-02-05", "Microsoft", "Product Manager")));
+        assertEquals(1, tracker.size());
+    }
+
+    @Test
+    public void testAddOwnedByOtherTracker() {
+        JobApplicationTracker other = new JobApplicationTracker("Other");
+        assertTrue(other.add(j1));
+        assertFalse(tracker.add(j1));
+        assertEquals(0, tracker.size());
+    }
+
+    @Test
+    public void testRemove() {
+        tracker.add(j1);
+        tracker.add(j2);
+
+        assertTrue(tracker.remove(new JobApplication("2023-02-05", "Microsoft", "Product Manager")));
+        assertFalse(tracker.contains(j1));
+        assertTrue(tracker.contains(j2));
+        assertFalse(tracker.remove(j1));
+        assertEquals(1, tracker.size());
+        assertSame(j2, tracker.getJobApplications().get(0));
+
+        assertTrue(tracker.add(j1));
+        assertSame(j1, tracker.getJobApplications().get(1));
+    }
+
+    @Test
+    public void testModifyIntoDuplicateThenRemove() {
+        tracker.add(j1);
+        tracker.add(j2);
+        j2.setSubmissionDate("2023-02-05");
+        j2.setCompanyName("Microsoft");
+        j2.setRoleName("Product Manager");
+
+        assertEquals(2, tracker.size());
+        assertTrue(tracker.remove(j2));
+        assertTrue(tracker.contains(j1));
+        assertTrue(tracker.remove(new JobApplication("2023-02-05", "Microsoft", "Product Manager")));
+        assertFalse(tracker.contains(j1));
+        assertEquals(0, tracker.size());
+    }
+
+    @Test
+    public void testStatusCounts() {
+        tracker.add(j1);
+        tracker.add(j2);
+        tracker.add(j3);
+        j1.setStatus(REJECTED);
+        j2.setStatus(ACCEPTED);
+
+        assertEquals(1, tracker.count(SUBMITTED));
+        assertEquals(1, tracker.count(REJECTED));
+        assertEquals(1, tracker.count(ACCEPTED));
+        assertEquals(1.0 / 3, tracker.calculatePercentage(REJECTED));
+
+        tracker.remove(j1);
+        assertEquals(0, tracker.count(REJECTED));
+        j1.setStatus(SUBMITTED);
+        assertEquals(1, tracker.count(SUBMITTED));
+    }
+
+    @Test
+    public void testRemoveAllJobApplications() {
+        tracker.add(j1);
+        tracker.add(j2);
+        tracker.removeAllJobApplications();
+
+        assertEquals(0, tracker.size());
+        assertEquals(0, tracker.count(SUBMITTED));
+        assertFalse(tracker.contains(j1));
+        assertTrue(tracker.add(j1));
+    }
+
+    @Test
+    public void testIteratorIsWeaklyConsistent() {
+        tracker.add(j1);
+        tracker.add(j2);
+        Iterator<JobApplication> iterator = tracker.iterator();
+
+        assertSame(j1, iterator.next());
+        tracker.remove(j2);
+        tracker.add(j3);
+
+        ArrayList<JobApplication> rest = new ArrayList<>();
+        try {
+            iterator.forEachRemaining(rest::add);
+        } catch (ConcurrentModificationException e) {
+            fail("Iterator should not fail on concurrent modification");
+        }
+        assertFalse(rest.contains(j1));
+        assertTrue(rest.size() <= 2);
+
+        Iterator<JobApplication> fresh = tracker.iterator();
+        assertSame(j1, fresh.next());
+        assertSame(j3, fresh.next());
+        assertFalse(fresh.hasNext());
+    }
+
+    @Test
+    public void testToJson() {
+        tracker.add(j1);
+        tracker.add(j2);
+        JobApplicationTracker plain = new JobApplicationTracker("Sophia's Job Application Tracker");
+        plain.add(new JobApplication("2023-02-05", "Microsoft", "Product Manager"));
+        plain.add(new JobApplication("2023-06-20", "Google", "Software Engineer"));
+
+        JSONObject json = tracker.toJson();
+        assertEquals(plain.toJson().toString(), json.toString());
+    }
+
+    @Test
+    public void testAddAllLogsOneEvent() {
+        EventLog.getInstance().clear();
+        tracker.add(j1);
+        assertEquals(2, tracker.addAll(List.of(j1, j2, new JobApplication("2023-02-05", "Microsoft",
+                "Product Manager"), j3)));
+
+        ArrayList<String> descriptions = new ArrayList<>();
+        for (Event e : EventLog.getInstance()) {
+            descriptions.add(e.getDescription());
+        }
+        assertEquals(3, descriptions.size());
+        assertEquals("Added 2 job applications to the tracker.", descriptions.get(2));
+        assertEquals(0, tracker.addAll(List.of(j2)));
+        assertSame(j3, tracker.getJobApplications().get(2));
+    }
+
+    @Test
+    public void testConcurrentAddsSingleThread() throws InterruptedException {
+        runConcurrentAdds(1);
+    }
+
+    @Test
+    public void testConcurrentAddsAllProcessors() throws InterruptedException {
+        runConcurrentAdds(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @Test
+    public void testConcurrentStatusChangesAndRemoves() throws InterruptedException {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        ArrayList<JobApplication> jobApplications = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS_PER_THREAD; i++) {
+            JobApplication j = new JobApplication("2023-01-01", "Company " + i, "Role");
+            jobApplications.add(j);
+            tracker.add(j);
+        }
+
+        runThreads(threads, t -> {
+            for (int i = t; i < jobApplications.size(); i += threads) {
+                JobApplication j = jobApplications.get(i);
+                j.setStatus(JobApplicationStatus.values()[i % JobApplicationStatus.values().length]);
+                if (i % 3 == 0) {
+                    tracker.remove(j);
+                }
+                j.setStatus(REJECTED);
+            }
+        });
+
+        int removed = (APPLICATIONS_PER_THREAD + 2) / 3;
+        assertEquals(APPLICATIONS_PER_THREAD - removed, tracker.size());
+        assertEquals(APPLICATIONS_PER_THREAD - removed, tracker.count(REJECTED));
+        assertEquals(0, tracker.count(SUBMITTED));
+    }
+
+    /*
+     * EFFECTS: adds overlapping job applications from the given number of threads at once, in batches through
+     *          addAll, and checks that every distinct job application was added exactly once with one event logged
+     *          per batch that added any
+     */
+    private void runConcurrentAdds(int threads) throws InterruptedException {
+        AtomicInteger successes = new AtomicInteger();
+        EventLog.getInstance().clear();
+
+        runThreads(threads, t -> {
+            for (int i = 0; i < APPLICATIONS_PER_THREAD; i += BATCH_SIZE) {
+                ArrayList<JobApplication> batch = new ArrayList<>();
+                for (int k = i; k < i + BATCH_SIZE; k++) {
+                    batch.add(new JobApplication("2023-01-01", "Company " + (t * APPLICATIONS_PER_THREAD / 2 + k),
+                            "Role"));
+                }
+                successes.addAndGet(tracker.addAll(batch));
+            }
+        });
+
+        int distinct = (threads + 1) * APPLICATIONS_PER_THREAD / 2;
+        assertEquals(distinct, successes.get());
+        assertEquals(distinct, tracker.size());
+        assertEquals(distinct, tracker.count(SUBMITTED));
+        assertEquals(distinct, tracker.getJobApplications().size());
+        assertTrue(countEvents() <= 1 + threads * APPLICATIONS_PER_THREAD / BATCH_SIZE);
+    }
+
+    /*
+     * EFFECTS: returns the number of events in the event log
+     */
+    private int countEvents() {
+        int count = 0;
+        for (Event e : EventLog.getInstance()) {
+            count++;
+        }
+        return count;
+    }
+
+    /*
+     * EFFECTS: runs the given work on the given number of threads, all released at once, and waits for them to finish
+     */
+    private void runThreads(int threads, Work work) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(1);
+        ArrayList<Throwable> failures = new ArrayList<>();
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    ready.await();
+                    work.run(id);
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+
+        ready.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertTrue(failures.isEmpty(), failures.toString());
+    }
+
+    // Represents the work done by one thread of a stress test
+    private interface Work {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,72 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the IsoDates class
+public class IsoDatesTest {
+    @Test
+    public void testParse() {
+        assertEquals(LocalDate.of(2023, 2, 5), IsoDates.parse("2023-02-05"));
+        assertEquals(LocalDate.of(2024, 2, 29), IsoDates.parse("2024-02-29"));
+        assertEquals(LocalDate.of(0, 1, 1), IsoDates.parse("0000-01-01"));
+        assertEquals(LocalDate.of(9999, 12, 31), IsoDates.parse("9999-12-31"));
+        assertEquals(LocalDate.of(2023, 2, 5), IsoDates.parse(new StringBuilder("2023-02-05")));
+    }
+
+    @Test
+    public void testParseMatchesLocalDateOverManyDays() {
+        LocalDate date = LocalDate.of(1999, 1, 1);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(date, IsoDates.parse(date.toString()));
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test
+    public void testParseReturnsCachedDate() {
+        LocalDate first = IsoDates.parse("2023-06-20");
+        assertSame(first, IsoDates.parse("2023-06-20"));
+        assertEquals(LocalDate.of(2022, 6, 20), IsoDates.parse("2022-06-20"));
+        assertEquals(LocalDate.of(2023, 6, 21), IsoDates.parse("2023-06-21"));
+    }
+
+    @Test
+    public void testParseOtherIsoForms() {
+        assertEquals(LocalDate.of(10000, 1, 1), IsoDates.parse("+10000-01-01"));
+        assertEquals(LocalDate.of(-1, 1, 1), IsoDates.parse("-0001-01-01"));
+    }
+
+    @Test
+    public void testParseInvalid() {
+        String[] invalid = {"2023-02-30", "2023-13-01", "2023-00-10", "2023-1-01", "2023/02/05", "2023-02-0x",
+                "20a3-02-05", "", "2023-02-05T", "2023-02-+5"};
+        for (String text : invalid) {
+            assertThrows(DateTimeParseException.class, () -> IsoDates.parse(text), text);
+        }
+    }
+
+    @Test
+    public void testOfEpochDay() {
+        assertEquals(LocalDate.of(1970, 1, 1), IsoDates.ofEpochDay(0));
+        assertEquals(LocalDate.of(1969, 12, 31), IsoDates.ofEpochDay(-1));
+        assertEquals(LocalDate.of(2023, 2, 5), IsoDates.ofEpochDay(LocalDate.of(2023, 2, 5).toEpochDay()));
+        assertSame(IsoDates.ofEpochDay(19000), IsoDates.ofEpochDay(19000));
+        assertEquals(LocalDate.ofEpochDay(19000 + 1024), IsoDates.ofEpochDay(19000 + 1024));
+        assertEquals(LocalDate.ofEpochDay(19000), IsoDates.ofEpochDay(19000));
+    }
+
+    @Test
+    public void testFormat() {
+        assertEquals("2023-02-05", IsoDates.format(LocalDate.of(2023, 2, 5)));
+        assertEquals("1969-07-20", IsoDates.format(LocalDate.of(1969, 7, 20)));
+        assertEquals("+10000-01-01", IsoDates.format(LocalDate.of(10000, 1, 1)));
+        assertSame(IsoDates.format(LocalDate.of(2023, 2, 5)), IsoDates.format(LocalDate.of(2023, 2, 5)));
+        assertEquals("1972-10-21", IsoDates.format(LocalDate.ofEpochDay(1024)));
+        assertEquals("1970-01-01", IsoDates.format(LocalDate.ofEpochDay(0)));
+    }
+}
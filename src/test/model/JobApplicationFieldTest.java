@@ -0,0 +1,72 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static model.JobApplicationField.*;
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the JobApplicationField enum
+public class JobApplicationFieldTest {
+    private final JobApplication google = new JobApplication("2023-06-20", "Google", "Software Engineer");
+    private final JobApplication apple = new JobApplication("2022-12-25", "apple", "iOS Engineer");
+
+    @Test
+    public void testText() {
+        apple.setStatus(REJECTED);
+        assertEquals("2022-12-25", SUBMISSION_DATE.text(apple));
+        assertEquals("apple", COMPANY_NAME.text(apple));
+        assertEquals("iOS Engineer", ROLE_NAME.text(apple));
+        assertEquals("REJECTED", STATUS.text(apple));
+    }
+
+    @Test
+    public void testCompare() {
+        assertTrue(SUBMISSION_DATE.compare(apple, google) < 0);
+        assertTrue(COMPANY_NAME.compare(apple, google) < 0);
+        assertTrue(ROLE_NAME.compare(apple, google) < 0);
+        assertEquals(0, STATUS.compare(apple, google));
+        google.setStatus(ACCEPTED);
+        assertTrue(STATUS.compare(apple, google) < 0);
+    }
+
+    @Test
+    public void testCompareNamesIgnoresCaseFirst() {
+        JobApplication upper = new JobApplication("2023-06-20", "Apple", "iOS Engineer");
+        JobApplication banana = new JobApplication("2023-06-20", "Banana", "iOS Engineer");
+        assertTrue(COMPANY_NAME.compare(apple, banana) < 0);
+        assertTrue(COMPANY_NAME.compare(upper, apple) < 0);
+        assertEquals(0, COMPANY_NAME.compare(apple, apple));
+    }
+
+    @Test
+    public void testMatches() {
+        assertTrue(COMPANY_NAME.matches(google, "goo"));
+        assertTrue(COMPANY_NAME.matches(google, ""));
+        assertFalse(COMPANY_NAME.matches(google, "Googles"));
+        assertTrue(SUBMISSION_DATE.matches(google, "2023-06"));
+        assertFalse(SUBMISSION_DATE.matches(google, "2023-07"));
+        assertTrue(STATUS.matches(google, "sub"));
+        assertFalse(STATUS.matches(google, "rej"));
+    }
+
+    @Test
+    public void testComparePrefix() {
+        assertTrue(COMPANY_NAME.comparePrefix(apple, "b") < 0);
+        assertEquals(0, COMPANY_NAME.comparePrefix(apple, "APP"));
+        assertTrue(COMPANY_NAME.comparePrefix(apple, "applesauce") < 0);
+        assertTrue(COMPANY_NAME.comparePrefix(google, "a") > 0);
+        assertTrue(SUBMISSION_DATE.comparePrefix(apple, "2023") < 0);
+    }
+
+    @Test
+    public void testComparePrefixStatusInDeclaredOrder() {
+        apple.setStatus(REJECTED);
+        assertEquals(0, STATUS.comparePrefix(apple, "r"));
+        assertTrue(STATUS.comparePrefix(apple, "Acc") > 0);
+        assertTrue(STATUS.comparePrefix(google, "Acc") < 0);
+        assertEquals(0, STATUS.comparePrefix(google, ""));
+        assertTrue(STATUS.comparePrefix(google, "X") < 0);
+        assertTrue(STATUS.comparePrefix(apple, "X") < 0);
+    }
+}
@@ -0,0 +1,50 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the JobApplicationSnapshot class
+public class JobApplicationSnapshotTest {
+    private JobApplication[] elements;
+    private JobApplicationSnapshot snapshot;
+
+    @BeforeEach
+    public void setUp() {
+        elements = new JobApplication[4];
+        elements[0] = new JobApplication("2023-02-05", "Microsoft", "Product Manager");
+        elements[1] = new JobApplication("2023-06-20", "Google", "Software Engineer");
+        elements[2] = new JobApplication("2022-12-25", "Apple", "iOS Engineer");
+        snapshot = new JobApplicationSnapshot(elements, 2);
+    }
+
+    @Test
+    public void testGetAndSize() {
+        assertEquals(2, snapshot.size());
+        assertSame(elements[0], snapshot.get(0));
+        assertSame(elements[1], snapshot.get(1));
+    }
+
+    @Test
+    public void testGetOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(-1));
+    }
+
+    @Test
+    public void testIgnoresElementsPastSize() {
+        elements[3] = new JobApplication("2022-11-28", "Meta", "Tech Lead");
+        assertEquals(2, snapshot.size());
+        assertFalse(snapshot.contains(elements[2]));
+        assertFalse(snapshot.contains(elements[3]));
+    }
+
+    @Test
+    public void testUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(elements[2]));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.set(0, elements[2]));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.clear());
+    }
+}
@@ -0,0 +1,112 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the JobApplicationStatistics class
+public class JobApplicationStatisticsTest {
+    private JobApplicationTracker tracker;
+    private JobApplicationStatistics statistics;
+    private JobApplication j1;
+    private JobApplication j2;
+    private JobApplication j3;
+    private JobApplication j4;
+
+    @BeforeEach
+    public void setUp() {
+        tracker = new JobApplicationTracker("Sophia's Job Application Tracker");
+        j1 = new JobApplication("2023-02-05", "Microsoft", "Product Manager");
+        j2 = new JobApplication("2023-06-20", "Google", "Software Engineer");
+        j3 = new JobApplication("2022-12-25", "Apple", "iOS Engineer");
+        j4 = new JobApplication("2023-02-01", "Meta", "Tech Lead");
+        tracker.add(j1);
+        tracker.add(j2);
+        statistics = new JobApplicationStatistics(tracker);
+    }
+
+    @Test
+    public void testConstructorCountsTracker() {
+        assertEquals(2, statistics.size());
+        assertEquals(2, statistics.count(SUBMITTED));
+        assertEquals(0, statistics.count(REJECTED));
+        assertEquals(1.0, statistics.calculatePercentage(SUBMITTED));
+        assertEquals(1, statistics.countWeek(LocalDate.parse("2023-01-30")));
+        assertEquals(1, statistics.countWeek(LocalDate.parse("2023-06-25")));
+        assertEquals(0, statistics.countWeek(LocalDate.parse("2023-02-06")));
+    }
+
+    @Test
+    public void testWeekOf() {
+        assertEquals(LocalDate.parse("2023-01-30"), JobApplicationStatistics.weekOf(LocalDate.parse("2023-02-05")));
+        assertEquals(LocalDate.parse("2023-01-30"), JobApplicationStatistics.weekOf(LocalDate.parse("2023-01-30")));
+        assertEquals(LocalDate.parse("2023-06-19"), JobApplicationStatistics.weekOf(LocalDate.parse("2023-06-20")));
+    }
+
+    @Test
+    public void testAddedAndRemoved() {
+        tracker.addAll(Arrays.asList(j3, j4));
+        assertEquals(4, statistics.size());
+        assertEquals(2, statistics.countWeek(LocalDate.parse("2023-02-03")));
+        assertEquals(1, statistics.countWeek(LocalDate.parse("2022-12-19")));
+
+        tracker.remove(j1);
+        tracker.removeIf(j -> j == j3);
+        assertEquals(2, statistics.size());
+        assertEquals(1, statistics.countWeek(LocalDate.parse("2023-02-03")));
+        assertEquals(0, statistics.countWeek(LocalDate.parse("2022-12-19")));
+    }
+
+    @Test
+    public void testChanged() {
+        j1.setStatus(INTERVIEWED);
+        j2.setSubmissionDate(LocalDate.parse("2023-02-06"));
+        assertEquals(1, statistics.count(SUBMITTED));
+        assertEquals(1, statistics.count(INTERVIEWED));
+        assertEquals(0.5, statistics.calculatePercentage(INTERVIEWED));
+        assertEquals(0, statistics.countWeek(LocalDate.parse("2023-06-19")));
+        assertEquals(1, statistics.countWeek(LocalDate.parse("2023-02-06")));
+        assertEquals(LocalDate.parse("2023-02-06"), statistics.getLatestWeek());
+    }
+
+    @Test
+    public void testCleared() {
+        tracker.removeAllJobApplications();
+        assertEquals(0, statistics.size());
+        assertEquals(0, statistics.count(SUBMITTED));
+        assertEquals(0, statistics.calculatePercentage(SUBMITTED));
+        assertNull(statistics.getLatestWeek());
+
+        tracker.add(j3);
+        assertEquals(1, statistics.size());
+        assertEquals(LocalDate.parse("2022-12-19"), statistics.getLatestWeek());
+    }
+
+    @Test
+    public void testGetLatestWeek() {
+        assertEquals(LocalDate.parse("2023-06-19"), statistics.getLatestWeek());
+        tracker.remove(j2);
+        assertEquals(LocalDate.parse("2023-01-30"), statistics.getLatestWeek());
+    }
+
+    @Test
+    public void testSetTracker() {
+        JobApplicationTracker other = new JobApplicationTracker("Other");
+        other.add(j3);
+        statistics.setTracker(other);
+        assertEquals(1, statistics.size());
+        assertEquals(1, statistics.countWeek(LocalDate.parse("2022-12-25")));
+        assertEquals(0, statistics.countWeek(LocalDate.parse("2023-01-30")));
+
+        tracker.remove(j1);
+        other.add(j4);
+        j3.setStatus(REJECTED);
+        assertEquals(2, statistics.size());
+        assertEquals(1, statistics.count(REJECTED));
+    }
+}
@@ -0,0 +1,23 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the JobApplicationStatus enum
+public class JobApplicationStatusTest {
+    @Test
+    public void testParse() {
+        for (JobApplicationStatus status : JobApplicationStatus.values()) {
+            assertSame(status, JobApplicationStatus.parse(status.name()));
+        }
+    }
+
+    @Test
+    public void testParseUnknown() {
+        String[] unknown = {"", "submitted", "SUBMIT", "SUBMITTEDX", "AWAITING", "Q", "\u0013UBMITTED"};
+        for (String name : unknown) {
+            assertThrows(IllegalArgumentException.class, () -> JobApplicationStatus.parse(name), name);
+        }
+    }
+}
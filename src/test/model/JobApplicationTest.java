@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 
 import static model.JobApplicationStatus.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +34,43 @@ class JobApplicationTest {
         assertEquals(LocalDate.parse("2022-02-01"), j1.getSubmissionDate());
     }
 
+    @Test
+    public void testConstructorWithParsedDates() {
+        JobApplication fromDate = new JobApplication(LocalDate.of(2023, 2, 1), "Workday", "Software Developer Co-op");
+        JobApplication fromDay = new JobApplication(LocalDate.of(2023, 2, 1).toEpochDay(), "Workday",
+                "Software Developer Co-op");
+
+        assertEquals(j1, fromDate);
+        assertEquals(j1, fromDay);
+        assertEquals(LocalDate.parse("2023-02-01"), fromDay.getSubmissionDate());
+    }
+
+    @Test
+    public void testSetSubmissionDateWithParsedDates() {
+        j1.setSubmissionDate(LocalDate.of(2021, 12, 31));
+        assertEquals(LocalDate.parse("2021-12-31"), j1.getSubmissionDate());
+
+        j1.setSubmissionDate(0);
+        assertEquals(LocalDate.parse("1970-01-01"), j1.getSubmissionDate());
+    }
+
+    @Test
+    public void testSetSubmissionDateInTracker() {
+        JobApplicationTracker tracker = new JobApplicationTracker("Tracker");
+        tracker.add(j1);
+        tracker.add(j2);
+
+        j2.setSubmissionDate(LocalDate.of(2020, 1, 1).toEpochDay());
+        assertEquals(j2, tracker.before(LocalDate.of(2021, 1, 1)).iterator().next());
+        assertTrue(tracker.contains(new JobApplication("2020-01-01", "Microsoft", "Software Engineer Intern")));
+    }
+
+    @Test
+    public void testSetSubmissionDateInvalid() {
+        assertThrows(DateTimeParseException.class, () -> j1.setSubmissionDate("2023-02-30"));
+        assertEquals(LocalDate.parse("2023-02-01"), j1.getSubmissionDate());
+    }
+
     @Test
     public void testSetCompanyName() {
         j1.setCompanyName("Amazon");
@@ -45,6 +83,23 @@ class JobApplicationTest {
         assertEquals("Data Analyst", j1.getRoleName());
     }
 
+    @Test
+    public void testSetFieldsInTracker() {
+        JobApplicationTracker tracker = new JobApplicationTracker("Tracker");
+        tracker.add(j1);
+        j2.setStatus(REJECTED);
+        long version = tracker.getVersion();
+
+        j1.setFields(j2);
+        assertEquals(version + 1, tracker.getVersion());
+        assertEquals(j2, j1);
+        assertEquals(REJECTED, j1.getStatus());
+        assertSame(j1, tracker.find(j2));
+        assertFalse(tracker.contains(new JobApplication("2023-02-01", "Workday", "Software Developer Co-op")));
+        assertSame(j1, tracker.before(LocalDate.of(2023, 2, 8)).iterator().next());
+        assertEquals(1, tracker.count(REJECTED));
+    }
+
     @Test
     public void testSetStatus() {
         j1.setStatus(INTERVIEWED);
@@ -80,6 +135,17 @@ class JobApplicationTest {
         assertTrue(j2.equals(j2));
     }
 
+    @Test
+    public void testHashCodeSameFields() {
+        j2.setSubmissionDate("2023-02-01");
+        j2.setCompanyName("Workday");
+        j2.setRoleName("Software Developer Co-op");
+        assertEquals(j1.hashCode(), j2.hashCode());
+
+        j2.setStatus(REJECTED);
+        assertNotEquals(j1.hashCode(), j2.hashCode());
+    }
+
     @Test
     @SuppressWarnings("methodlength")
     public void testEqualsSameClassDifferentFields() {
@@ -3,6 +3,12 @@ package model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static model.JobApplicationStatus.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +36,48 @@ public class JobApplicationTrackerTest {
         assertEquals(0, tracker.getJobApplications().size());
     }
 
+    @Test
+    public void testVersionCountsChanges() {
+        assertEquals(0, tracker.getVersion());
+        assertFalse(tracker.isDirty());
+
+        addAllJobApplicationsToTracker();
+        assertEquals(4, tracker.getVersion());
+        j1.setStatus(INTERVIEWED);
+        j1.setStatus(INTERVIEWED);
+        assertEquals(5, tracker.getVersion());
+        j2.setCompanyName("Alphabet");
+        tracker.remove(j3);
+        assertFalse(tracker.remove(j3));
+        assertEquals(7, tracker.getVersion());
+        tracker.removeAllJobApplications();
+        assertEquals(8, tracker.getVersion());
+        assertTrue(tracker.isDirty());
+    }
+
+    @Test
+    public void testMarkClean() {
+        addAllJobApplicationsToTracker();
+        assertTrue(tracker.isDirty());
+        assertTrue(tracker.isDirty(j1));
+
+        tracker.markClean();
+        assertFalse(tracker.isDirty());
+        assertFalse(tracker.isDirty(j1));
+        assertFalse(tracker.isDirty(j2));
+
+        j2.setSubmissionDate("2023-06-21");
+        assertTrue(tracker.isDirty());
+        assertFalse(tracker.isDirty(j1));
+        assertTrue(tracker.isDirty(j2));
+
+        tracker.markClean();
+        tracker.remove(j3);
+        assertTrue(tracker.isDirty());
+        assertFalse(tracker.isDirty(j3));
+        assertFalse(tracker.isDirty(new JobApplication("2022-11-28", "Meta", "Tech Lead")));
+    }
+
     @Test
     public void testAddOneJobApplication() {
         assertTrue(tracker.add(j1));
@@ -101,6 +149,102 @@ public class JobApplicationTrackerTest {
         assertEquals(0, tracker.getJobApplications().size());
     }
 
+    @Test
+    public void testRemoveEqualJobApplication() {
+        addAllJobApplicationsToTracker();
+        assertTrue(tracker.remove(new JobApplication("2023-06-20", "Google", "Software Engineer")));
+        assertFalse(tracker.contains(j2));
+        assertEquals(3, tracker.getJobApplications().size());
+    }
+
+    @Test
+    public void testRemoveKeepsOrder() {
+        addAllJobApplicationsToTracker();
+        assertTrue(tracker.remove(j2));
+        assertEquals(j1, tracker.getJobApplications().get(0));
+        assertEquals(j3, tracker.getJobApplications().get(1));
+        assertEquals(j4, tracker.getJobApplications().get(2));
+
+        assertTrue(tracker.add(j2));
+        assertEquals(j2, tracker.getJobApplications().get(3));
+    }
+
+    @Test
+    public void testContains() {
+        tracker.add(j1);
+        assertTrue(tracker.contains(j1));
+        assertTrue(tracker.contains(new JobApplication("2023-02-05", "Microsoft", "Product Manager")));
+        assertFalse(tracker.contains(j2));
+    }
+
+    @Test
+    public void testContainsAfterJobApplicationModified() {
+        addAllJobApplicationsToTracker();
+        j1.setStatus(INTERVIEWED);
+        j2.setCompanyName("Amazon");
+        j3.setRoleName("Android Engineer");
+        j4.setSubmissionDate("2023-01-01");
+
+        assertTrue(tracker.contains(j1));
+        assertTrue(tracker.contains(new JobApplication("2023-06-20", "Amazon", "Software Engineer")));
+        assertTrue(tracker.contains(new JobApplication("2022-12-25", "Apple", "Android Engineer")));
+        assertTrue(tracker.contains(new JobApplication("2023-01-01", "Meta", "Tech Lead")));
+        assertFalse(tracker.contains(new JobApplication("2023-06-20", "Google", "Software Engineer")));
+        assertFalse(tracker.add(new JobApplication("2023-01-01", "Meta", "Tech Lead")));
+        assertEquals(j1, tracker.getJobApplications().get(0));
+        assertEquals(j4, tracker.getJobApplications().get(3));
+    }
+
+    @Test
+    public void testJobApplicationModifiedIntoDuplicate() {
+        tracker.add(j1);
+        tracker.add(j2);
+        j2.setSubmissionDate("2023-02-05");
+        j2.setCompanyName("Microsoft");
+        j2.setRoleName("Product Manager");
+        assertEquals(2, tracker.getJobApplications().size());
+
+        assertTrue(tracker.remove(j1));
+        assertTrue(tracker.contains(j1));
+        assertTrue(tracker.remove(j1));
+        assertFalse(tracker.contains(j1));
+        assertEquals(0, tracker.getJobApplications().size());
+    }
+
+    @Test
+    public void testRemoveEqualJobApplicationTakesEarliestDuplicate() {
+        tracker.add(j1);
+        tracker.add(j2);
+        tracker.add(j3);
+        j3.setFields(j1);
+        tracker.remove(j1);
+        j2.setFields(j1);
+
+        assertTrue(tracker.remove(new JobApplication("2023-02-05", "Microsoft", "Product Manager")));
+        assertEquals(Arrays.asList(j3), tracker.getJobApplications());
+        assertTrue(tracker.remove(j1));
+        assertTrue(tracker.getJobApplications().isEmpty());
+    }
+
+    @Test
+    public void testAddJobApplicationInAnotherTracker() {
+        JobApplicationTracker otherTracker = new JobApplicationTracker("Other Tracker");
+        assertTrue(otherTracker.add(j1));
+        assertFalse(tracker.add(j1));
+
+        otherTracker.remove(j1);
+        assertTrue(tracker.add(j1));
+    }
+
+    @Test
+    public void testAddAfterRemoveAllJobApplications() {
+        addAllJobApplicationsToTracker();
+        tracker.removeAllJobApplications();
+        assertFalse(tracker.contains(j1));
+        assertTrue(tracker.add(j1));
+        assertEquals(1, tracker.getJobApplications().size());
+    }
+
     @Test
     public void testCountSubmitted() {
         addAllJobApplicationsToTracker();
@@ -169,6 +313,140 @@ public class JobApplicationTrackerTest {
         assertEquals(0, tracker.count(REJECTED));
     }
 
+    @Test
+    public void testCountAfterRemoveAllJobApplications() {
+        addAllJobApplicationsToTracker();
+        j1.setStatus(ACCEPTED);
+        tracker.removeAllJobApplications();
+        assertEquals(0, tracker.count(SUBMITTED));
+        assertEquals(0, tracker.count(ACCEPTED));
+
+        j2.setStatus(REJECTED);
+        assertEquals(0, tracker.count(REJECTED));
+
+        tracker.add(j2);
+        assertEquals(1, tracker.count(REJECTED));
+    }
+
+    @Test
+    public void testCountIgnoresRemovedJobApplications() {
+        addAllJobApplicationsToTracker();
+        tracker.remove(j1);
+        j1.setStatus(INTERVIEWED);
+        assertEquals(0, tracker.count(INTERVIEWED));
+        assertEquals(3, tracker.count(SUBMITTED));
+    }
+
+    @Test
+    public void testBetween() {
+        addAllJobApplicationsToTracker();
+        ArrayList<JobApplication> result = toList(tracker.between(LocalDate.parse("2022-12-01"),
+                LocalDate.parse("2023-02-05")));
+        assertEquals(2, result.size());
+        assertEquals(j3, result.get(0));
+        assertEquals(j1, result.get(1));
+
+        j1.setStatus(INTERVIEWED);
+        result = toList(tracker.between(LocalDate.parse("2022-12-01"), LocalDate.parse("2023-02-05"), INTERVIEWED));
+        assertEquals(1, result.size());
+        assertEquals(j1, result.get(0));
+    }
+
+    @Test
+    public void testBefore() {
+        addAllJobApplicationsToTracker();
+        j4.setStatus(REJECTED);
+        assertEquals(2, toList(tracker.before(LocalDate.parse("2023-02-05"))).size());
+
+        ArrayList<JobApplication> result = toList(tracker.before(LocalDate.parse("2023-02-05"), SUBMITTED));
+        assertEquals(1, result.size());
+        assertEquals(j3, result.get(0));
+    }
+
+    @Test
+    public void testDateRangeAfterChanges() {
+        addAllJobApplicationsToTracker();
+        j2.setSubmissionDate("2021-01-01");
+        tracker.remove(j4);
+        ArrayList<JobApplication> result = toList(tracker.before(LocalDate.parse("2023-01-01")));
+        assertEquals(2, result.size());
+        assertEquals(j2, result.get(0));
+        assertEquals(j3, result.get(1));
+
+        tracker.removeAllJobApplications();
+        assertEquals(0, toList(tracker.before(LocalDate.parse("2024-01-01"))).size());
+    }
+
+    @Test
+    public void testSearch() {
+        addAllJobApplicationsToTracker();
+        ArrayList<JobApplication> results = tracker.search("engineer", 10);
+        assertEquals(2, results.size());
+        assertEquals(j2, results.get(0));
+        assertEquals(j3, results.get(1));
+    }
+
+    @Test
+    public void testSearchAfterChanges() {
+        addAllJobApplicationsToTracker();
+        j2.setCompanyName("Alphabet");
+        j1.setRoleName("Engineering Manager");
+        tracker.remove(j3);
+
+        assertEquals(0, tracker.search("google", 10).size());
+        assertEquals(j2, tracker.search("alpha", 10).get(0));
+        ArrayList<JobApplication> results = tracker.search("engineer", 10);
+        assertEquals(2, results.size());
+        assertEquals(j2, results.get(0));
+        assertEquals(j1, results.get(1));
+
+        tracker.removeAllJobApplications();
+        assertEquals(0, tracker.search("engineer", 10).size());
+    }
+
+    @Test
+    public void testSearchKeptUpToDateOnceBuilt() {
+        addAllJobApplicationsToTracker();
+        assertEquals(2, tracker.search("engineer", 10).size());
+
+        j2.setCompanyName("Alphabet");
+        tracker.remove(j3);
+        tracker.add(new JobApplication("2023-03-01", "Meta", "Data Engineer"));
+
+        assertEquals(0, tracker.search("google", 10).size());
+        assertEquals(j2, tracker.search("alpha", 10).get(0));
+        assertEquals(2, tracker.search("engineer", 10).size());
+        assertEquals(1, tracker.search("data", 10).size());
+
+        tracker.removeAllJobApplications();
+        tracker.add(j1);
+        assertEquals(j1, tracker.search("microsoft", 10).get(0));
+    }
+
+    @Test
+    public void testCompleteNames() {
+        addAllJobApplicationsToTracker();
+        tracker.add(new JobApplication("2023-03-01", "Meta", "Software Engineer"));
+        assertEquals(2, tracker.completeCompanyName("m", 10).size());
+        assertEquals("Meta", tracker.completeCompanyName("m", 10).get(0));
+        assertEquals("Software Engineer", tracker.completeRoleName("s", 10).get(0));
+
+        j2.setRoleName("Site Reliability Engineer");
+        ArrayList<String> roles = tracker.completeRoleName("s", 10);
+        assertEquals(2, roles.size());
+        assertEquals("Site Reliability Engineer", roles.get(0));
+        assertEquals("Software Engineer", roles.get(1));
+
+        j1.setCompanyName("Amazon");
+        tracker.remove(j4);
+        ArrayList<String> companies = tracker.completeCompanyName("m", 10);
+        assertEquals(1, companies.size());
+        assertEquals("Meta", companies.get(0));
+
+        tracker.removeAllJobApplications();
+        assertEquals(0, tracker.completeCompanyName("", 10).size());
+    }
+
     @Test
     public void testCalculatePercentageSubmitted() {
         addAllJobApplicationsToTracker();
@@ -229,6 +507,325 @@ public class JobApplicationTrackerTest {
         assertEquals(0.0, tracker.calculatePercentage(REJECTED), 0.01);
     }
 
+    @Test
+    public void testAddAll() {
+        tracker.add(j1);
+        JobApplicationTracker other = new JobApplicationTracker("Other");
+        other.add(j4);
+        JobApplication j2Copy = new JobApplication("2023-06-20", "Google", "Software Engineer");
+
+        assertEquals(2, tracker.addAll(Arrays.asList(j1, j2, j2Copy, j3, j4)));
+        List<JobApplication> jobApplications = tracker.getJobApplications();
+        assertEquals(3, jobApplications.size());
+        assertSame(j1, jobApplications.get(0));
+        assertSame(j2, jobApplications.get(1));
+        assertSame(j3, jobApplications.get(2));
+        assertEquals(3, tracker.count(SUBMITTED));
+        assertTrue(tracker.contains(j2Copy));
+        assertSame(j2, tracker.search("google", 10).get(0));
+        assertEquals(0, tracker.addAll(new ArrayList<>()));
+    }
+
+    @Test
+    public void testAddAllLogsOneEvent() {
+        EventLog.getInstance().clear();
+        tracker.addAll(Arrays.asList(j1, j2, j3));
+
+        ArrayList<String> descriptions = new ArrayList<>();
+        for (Event e : EventLog.getInstance()) {
+            descriptions.add(e.getDescription());
+        }
+        assertEquals(2, descriptions.size());
+        assertEquals("Added 3 job applications to the tracker.", descriptions.get(1));
+    }
+
+    @Test
+    public void testAddAllKeepsEarlierSnapshot() {
+        tracker.add(j1);
+        List<JobApplication> before = tracker.getJobApplications();
+        tracker.addAll(Arrays.asList(j2, j3));
+
+        assertEquals(1, before.size());
+        assertEquals(3, tracker.getJobApplications().size());
+    }
+
+    @Test
+    public void testRemoveIf() {
+        addAllJobApplicationsToTracker();
+        j2.setStatus(REJECTED);
+        j4.setStatus(REJECTED);
+
+        assertEquals(2, tracker.removeIf(j -> j.getStatus() == REJECTED));
+        List<JobApplication> jobApplications = tracker.getJobApplications();
+        assertEquals(2, jobApplications.size());
+        assertSame(j1, jobApplications.get(0));
+        assertSame(j3, jobApplications.get(1));
+        assertEquals(0, tracker.count(REJECTED));
+        assertFalse(tracker.contains(j2));
+        assertEquals(0, tracker.search("meta", 10).size());
+        assertEquals(0, tracker.removeIf(j -> false));
+        assertTrue(tracker.add(j2));
+    }
+
+    @Test
+    public void testFind() {
+        tracker.add(j1);
+        assertSame(j1, tracker.find(new JobApplication("2023-02-05", "Microsoft", "Product Manager")));
+        assertNull(tracker.find(j2));
+    }
+
+    @Test
+    public void testFindByRankAmongEqual() {
+        addAllJobApplicationsToTracker();
+        j3.setFields(j1);
+        j2.setFields(j1);
+
+        assertSame(j1, tracker.find(j1, 0));
+        assertSame(j2, tracker.find(j1, 1));
+        assertSame(j3, tracker.find(j1, 2));
+        assertNull(tracker.find(j1, 3));
+        assertEquals(1, tracker.countEqualAddedBefore(j1, j2));
+        assertEquals(2, tracker.countEqualAddedBefore(j1, j3));
+
+        tracker.remove(j2);
+        assertEquals(1, tracker.countEqualAddedBefore(j1, j2));
+        assertSame(j3, tracker.find(j1, 1));
+    }
+
+    @Test
+    public void testWithoutLoggingLogsNoEvent() {
+        EventLog.getInstance().clear();
+        assertEquals(3, tracker.addAllWithoutLogging(Arrays.asList(j1, j2, j3)));
+        tracker.removeAllWithoutLogging();
+
+        int count = 0;
+        for (Event e : EventLog.getInstance()) {
+            count++;
+        }
+        assertEquals(1, count);
+        assertEquals(0, tracker.getJobApplications().size());
+        assertEquals(4, tracker.getVersion());
+    }
+
+    @Test
+    public void testListeners() {
+        ArrayList<String> changes = new ArrayList<>();
+        JobApplicationTrackerListener listener = new JobApplicationTrackerListener() {
+            @Override
+            public void jobApplicationAdded(JobApplication j) {
+                changes.add("added " + j.getCompanyName());
+            }
+
+            @Override
+            public void jobApplicationRemoved(JobApplication j) {
+                changes.add("removed " + j.getCompanyName());
+            }
+
+            @Override
+            public void jobApplicationChanged(JobApplication j, JobApplication old) {
+                changes.add("changed " + old.getStatus() + " " + j.getStatus());
+            }
+
+            @Override
+            public void jobApplicationsCleared() {
+                changes.add("cleared");
+            }
+        };
+
+        tracker.add(j1);
+        tracker.addListener(listener);
+        tracker.addAll(Arrays.asList(j2, j3));
+        j2.setStatus(REJECTED);
+        tracker.remove(j1);
+        tracker.removeIf(j -> j == j3);
+        tracker.removeAllJobApplications();
+        tracker.removeListener(listener);
+        tracker.add(j4);
+
+        assertEquals(Arrays.asList("added Google", "added Apple", "changed SUBMITTED REJECTED", "removed Microsoft",
+                "removed Apple", "cleared"), changes);
+    }
+
+    @Test
+    public void testSnapshotUnchangedByLaterAdds() {
+        tracker.add(j1);
+        tracker.add(j2);
+        List<JobApplication> before = tracker.getJobApplications();
+        tracker.add(j3);
+        List<JobApplication> after = tracker.getJobApplications();
+
+        assertEquals(2, before.size());
+        assertFalse(before.contains(j3));
+        assertEquals(3, after.size());
+        assertSame(j3, after.get(2));
+    }
+
+    @Test
+    public void testSnapshotUnchangedByLaterRemoves() {
+        addAllJobApplicationsToTracker();
+        List<JobApplication> before = tracker.getJobApplications();
+        tracker.remove(j2);
+        tracker.add(new JobApplication("2021-01-01", "Amazon", "Data Scientist"));
+        List<JobApplication> after = tracker.getJobApplications();
+
+        assertEquals(4, before.size());
+        assertSame(j2, before.get(1));
+        assertSame(j3, before.get(2));
+        assertEquals(4, after.size());
+        assertSame(j3, after.get(1));
+        assertEquals("Amazon", after.get(3).getCompanyName());
+    }
+
+    @Test
+    public void testSnapshotUnchangedByRemoveAll() {
+        addAllJobApplicationsToTracker();
+        List<JobApplication> before = tracker.getJobApplications();
+        tracker.removeAllJobApplications();
+        tracker.add(j1);
+
+        assertEquals(4, before.size());
+        assertSame(j4, before.get(3));
+        assertEquals(1, tracker.getJobApplications().size());
+    }
+
+    @Test
+    public void testSnapshotUnchangedByRemove() {
+        addAllJobApplicationsToTracker();
+        List<JobApplication> before = tracker.getJobApplications();
+        tracker.remove(j2);
+        List<JobApplication> afterFirst = tracker.getJobApplications();
+        tracker.remove(j4);
+        tracker.remove(j1);
+        tracker.add(j2);
+
+        assertEquals(Arrays.asList(j1, j2, j3, j4), before);
+        assertEquals(Arrays.asList(j1, j3, j4), afterFirst);
+        assertEquals(Arrays.asList(j3, j2), tracker.getJobApplications());
+        tracker.remove(j3);
+        tracker.removeIf(j -> false);
+        assertEquals(Arrays.asList(j2), tracker.getJobApplications());
+    }
+
+    @Test
+    public void testSnapshotUnmodifiable() {
+        tracker.add(j1);
+        List<JobApplication> snapshot = tracker.getJobApplications();
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(j2));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(j1));
+        assertTrue(tracker.contains(j1));
+    }
+
+    @Test
+    public void testGetJobApplicationsSorted() {
+        addAllJobApplicationsToTracker();
+        assertEquals(Arrays.asList(j4, j3, j1, j2), tracker.getJobApplications(JobApplicationField.SUBMISSION_DATE));
+        assertEquals(Arrays.asList(j3, j2, j4, j1), tracker.getJobApplications(JobApplicationField.COMPANY_NAME));
+        assertEquals(Arrays.asList(j1, j2, j3, j4), tracker.getJobApplications(JobApplicationField.STATUS));
+    }
+
+    @Test
+    public void testGetJobApplicationsSortedKeptUpToDate() {
+        addAllJobApplicationsToTracker();
+        List<JobApplication> before = tracker.getJobApplications(JobApplicationField.COMPANY_NAME);
+        JobApplication j5 = new JobApplication("2023-01-01", "Amazon", "Engineer");
+        tracker.add(j5);
+        tracker.remove(j4);
+        j1.setCompanyName("Adobe");
+        j2.setStatus(REJECTED);
+
+        assertEquals(Arrays.asList(j3, j2, j4, j1), before);
+        assertEquals(Arrays.asList(j1, j5, j3, j2), tracker.getJobApplications(JobApplicationField.COMPANY_NAME));
+        assertEquals(Arrays.asList(j1, j3, j5, j2), tracker.getJobApplications(JobApplicationField.STATUS));
+    }
+
+    @Test
+    public void testGetJobApplicationsSortedByMoreFieldsThanKept() {
+        addAllJobApplicationsToTracker();
+        tracker.getJobApplications(JobApplicationField.SUBMISSION_DATE);
+        tracker.getJobApplications(JobApplicationField.COMPANY_NAME);
+        tracker.getJobApplications(JobApplicationField.STATUS);
+        j4.setSubmissionDate(LocalDate.parse("2023-03-01"));
+        j1.setCompanyName("Adobe");
+        tracker.remove(j2);
+
+        assertEquals(Arrays.asList(j1, j3, j4), tracker.getJobApplications(JobApplicationField.STATUS));
+        assertEquals(Arrays.asList(j3, j1, j4), tracker.getJobApplications(JobApplicationField.SUBMISSION_DATE));
+        assertEquals(Arrays.asList(j1, j3, j4), tracker.getJobApplications(JobApplicationField.COMPANY_NAME));
+        assertEquals(Arrays.asList(j3), tracker.getJobApplications(JobApplicationField.ROLE_NAME,
+                JobApplicationField.COMPANY_NAME, "app"));
+    }
+
+    @Test
+    public void testGetJobApplicationsSortedAfterBulkChanges() {
+        tracker.add(j1);
+        tracker.add(j2);
+        assertEquals(Arrays.asList(j2, j1), tracker.getJobApplications(JobApplicationField.COMPANY_NAME));
+
+        tracker.addAll(Arrays.asList(j3, j4));
+        assertEquals(Arrays.asList(j3, j2, j4, j1), tracker.getJobApplications(JobApplicationField.COMPANY_NAME));
+        tracker.removeIf(j -> j.getCompanyName().startsWith("M"));
+        assertEquals(Arrays.asList(j3, j2), tracker.getJobApplications(JobApplicationField.COMPANY_NAME));
+        tracker.removeAllJobApplications();
+        assertTrue(tracker.getJobApplications(JobApplicationField.COMPANY_NAME).isEmpty());
+        tracker.add(j4);
+        assertEquals(Arrays.asList(j4), tracker.getJobApplications(JobApplicationField.COMPANY_NAME));
+    }
+
+    @Test
+    public void testGetJobApplicationsSortedTiesInOrderAdded() {
+        JobApplication j5 = new JobApplication("2023-02-05", "Amazon", "Engineer");
+        tracker.add(j5);
+        addAllJobApplicationsToTracker();
+        assertEquals(Arrays.asList(j4, j3, j5, j1, j2),
+                tracker.getJobApplications(JobApplicationField.SUBMISSION_DATE));
+        j5.setStatus(INTERVIEWED);
+        j5.setStatus(SUBMITTED);
+        assertEquals(Arrays.asList(j5, j1, j2, j3, j4), tracker.getJobApplications(JobApplicationField.STATUS));
+    }
+
+    @Test
+    public void testGetJobApplicationsFiltered() {
+        addAllJobApplicationsToTracker();
+        j2.setStatus(REJECTED);
+        j4.setStatus(REJECTED);
+
+        assertEquals(Arrays.asList(j4, j2), tracker.getJobApplications(JobApplicationField.SUBMISSION_DATE,
+                JobApplicationField.STATUS, "rej"));
+        assertEquals(Arrays.asList(j2, j4), tracker.getJobApplications(null, JobApplicationField.STATUS, "R"));
+        assertEquals(Arrays.asList(j1, j2), tracker.getJobApplications(JobApplicationField.SUBMISSION_DATE,
+                JobApplicationField.SUBMISSION_DATE, "2023"));
+        assertEquals(Arrays.asList(j4, j1), tracker.getJobApplications(JobApplicationField.COMPANY_NAME,
+                JobApplicationField.COMPANY_NAME, "m"));
+        assertTrue(tracker.getJobApplications(null, JobApplicationField.ROLE_NAME, "Chef").isEmpty());
+    }
+
+    @Test
+    public void testGetJobApplicationsFilteredLargeMatch() {
+        for (int i = 0; i < 100; i++) {
+            tracker.add(new JobApplication(LocalDate.of(2023, 1, 1).plusDays(99 - i), "Company" + i, "Engineer"));
+        }
+
+        List<JobApplication> matches = tracker.getJobApplications(JobApplicationField.SUBMISSION_DATE,
+                JobApplicationField.ROLE_NAME, "eng");
+        assertEquals(100, matches.size());
+        assertEquals("Company99", matches.get(0).getCompanyName());
+        assertEquals("Company0", matches.get(99).getCompanyName());
+        assertEquals(11, tracker.getJobApplications(null, JobApplicationField.COMPANY_NAME, "company5").size());
+    }
+
+    @Test
+    public void testGetOrderMatchesSortedSnapshots() {
+        addAllJobApplicationsToTracker();
+        for (JobApplicationField field : new JobApplicationField[] {null, JobApplicationField.COMPANY_NAME}) {
+            List<JobApplication> sorted = field == null ? tracker.getJobApplications()
+                    : tracker.getJobApplications(field);
+            for (JobApplication j : sorted) {
+                assertEquals(j, sorted.get(Collections.binarySearch(sorted, j, tracker.getOrder(field))));
+            }
+        }
+    }
+
     /*
      * MODIFIES: this
      * EFFECTS: adds all instantiated job applications to the tracker
@@ -240,6 +837,17 @@ public class JobApplicationTrackerTest {
         tracker.add(j4);
     }
 
+    /*
+     * EFFECTS: returns the job applications in the given view as a list
+     */
+    private ArrayList<JobApplication> toList(Iterable<JobApplication> view) {
+        ArrayList<JobApplication> list = new ArrayList<>();
+        for (JobApplication j : view) {
+            list.add(j);
+        }
+        return list;
+    }
+
     /*
      * MODIFIES: this
      * EFFECTS: sets the status of all instantiated job applications to given status
@@ -0,0 +1,112 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the NameDictionary class
+public class NameDictionaryTest {
+    private NameDictionary dictionary;
+
+    @BeforeEach
+    public void setUp() {
+        dictionary = NameDictionary.getInstance();
+        dictionary.clear();
+    }
+
+    @Test
+    public void testGetInstance() {
+        assertSame(dictionary, NameDictionary.getInstance());
+    }
+
+    @Test
+    public void testInternReturnsSameInstance() {
+        String first = new String("Microsoft");
+        String second = new String("Microsoft");
+        assertSame(first, dictionary.intern(first));
+        assertSame(first, dictionary.intern(second));
+        assertEquals(1, dictionary.size());
+        assertNull(dictionary.intern(null));
+    }
+
+    @Test
+    public void testStatistics() {
+        assertEquals(0, dictionary.getHitRate());
+        dictionary.intern(new String("Google"));
+        dictionary.intern(new String("Google"));
+        dictionary.intern(new String("Google"));
+        dictionary.intern(new String("Apple"));
+        assertEquals(0.5, dictionary.getHitRate(), 0.01);
+        assertTrue(dictionary.getBytesSaved() > 2 * "Google".length());
+
+        dictionary.clear();
+        assertEquals(0, dictionary.size());
+        assertEquals(0, dictionary.getHitRate());
+        assertEquals(0, dictionary.getBytesSaved());
+    }
+
+    @Test
+    public void testFullDictionaryEvictsNamesNotUsedRecently() {
+        NameDictionary small = new NameDictionary(2);
+        String apple = small.intern(new String("Apple"));
+        String google = small.intern(new String("Google"));
+        assertSame(apple, small.intern(new String("Apple")));
+
+        String meta = new String("Meta");
+        assertSame(meta, small.intern(meta));
+        assertEquals(2, small.size());
+        assertSame(apple, small.intern(new String("Apple")));
+        assertNotSame(google, small.intern(new String("Google")));
+        assertNotSame(meta, small.intern(new String("Meta")));
+        assertEquals(2, small.size());
+    }
+
+    @Test
+    public void testFullDictionaryKeepsAdmittingNames() {
+        NameDictionary small = new NameDictionary(100);
+        for (int i = 0; i < 1000; i++) {
+            small.intern("Company " + i);
+        }
+        String name = new String("Company New");
+        assertSame(name, small.intern(name));
+        assertSame(name, small.intern(new String("Company New")));
+        assertEquals(100, small.size());
+    }
+
+    @Test
+    public void testConcurrentInternStaysBounded() throws InterruptedException {
+        NameDictionary small = new NameDictionary(50);
+        Thread[] threads = new Thread[4];
+        boolean[] mismatch = new boolean[1];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t * 25;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    String name = "Company " + (offset + i % 100);
+                    if (!name.equals(small.intern(name))) {
+                        mismatch[0] = true;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(mismatch[0]);
+        assertEquals(50, small.size());
+        String name = new String("Company 0");
+        assertEquals(name, small.intern(name));
+    }
+
+    @Test
+    public void testJobApplicationNamesShareInstances() {
+        JobApplication j1 = new JobApplication("2023-02-05", new String("Microsoft"), new String("Product Manager"));
+        JobApplication j2 = new JobApplication("2023-02-06", new String("Microsoft"), new String("Designer"));
+        j2.setRoleName(new String("Product Manager"));
+        assertSame(j1.getCompanyName(), j2.getCompanyName());
+        assertSame(j1.getRoleName(), j2.getRoleName());
+    }
+}
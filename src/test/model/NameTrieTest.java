@@ -0,0 +1,79 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the NameTrie class
+public class NameTrieTest {
+    private NameTrie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new NameTrie();
+        trie.add("Microsoft");
+        trie.add("Meta");
+        trie.add("Meta");
+        trie.add("Mercedes");
+        trie.add("Apple");
+    }
+
+    @Test
+    public void testCompleteMostFrequentFirst() {
+        ArrayList<String> completions = trie.complete("m", 10);
+        assertEquals(3, completions.size());
+        assertEquals("Meta", completions.get(0));
+        assertEquals("Mercedes", completions.get(1));
+        assertEquals("Microsoft", completions.get(2));
+    }
+
+    @Test
+    public void testCompleteIgnoresCase() {
+        ArrayList<String> completions = trie.complete("MIC", 10);
+        assertEquals(1, completions.size());
+        assertEquals("Microsoft", completions.get(0));
+        trie.add("microsoft");
+        assertEquals("Microsoft", trie.complete("mic", 10).get(0));
+        assertEquals(1, trie.complete("mic", 10).size());
+    }
+
+    @Test
+    public void testCompleteLimitAndMissingPrefix() {
+        assertEquals(1, trie.complete("", 1).size());
+        assertEquals("Meta", trie.complete("", 1).get(0));
+        assertEquals(0, trie.complete("m", 0).size());
+        assertEquals(0, trie.complete("google", 5).size());
+    }
+
+    @Test
+    public void testCompletePrefixIsName() {
+        trie.add("Met");
+        ArrayList<String> completions = trie.complete("met", 10);
+        assertEquals(2, completions.size());
+        assertEquals("Meta", completions.get(0));
+        assertEquals("Met", completions.get(1));
+    }
+
+    @Test
+    public void testRemove() {
+        trie.remove("Meta");
+        trie.remove("Meta");
+        trie.add("Mercedes");
+        ArrayList<String> completions = trie.complete("m", 10);
+        assertEquals(2, completions.size());
+        assertEquals("Mercedes", completions.get(0));
+        assertEquals("Microsoft", completions.get(1));
+
+        trie.remove("Apple");
+        assertEquals(0, trie.complete("a", 10).size());
+    }
+
+    @Test
+    public void testClear() {
+        trie.clear();
+        assertEquals(0, trie.complete("", 10).size());
+    }
+}
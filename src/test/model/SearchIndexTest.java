@@ -0,0 +1,99 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the SearchIndex class
+public class SearchIndexTest {
+    private SearchIndex index;
+    private JobApplication j1;
+    private JobApplication j2;
+    private JobApplication j3;
+
+    @BeforeEach
+    public void setUp() {
+        index = new SearchIndex();
+        j1 = new JobApplication("2023-02-05", "Microsoft", "Product Manager");
+        j2 = new JobApplication("2023-06-20", "Google", "Software Engineer");
+        j3 = new JobApplication("2022-12-25", "Apple", "iOS Software Engineer");
+        index.add(j1, j1.getCompanyName(), j1.getRoleName());
+        index.add(j2, j2.getCompanyName(), j2.getRoleName());
+        index.add(j3, j3.getCompanyName(), j3.getRoleName());
+    }
+
+    @Test
+    public void testWords() {
+        ArrayList<String> words = SearchIndex.words("  iOS/Android Co-op 2023 ");
+        assertEquals(5, words.size());
+        assertEquals("ios", words.get(0));
+        assertEquals("android", words.get(1));
+        assertEquals("co", words.get(2));
+        assertEquals("op", words.get(3));
+        assertEquals("2023", words.get(4));
+    }
+
+    @Test
+    public void testSearchSubstringIgnoringCase() {
+        ArrayList<JobApplication> results = index.search("CROSO", 10);
+        assertEquals(1, results.size());
+        assertSame(j1, results.get(0));
+    }
+
+    @Test
+    public void testSearchShortWordMatchesPrefixOnly() {
+        ArrayList<JobApplication> results = index.search("go", 10);
+        assertEquals(1, results.size());
+        assertSame(j2, results.get(0));
+        assertEquals(0, index.search("gl", 10).size());
+    }
+
+    @Test
+    public void testSearchAllWordsMustMatch() {
+        ArrayList<JobApplication> results = index.search("engineer apple", 10);
+        assertEquals(1, results.size());
+        assertSame(j3, results.get(0));
+        assertEquals(0, index.search("engineer microsoft", 10).size());
+    }
+
+    @Test
+    public void testSearchRanking() {
+        JobApplication j4 = new JobApplication("2023-07-01", "Engineering Corp", "Analyst");
+        JobApplication j5 = new JobApplication("2023-08-01", "Reengineers", "Analyst");
+        index.add(j4, j4.getCompanyName(), j4.getRoleName());
+        index.add(j5, j5.getCompanyName(), j5.getRoleName());
+
+        ArrayList<JobApplication> results = index.search("engineer", 10);
+        assertEquals(4, results.size());
+        assertSame(j2, results.get(0));
+        assertSame(j3, results.get(1));
+        assertSame(j4, results.get(2));
+        assertSame(j5, results.get(3));
+    }
+
+    @Test
+    public void testSearchLimit() {
+        assertEquals(1, index.search("software", 1).size());
+        assertEquals(0, index.search("software", 0).size());
+        assertEquals(0, index.search("", 10).size());
+        assertEquals(0, index.search("xyz", 10).size());
+    }
+
+    @Test
+    public void testRemove() {
+        index.remove(j2, j2.getCompanyName(), j2.getRoleName());
+        ArrayList<JobApplication> results = index.search("software", 10);
+        assertEquals(1, results.size());
+        assertSame(j3, results.get(0));
+        assertEquals(0, index.search("google", 10).size());
+    }
+
+    @Test
+    public void testClear() {
+        index.clear();
+        assertEquals(0, index.search("software", 10).size());
+    }
+}
@@ -0,0 +1,147 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static model.JobApplicationField.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the SortedIndex class
+public class SortedIndexTest {
+    private JobApplication j1;
+    private JobApplication j2;
+    private JobApplication j3;
+    private JobApplication j4;
+    private SortedIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        j1 = application("2023-02-05", "Microsoft", 1);
+        j2 = application("2023-06-20", "Google", 2);
+        j3 = application("2022-12-25", "Apple", 3);
+        j4 = application("2023-02-05", "Meta", 4);
+        index = new SortedIndex(SUBMISSION_DATE, new JobApplication[] {j1, j2, j3, j4});
+    }
+
+    @Test
+    public void testConstructorSortsWithTiesInOrderAdded() {
+        assertEquals(Arrays.asList(j3, j1, j4, j2), index.snapshot());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    public void testAddInsertsAtPosition() {
+        JobApplication j5 = application("2023-02-05", "Amazon", 5);
+        assertEquals(3, index.add(j5));
+        assertEquals(Arrays.asList(j3, j1, j4, j5, j2), index.snapshot());
+    }
+
+    @Test
+    public void testAddAllMerges() {
+        JobApplication j5 = application("2024-01-01", "Amazon", 5);
+        JobApplication j6 = application("2023-02-05", "Netflix", 6);
+        JobApplication j7 = application("2020-01-01", "IBM", 7);
+        index.addAll(Arrays.asList(j5, j6, j7));
+        assertEquals(Arrays.asList(j7, j3, j1, j4, j6, j2, j5), index.snapshot());
+        assertEquals(7, index.size());
+    }
+
+    @Test
+    public void testRemove() {
+        assertEquals(2, index.remove(j4));
+        assertEquals(Arrays.asList(j3, j1, j2), index.snapshot());
+        assertEquals(0, index.remove(j3));
+        assertEquals(Arrays.asList(j1, j2), index.snapshot());
+    }
+
+    @Test
+    public void testRemoveIf() {
+        index.removeIf(j -> j.getCompanyName().startsWith("M"));
+        assertEquals(Arrays.asList(j3, j2), index.snapshot());
+    }
+
+    @Test
+    public void testClear() {
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.snapshot().isEmpty());
+        index.add(j1);
+        assertEquals(Arrays.asList(j1), index.snapshot());
+    }
+
+    @Test
+    public void testSnapshotUnchangedByLaterChanges() {
+        List<JobApplication> snapshot = index.snapshot();
+        index.remove(j1);
+        index.add(application("2021-01-01", "Amazon", 5));
+        index.removeIf(j -> j == j2);
+        assertEquals(Arrays.asList(j3, j1, j4, j2), snapshot);
+    }
+
+    @Test
+    public void testStartingWith() {
+        assertEquals(Arrays.asList(j1, j4), index.startingWith("2023-02"));
+        assertEquals(Arrays.asList(j1, j4, j2), index.startingWith("2023"));
+        assertTrue(index.startingWith("2024").isEmpty());
+        assertEquals(4, index.startingWith("").size());
+    }
+
+    @Test
+    public void testStartingWithNames() {
+        SortedIndex companies = new SortedIndex(COMPANY_NAME, new JobApplication[] {j1, j2, j3, j4});
+        assertEquals(Arrays.asList(j3, j2, j4, j1), companies.snapshot());
+        assertEquals(Arrays.asList(j4, j1), companies.startingWith("m"));
+        assertEquals(Arrays.asList(j1), companies.startingWith("MICRO"));
+        assertTrue(companies.startingWith("Z").isEmpty());
+    }
+
+    @Test
+    public void testOrderWithoutField() {
+        assertTrue(SortedIndex.order(null).compare(j2, j3) < 0);
+        assertTrue(SortedIndex.order(null).compare(j4, j1) > 0);
+        assertTrue(SortedIndex.order(COMPANY_NAME).compare(j2, j3) > 0);
+    }
+
+    @Test
+    public void testSortOutOfOrderAdded() {
+        JobApplication[] jobApplications = {j4, j2, j1, j3};
+        assertArrayEquals(new JobApplication[] {j1, j2, j3, j4}, SortedIndex.sort(null, jobApplications));
+        assertArrayEquals(new JobApplication[] {j3, j1, j4, j2}, SortedIndex.sort(SUBMISSION_DATE, jobApplications));
+        assertArrayEquals(new JobApplication[] {j4, j2, j1, j3}, jobApplications);
+    }
+
+    @Test
+    public void testSortInOrderAddedReturnsSameArray() {
+        JobApplication[] jobApplications = {j1, j2, j3, j4};
+        assertSame(jobApplications, SortedIndex.sort(null, jobApplications));
+    }
+
+    @Test
+    public void testSortNamesIgnoringCaseThenByCase() {
+        JobApplication j5 = application("2023-01-01", "apple", 5);
+        JobApplication j6 = application("2023-01-01", "Apple", 6);
+        JobApplication[] sorted = SortedIndex.sort(COMPANY_NAME, new JobApplication[] {j6, j1, j5, j2, j3, j4});
+        assertArrayEquals(new JobApplication[] {j3, j6, j5, j2, j4, j1}, sorted);
+    }
+
+    @Test
+    public void testSortStatusWithFarApartSequences() {
+        JobApplication j5 = application("2023-01-01", "Amazon", Long.MAX_VALUE);
+        j2.setStatus(JobApplicationStatus.REJECTED);
+        j5.setStatus(JobApplicationStatus.REJECTED);
+        JobApplication[] sorted = SortedIndex.sort(STATUS, new JobApplication[] {j5, j2, j4, j3, j1});
+        assertArrayEquals(new JobApplication[] {j1, j3, j4, j2, j5}, sorted);
+    }
+
+    /*
+     * EFFECTS: returns a job application with the given fields that was added to a tracker in the given position
+     */
+    private JobApplication application(String date, String company, long sequence) {
+        JobApplication j = new JobApplication(date, company, "Engineer");
+        j.sequence = sequence;
+        return j;
+    }
+}
@@ -0,0 +1,102 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the SubmissionDateIndex class
+public class SubmissionDateIndexTest {
+    private SubmissionDateIndex index;
+    private JobApplication j1;
+    private JobApplication j2;
+    private JobApplication j3;
+
+    @BeforeEach
+    public void setUp() {
+        index = new SubmissionDateIndex();
+        j1 = new JobApplication("2023-02-05", "Microsoft", "Product Manager");
+        j2 = new JobApplication("2023-02-05", "Google", "Software Engineer");
+        j3 = new JobApplication("2022-12-25", "Apple", "iOS Engineer");
+        index.add(j1);
+        index.add(j2);
+        index.add(j3);
+    }
+
+    @Test
+    public void testBetweenOrderedByDateThenIndexOrder() {
+        ArrayList<JobApplication> result = toList(index.between(LocalDate.parse("2022-01-01"),
+                LocalDate.parse("2023-12-31"), null));
+        assertEquals(3, result.size());
+        assertSame(j3, result.get(0));
+        assertSame(j1, result.get(1));
+        assertSame(j2, result.get(2));
+    }
+
+    @Test
+    public void testBetweenInclusiveBounds() {
+        ArrayList<JobApplication> result = toList(index.between(LocalDate.parse("2022-12-25"),
+                LocalDate.parse("2022-12-25"), null));
+        assertEquals(1, result.size());
+        assertSame(j3, result.get(0));
+    }
+
+    @Test
+    public void testBetweenWithStatus() {
+        j2.setStatus(REJECTED);
+        ArrayList<JobApplication> result = toList(index.between(LocalDate.parse("2023-02-05"),
+                LocalDate.parse("2023-02-05"), REJECTED));
+        assertEquals(1, result.size());
+        assertSame(j2, result.get(0));
+    }
+
+    @Test
+    public void testBeforeExclusive() {
+        assertEquals(0, toList(index.before(LocalDate.parse("2022-12-25"), null)).size());
+        assertEquals(1, toList(index.before(LocalDate.parse("2023-02-05"), null)).size());
+        assertEquals(3, toList(index.before(LocalDate.parse("2023-02-06"), SUBMITTED)).size());
+    }
+
+    @Test
+    public void testRemove() {
+        index.remove(j1, j1.getSubmissionDate());
+        ArrayList<JobApplication> result = toList(index.before(LocalDate.parse("2024-01-01"), null));
+        assertEquals(2, result.size());
+        assertFalse(result.contains(j1));
+
+        index.remove(j2, j2.getSubmissionDate());
+        assertEquals(0, toList(index.between(LocalDate.parse("2023-02-05"),
+                LocalDate.parse("2023-02-05"), null)).size());
+    }
+
+    @Test
+    public void testClear() {
+        index.clear();
+        assertEquals(0, toList(index.before(LocalDate.parse("2024-01-01"), null)).size());
+    }
+
+    @Test
+    public void testIteratorExhausted() {
+        Iterator<JobApplication> iterator = index.before(LocalDate.parse("2023-01-01"), null).iterator();
+        assertSame(j3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    /*
+     * EFFECTS: returns the job applications in the given view as a list
+     */
+    private ArrayList<JobApplication> toList(Iterable<JobApplication> view) {
+        ArrayList<JobApplication> list = new ArrayList<>();
+        for (JobApplication j : view) {
+            list.add(j);
+        }
+        return list;
+    }
+}
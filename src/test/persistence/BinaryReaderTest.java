@@ -0,0 +1,160 @@
+package persistence;
+
+import model.JobApplication;
+import model.JobApplicationTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BinaryReaderTest extends JsonTest {
+    private static final Path TYPICAL = Paths.get("./data/testReaderTypicalJobApplicationTracker.jtrk");
+    private static final Path CORRUPT = Paths.get("./data/testReaderCorruptJobApplicationTracker.jtrk");
+    private static final Path COMPRESSED = Paths.get("./data/testReaderCompressedJobApplicationTracker.jtrk.gz");
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(CORRUPT);
+        Files.deleteIfExists(COMPRESSED);
+    }
+
+    @Test
+    public void testReaderMissingFile() {
+        BinaryReader reader = new BinaryReader("./data/missingFile.jtrk");
+
+        try {
+            JobApplicationTracker tracker = reader.read();
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            // Expected outcome
+        }
+    }
+
+    @Test
+    public void testReaderTypicalJobApplicationTracker() {
+        BinaryReader reader = new BinaryReader(TYPICAL.toString());
+
+        try {
+            JobApplicationTracker tracker = reader.read();
+            checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 4, tracker);
+
+            List<JobApplication> jobApplicationList = tracker.getJobApplications();
+            checkJobApplicationFields("2023-02-05", "Microsoft", "Product Manager",
+                    SUBMITTED, jobApplicationList.get(0));
+            checkJobApplicationFields("2023-06-20", "Google", "Software Engineer",
+                    INTERVIEWED, jobApplicationList.get(1));
+            checkJobApplicationFields("2022-12-25", "Apple", "iOS Engineer",
+                    REJECTED, jobApplicationList.get(2));
+            checkJobApplicationFields("2022-11-28", "Meta", "Tech Lead", ACCEPTED,
+                    jobApplicationList.get(3));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testReaderLargerThanBuffer() throws IOException {
+        JobApplicationTracker tracker = new JobApplicationTracker("Large");
+        ArrayList<JobApplication> jobApplications = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            jobApplications.add(new JobApplication(i, "Company " + i % 3000, "Role " + i));
+        }
+        tracker.addAll(jobApplications);
+
+        for (Path file : new Path[] {CORRUPT, COMPRESSED}) {
+            BinaryWriter writer = new BinaryWriter(file.toString());
+            writer.open();
+            writer.write(tracker);
+            writer.close();
+
+            JobApplicationTracker read = new BinaryReader(file.toString()).read();
+            assertEquals(tracker.getJobApplications(), read.getJobApplications());
+        }
+    }
+
+    @Test
+    public void testReaderTruncatedCompressedFile() throws IOException {
+        BinaryWriter writer = new BinaryWriter(COMPRESSED.toString());
+        writer.open();
+        writer.write(new BinaryReader(TYPICAL.toString()).read());
+        writer.close();
+        byte[] bytes = Files.readAllBytes(COMPRESSED);
+        Files.write(COMPRESSED, Arrays.copyOf(bytes, bytes.length / 2));
+
+        try {
+            new BinaryReader(COMPRESSED.toString()).read();
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            // Expected outcome
+        }
+    }
+
+    @Test
+    public void testReaderNotBinaryFile() throws IOException {
+        checkCorrupt(Files.readAllBytes(Paths.get("./data/testReaderTypicalJobApplicationTracker.json")),
+                "Not a binary tracker file");
+    }
+
+    @Test
+    public void testReaderUnsupportedVersion() throws IOException {
+        byte[] bytes = Files.readAllBytes(TYPICAL);
+        ByteBuffer.wrap(bytes).putInt(BinaryFormat.MAGIC.length, BinaryFormat.VERSION + 1);
+        checkCorrupt(bytes, "Unsupported binary tracker file version");
+    }
+
+    @Test
+    public void testReaderTruncatedFile() throws IOException {
+        byte[] bytes = Files.readAllBytes(TYPICAL);
+        checkCorrupt(Arrays.copyOf(bytes, bytes.length - 1), "Truncated or corrupt");
+        checkCorrupt(Arrays.copyOf(bytes, BinaryFormat.MAGIC.length + 2), "Truncated or corrupt");
+        checkCorrupt(Arrays.copyOf(bytes, BinaryFormat.MAGIC.length + 3 * Integer.BYTES), "Truncated or corrupt");
+    }
+
+    @Test
+    public void testReaderDictionaryIndexOutOfRange() throws IOException {
+        byte[] bytes = Files.readAllBytes(TYPICAL);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, Integer.MAX_VALUE);
+        checkCorrupt(bytes, "Truncated or corrupt");
+    }
+
+    @Test
+    public void testReaderHugeDictionaryCount() throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(BinaryFormat.MAGIC.length + 4 * Integer.BYTES + 1);
+        bytes.put(BinaryFormat.MAGIC).putInt(BinaryFormat.VERSION).putInt(0).putInt(0).putInt(0x7ffffff0);
+        checkCorrupt(bytes.array(), "Truncated or corrupt");
+    }
+
+    @Test
+    public void testReaderStatusOutOfRange() throws IOException {
+        byte[] bytes = Files.readAllBytes(TYPICAL);
+        bytes[bytes.length - 2 * Integer.BYTES - 1] = (byte) values().length;
+        checkCorrupt(bytes, "Truncated or corrupt");
+    }
+
+    /*
+     * EFFECTS: writes the given bytes to a file and checks that reading it fails with a message starting with the
+     *          given text
+     */
+    private void checkCorrupt(byte[] bytes, String message) throws IOException {
+        Files.write(CORRUPT, bytes);
+
+        try {
+            new BinaryReader(CORRUPT.toString()).read();
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            assertTrue(ioe.getMessage().startsWith(message), ioe.getMessage());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package persistence;
+
+import model.JobApplication;
+import model.JobApplicationTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BinaryWriterTest extends JsonTest {
+    private JobApplicationTracker tracker;
+
+    @BeforeEach
+    public void setUp() {
+        tracker = new JobApplicationTracker("Sophia's Job Application Tracker");
+    }
+
+    @Test
+    public void testWriterInvalidFileName() {
+        try {
+            BinaryWriter writer = new BinaryWriter("./data/my\0illegal:fileName.jtrk");
+            writer.open();
+            fail("IOException should have been thrown.");
+        } catch (IOException | RuntimeException e) {
+            // Expected outcome
+        }
+    }
+
+    @Test
+    public void testWriterEmptyJobApplicationTracker() {
+        try {
+            writeTracker("./data/testWriterEmptyJobApplicationTracker.jtrk");
+
+            BinaryReader reader = new BinaryReader("./data/testWriterEmptyJobApplicationTracker.jtrk");
+            tracker = reader.read();
+            checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 0, tracker);
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testWriterTypicalJobApplicationTracker() {
+        try {
+            addJobApplicationsToTracker();
+            writeTracker("./data/testWriterTypicalJobApplicationTracker.jtrk");
+
+            BinaryReader reader = new BinaryReader("./data/testWriterTypicalJobApplicationTracker.jtrk");
+            tracker = reader.read();
+            checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 5, tracker);
+
+            List<JobApplication> jobApplicationList = tracker.getJobApplications();
+            checkJobApplicationFields("2023-02-05", "Microsoft", "Product Manager",
+                    SUBMITTED, jobApplicationList.get(0));
+            checkJobApplicationFields("2023-06-20", "Google", "Software Engineer",
+                    INTERVIEWED, jobApplicationList.get(1));
+            checkJobApplicationFields("2022-12-25", "Apple", "iOS Engineer",
+                    REJECTED, jobApplicationList.get(2));
+            checkJobApplicationFields("2022-11-28", "Meta", "Tech Lead", ACCEPTED,
+                    jobApplicationList.get(3));
+            checkJobApplicationFields("1969-07-20", "Google", "Product Manager", SUBMITTED,
+                    jobApplicationList.get(4));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testWriterStoresEachNameOnce() {
+        try {
+            addJobApplicationsToTracker();
+            writeTracker("./data/testWriterTypicalJobApplicationTracker.jtrk");
+
+            String[] names = {"Sophia's Job Application Tracker", "Microsoft", "Product Manager", "Google",
+                    "Software Engineer", "Apple", "iOS Engineer", "Meta", "Tech Lead"};
+            int expected = BinaryFormat.MAGIC.length + 3 * Integer.BYTES + 5 * BinaryFormat.RECORD_SIZE;
+            for (String name : names) {
+                expected += Integer.BYTES + name.getBytes(StandardCharsets.UTF_8).length;
+            }
+            assertEquals(expected, Files.size(Paths.get("./data/testWriterTypicalJobApplicationTracker.jtrk")));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testWriterCompressedJobApplicationTracker() {
+        try {
+            addJobApplicationsToTracker();
+            writeTracker("./data/testWriterCompressedJobApplicationTracker.jtrk.gz");
+
+            byte[] written = Files.readAllBytes(Paths.get("./data/testWriterCompressedJobApplicationTracker.jtrk.gz"));
+            assertEquals((byte) 0x1f, written[0]);
+            assertEquals((byte) 0x8b, written[1]);
+
+            BinaryReader reader = new BinaryReader("./data/testWriterCompressedJobApplicationTracker.jtrk.gz");
+            tracker = reader.read();
+            checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 5, tracker);
+            checkJobApplicationFields("1969-07-20", "Google", "Product Manager", SUBMITTED,
+                    tracker.getJobApplications().get(4));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testWriterSpecialCharacters() {
+        try {
+            tracker.add(new JobApplication("2021-01-01", "Ben & Jerry's \"Scoops\" </>", "Taster\tin\u00e9 \u2603"));
+            writeTracker("./data/testWriterSpecialCharactersJobApplicationTracker.jtrk");
+
+            BinaryReader reader = new BinaryReader("./data/testWriterSpecialCharactersJobApplicationTracker.jtrk");
+            tracker = reader.read();
+            checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 1, tracker);
+            checkJobApplicationFields("2021-01-01", "Ben & Jerry's \"Scoops\" </>", "Taster\tin\u00e9 \u2603",
+                    SUBMITTED, tracker.getJobApplications().get(0));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    /*
+     * EFFECTS: writes the tracker to the given file in the binary format
+     */
+    private void writeTracker(String destination) throws IOException {
+        BinaryWriter writer = new BinaryWriter(destination);
+        writer.open();
+        writer.write(tracker);
+        writer.close();
+    }
+
+    /*
+     * MODIFIES: this
+     * EFFECTS: adds 5 different job applications to the tracker, some of which share names
+     */
+    private void addJobApplicationsToTracker() {
+        JobApplication j1 = new JobApplication("2023-02-05", "Microsoft", "Product Manager");
+        JobApplication j2 = new JobApplication("2023-06-20", "Google", "Software Engineer");
+        JobApplication j3 = new JobApplication("2022-12-25", "Apple", "iOS Engineer");
+        JobApplication j4 = new JobApplication("2022-11-28", "Meta", "Tech Lead");
+        JobApplication j5 = new JobApplication("1969-07-20", "Google", "Product Manager");
+
+        j2.setStatus(INTERVIEWED);
+        j3.setStatus(REJECTED);
+        j4.setStatus(ACCEPTED);
+
+        tracker.add(j1);
+        tracker.add(j2);
+        tracker.add(j3);
+        tracker.add(j4);
+        tracker.add(j5);
+    }
+}
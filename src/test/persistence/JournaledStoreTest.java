@@ -0,0 +1,437 @@
+package persistence;
+
+import model.Event;
+import model.EventLog;
+import model.JobApplication;
+import model.JobApplicationTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JournaledStoreTest extends JsonTest {
+    private static final String SNAPSHOT = "./data/testJournaledStore.json";
+
+    private Path snapshot;
+    private Path journal;
+    private JournaledStore store;
+    private JobApplicationTracker tracker;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        snapshot = Paths.get(SNAPSHOT);
+        journal = Paths.get(SNAPSHOT + ".journal");
+        deleteFiles();
+        store = new JournaledStore(SNAPSHOT);
+        tracker = new JobApplicationTracker("Sophia's Job Application Tracker");
+        tracker.add(new JobApplication("2023-02-05", "Microsoft", "Product Manager"));
+        tracker.add(new JobApplication("2023-06-20", "Google", "Software Engineer"));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        store.close();
+        deleteFiles();
+    }
+
+    @Test
+    public void testLoadMissingSnapshot() {
+        try {
+            store.load();
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            // Expected outcome
+        }
+    }
+
+    @Test
+    public void testSaveNewTrackerWritesSnapshot() throws IOException {
+        store.save(tracker);
+
+        assertTrue(Files.exists(snapshot));
+        assertFalse(Files.exists(journal));
+        JobApplicationTracker loaded = new JsonReader(SNAPSHOT).read();
+        assertEquals(describe(tracker), describe(loaded));
+    }
+
+    @Test
+    public void testSaveAttachedTrackerAppendsToJournal() throws IOException {
+        store.save(tracker);
+        byte[] snapshotBytes = Files.readAllBytes(snapshot);
+
+        tracker.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        store.save(tracker);
+        long oneChange = Files.size(journal);
+        tracker.getJobApplications().get(0).setStatus(INTERVIEWED);
+        store.save(tracker);
+
+        assertArrayEquals(snapshotBytes, Files.readAllBytes(snapshot));
+        assertEquals(2, Files.readAllLines(journal).size());
+        assertTrue(oneChange < 100);
+        assertEquals(describe(tracker), describe(reload()));
+    }
+
+    @Test
+    public void testSaveReportsBytesWritten() throws IOException {
+        SaveReport snapshotReport = store.save(tracker);
+        assertEquals(Files.size(snapshot), snapshotReport.getBytesWritten());
+        assertFalse(tracker.isDirty());
+
+        tracker.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        assertTrue(tracker.isDirty());
+        SaveReport journalReport = store.save(tracker);
+        assertEquals(Files.size(journal), journalReport.getBytesWritten());
+        assertTrue(journalReport.getNanos() >= 0);
+        assertFalse(tracker.isDirty());
+
+        SaveReport cleanReport = store.save(tracker);
+        assertTrue(cleanReport.isEmpty());
+        assertEquals(journalReport.getBytesWritten(), Files.size(journal));
+    }
+
+    @Test
+    public void testLoadedTrackerIsClean() throws IOException {
+        store.save(tracker);
+        tracker.getJobApplications().get(0).setStatus(REJECTED);
+        store.save(tracker);
+
+        JobApplicationTracker loaded = reload();
+        assertFalse(loaded.isDirty());
+        loaded.getJobApplications().get(1).setStatus(ACCEPTED);
+        assertTrue(loaded.isDirty(loaded.getJobApplications().get(1)));
+        assertFalse(loaded.isDirty(loaded.getJobApplications().get(0)));
+    }
+
+    @Test
+    public void testSaveWithoutChanges() throws IOException {
+        store.save(tracker);
+        store.save(tracker);
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    public void testReplayAllChanges() throws IOException {
+        store.save(tracker);
+        JobApplicationTracker loaded = reload();
+
+        loaded.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        loaded.add(new JobApplication("2022-11-28", "Meta", "Tech Lead"));
+        loaded.remove(new JobApplication("2023-02-05", "Microsoft", "Product Manager"));
+        JobApplication google = loaded.getJobApplications().get(0);
+        google.setStatus(ACCEPTED);
+        google.setCompanyName("Alphabet \"X\"");
+        google.setRoleName("Staff Engineer");
+        google.setSubmissionDate("2023-07-01");
+        loaded.removeIf(j -> j.getCompanyName().equals("Meta"));
+        store.save(loaded);
+
+        JobApplicationTracker reloaded = reload();
+        assertEquals(describe(loaded), describe(reloaded));
+        checkJobApplicationFields("2023-07-01", "Alphabet \"X\"", "Staff Engineer", ACCEPTED,
+                reloaded.getJobApplications().get(0));
+    }
+
+    @Test
+    public void testLoadSummary() throws IOException {
+        store.save(tracker);
+        JobApplicationTracker loaded = reload();
+        loaded.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        loaded.add(new JobApplication("2022-11-28", "Meta", "Tech Lead"));
+        loaded.remove(new JobApplication("2023-02-05", "Microsoft", "Product Manager"));
+        loaded.getJobApplications().get(0).setStatus(ACCEPTED);
+        loaded.getJobApplications().get(1).setStatus(REJECTED);
+        store.save(loaded);
+        store.close();
+
+        store = new JournaledStore(SNAPSHOT);
+        TrackerSummary summary = store.loadSummary();
+        assertEquals("Sophia's Job Application Tracker", summary.getName());
+        assertEquals(3, summary.size());
+        assertEquals(1, summary.count(SUBMITTED));
+        assertEquals(1, summary.count(ACCEPTED));
+        assertEquals(1, summary.count(REJECTED));
+        assertEquals(describe(loaded), describe(store.load()));
+    }
+
+    @Test
+    public void testLoadSummaryAfterClear() throws IOException {
+        store.save(tracker);
+        JobApplicationTracker loaded = reload();
+        loaded.removeAllJobApplications();
+        loaded.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        store.save(loaded);
+
+        TrackerSummary summary = store.loadSummary();
+        assertEquals(1, summary.size());
+        assertEquals(1, summary.count(SUBMITTED));
+    }
+
+    @Test
+    public void testReplayClear() throws IOException {
+        store.save(tracker);
+        JobApplicationTracker loaded = reload();
+        loaded.removeAllJobApplications();
+        loaded.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        store.save(loaded);
+
+        assertEquals(describe(loaded), describe(reload()));
+    }
+
+    @Test
+    public void testUnsavedChangesAreNotJournaled() throws IOException {
+        store.save(tracker);
+        tracker.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+
+        assertEquals(2, reload().getJobApplications().size());
+    }
+
+    @Test
+    public void testTornJournalLineIsDiscarded() throws IOException {
+        store.save(tracker);
+        tracker.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        store.save(tracker);
+        long length = Files.size(journal);
+        Files.write(journal, "[\"A\",9,\"2022-11-28\",\"Me".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JobApplicationTracker loaded = reload();
+        assertEquals(describe(tracker), describe(loaded));
+        assertEquals(length, Files.size(journal));
+
+        loaded.add(new JobApplication("2022-11-28", "Meta", "Tech Lead"));
+        store.save(loaded);
+        assertEquals(describe(loaded), describe(reload()));
+    }
+
+    @Test
+    public void testCompact() throws IOException {
+        store.save(tracker);
+        tracker.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        tracker.getJobApplications().get(1).setStatus(REJECTED);
+        store.save(tracker);
+
+        store.compact();
+        assertEquals(0, Files.size(journal));
+        assertEquals(describe(tracker), describe(new JsonReader(SNAPSHOT).read()));
+
+        tracker.add(new JobApplication("2022-11-28", "Meta", "Tech Lead"));
+        store.save(tracker);
+        assertEquals(1, Files.readAllLines(journal).size());
+        assertEquals(describe(tracker), describe(reload()));
+    }
+
+    @Test
+    public void testCompressedSnapshot() throws IOException {
+        store.close();
+        store = new JournaledStore(SNAPSHOT + ".gz");
+        try {
+            store.save(tracker);
+            tracker.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+            store.save(tracker);
+            store.compact();
+
+            JobApplicationTracker loaded = new JsonReader(SNAPSHOT + ".gz").read();
+            assertEquals(describe(tracker), describe(loaded));
+            store.close();
+            store = new JournaledStore(SNAPSHOT + ".gz");
+            assertEquals(describe(tracker), describe(store.load()));
+        } finally {
+            store.close();
+            for (String suffix : new String[] {"", ".journal"}) {
+                Files.deleteIfExists(Paths.get(SNAPSHOT + ".gz" + suffix));
+            }
+        }
+    }
+
+    @Test
+    public void testCrashBetweenSnapshotAndJournalReplacement() throws IOException {
+        store.save(tracker);
+        tracker.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        tracker.remove(new JobApplication("2023-02-05", "Microsoft", "Product Manager"));
+        store.save(tracker);
+        byte[] oldJournal = Files.readAllBytes(journal);
+
+        store.compact();
+        Files.write(journal, oldJournal);
+
+        assertEquals(describe(tracker), describe(reload()));
+    }
+
+    @Test
+    public void testCrashBetweenNewSnapshotAndJournalDeletion() throws IOException {
+        store.save(tracker);
+        tracker.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        tracker.getJobApplications().get(0).setStatus(REJECTED);
+        store.save(tracker);
+        byte[] oldJournal = Files.readAllBytes(journal);
+        store.close();
+
+        store = new JournaledStore(SNAPSHOT);
+        JobApplicationTracker other = new JobApplicationTracker("Other Tracker");
+        other.add(new JobApplication("2022-11-28", "Meta", "Tech Lead"));
+        store.save(other);
+        Files.write(journal, oldJournal);
+
+        assertEquals(describe(other), describe(reload()));
+    }
+
+    @Test
+    public void testReplayChangesTheRightEqualJobApplication() throws IOException {
+        store.save(tracker);
+        JobApplicationTracker loaded = reload();
+        loaded.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        List<JobApplication> jobApplications = loaded.getJobApplications();
+
+        jobApplications.get(1).setFields(jobApplications.get(0));
+        jobApplications.get(1).setStatus(REJECTED);
+        jobApplications.get(2).setFields(jobApplications.get(0));
+        loaded.remove(jobApplications.get(2));
+        store.save(loaded);
+
+        JobApplicationTracker reloaded = reload();
+        assertEquals(describe(loaded), describe(reloaded));
+        assertEquals(REJECTED, reloaded.getJobApplications().get(1).getStatus());
+    }
+
+    @Test
+    public void testReplayLogsOneEvent() throws IOException {
+        store.save(tracker);
+        int before = countEvents();
+        reload();
+        int snapshotEvents = countEvents() - before;
+
+        JobApplicationTracker loaded = reload();
+        for (int i = 0; i < 5; i++) {
+            loaded.add(new JobApplication("2023-01-01", "Company " + i, "Role " + i));
+        }
+        loaded.getJobApplications().get(0).setFields(new JobApplication("2021-01-01", "Amazon", "Data Scientist"));
+        loaded.removeAllJobApplications();
+        loaded.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        store.save(loaded);
+
+        before = countEvents();
+        assertEquals(describe(loaded), describe(reload()));
+        assertEquals(snapshotEvents + 1, countEvents() - before);
+    }
+
+    @Test
+    public void testBackgroundCompaction() throws IOException {
+        store.save(tracker);
+        ArrayList<JobApplication> jobApplications = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            jobApplications.add(new JobApplication("2023-01-01", "Company " + i, "Role " + i));
+        }
+        tracker.addAll(jobApplications);
+        store.save(tracker);
+        store.awaitCompaction();
+
+        assertEquals(0, Files.size(journal));
+        assertEquals(describe(tracker), describe(new JsonReader(SNAPSHOT).read()));
+    }
+
+    @Test
+    public void testBackgroundCompactionFailureReportedByNextSave() throws IOException {
+        store.save(tracker);
+        Files.createDirectory(Paths.get(SNAPSHOT + ".compact"));
+        ArrayList<JobApplication> jobApplications = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            jobApplications.add(new JobApplication("2023-01-01", "Company " + i, "Role " + i));
+        }
+        tracker.addAll(jobApplications);
+        assertNull(store.save(tracker).getCompactionFailure());
+        store.awaitCompaction();
+
+        assertTrue(lastEvent().getDescription().startsWith("Could not compact the journal: "));
+        assertTrue(Files.size(journal) > 0);
+        Files.delete(Paths.get(SNAPSHOT + ".compact"));
+        tracker.remove(jobApplications.get(0));
+        SaveReport report = store.save(tracker);
+        assertNotNull(report.getCompactionFailure());
+        store.awaitCompaction();
+        assertNull(store.save(tracker).getCompactionFailure());
+        assertEquals(0, Files.size(journal));
+        assertEquals(describe(tracker), describe(new JsonReader(SNAPSHOT).read()));
+    }
+
+    @Test
+    public void testSaveOtherTrackerReplacesSnapshot() throws IOException {
+        store.save(tracker);
+        tracker.add(new JobApplication("2022-12-25", "Apple", "iOS Engineer"));
+        store.save(tracker);
+
+        JobApplicationTracker other = new JobApplicationTracker("Other Tracker");
+        other.add(new JobApplication("2022-11-28", "Meta", "Tech Lead"));
+        store.save(other);
+        tracker.add(new JobApplication("2021-01-01", "Amazon", "Data Scientist"));
+        store.save(other);
+
+        assertFalse(Files.exists(journal));
+        JobApplicationTracker loaded = reload();
+        assertEquals("Other Tracker", loaded.getName());
+        assertEquals(describe(other), describe(loaded));
+    }
+
+    /*
+     * EFFECTS: closes the store, then loads the tracker from a new store on the same files
+     */
+    private JobApplicationTracker reload() throws IOException {
+        store.close();
+        store = new JournaledStore(SNAPSHOT);
+        return store.load();
+    }
+
+    /*
+     * EFFECTS: returns the name and fields of all job applications of the given tracker, in order
+     */
+    private List<String> describe(JobApplicationTracker tracker) {
+        List<String> description = new ArrayList<>();
+        description.add(tracker.getName());
+        for (JobApplication j : tracker.getJobApplications()) {
+            description.add(j.getSubmissionDate() + "|" + j.getCompanyName() + "|" + j.getRoleName() + "|"
+                    + j.getStatus());
+        }
+        return description;
+    }
+
+    /*
+     * EFFECTS: returns the latest event in the event log, or null if there is none
+     */
+    private Event lastEvent() {
+        Event last = null;
+        for (Event e : EventLog.getInstance()) {
+            last = e;
+        }
+        return last;
+    }
+
+    /*
+     * EFFECTS: returns the number of events in the event log
+     */
+    private int countEvents() {
+        int count = 0;
+        for (Event e : EventLog.getInstance()) {
+            count++;
+        }
+        return count;
+    }
+
+    /*
+     * EFFECTS: deletes the files the store may have written
+     */
+    private void deleteFiles() throws IOException {
+        for (String suffix : new String[] {"", ".journal", ".tmp", ".compact", ".journal.tmp"}) {
+            Files.deleteIfExists(Paths.get(SNAPSHOT + suffix));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonArraySplitterTest {
+    @Test
+    public void testSplitEveryElement() {
+        String json = "{\"name\": \"x\", \"list\": [{\"a\": 1}, {\"a\": [2, 3]}, \"s\", 4]}";
+        JsonArraySplitter splitter = splitter(json);
+
+        int[] boundaries = splitter.split("list", 1);
+        assertArrayEquals(new int[] {json.indexOf('['), json.indexOf(", {\"a\": ["), json.indexOf(", \"s\""),
+                json.indexOf(", 4"), json.lastIndexOf(']')}, boundaries);
+        assertEquals(json.indexOf('['), splitter.getArrayStart());
+        assertEquals(json.lastIndexOf(']'), splitter.getArrayEnd());
+    }
+
+    @Test
+    public void testSplitIntoRuns() {
+        String json = "{\"list\":[11111,22222,33333,44444,55555]}";
+        int start = json.indexOf('[');
+
+        int[] boundaries = splitter(json).split("list", 12);
+        assertArrayEquals(new int[] {start, start + 12, start + 24, json.lastIndexOf(']')}, boundaries);
+        assertArrayEquals(new int[] {start, json.lastIndexOf(']')}, splitter(json).split("list", 1000));
+    }
+
+    @Test
+    public void testSplitSkipsOtherMembersAndStrings() {
+        String json = "{ \"other\" : {\"list\": [1, 2]}, \"text\": \"\\\"list\\\": [3, ]\", \"n\": -1.5e3,\n"
+                + "  \"list\" : [ \"a,b]\" , \"c\\\\\" ] }";
+
+        int[] boundaries = splitter(json).split("list", 1);
+        int start = json.lastIndexOf('[');
+        assertArrayEquals(new int[] {start, json.indexOf(" , \"c") + 1, json.lastIndexOf(']')}, boundaries);
+    }
+
+    @Test
+    public void testSplitEmptyArray() {
+        String json = "{\"list\": [ ]}";
+        assertArrayEquals(new int[] {json.indexOf('['), json.indexOf(']')}, splitter(json).split("list", 1));
+    }
+
+    @Test
+    public void testSplitNonAsciiNames() {
+        String json = "{\"caf\u00e9\": [1], \"list\": [\"\u2603\", 2]}";
+        int[] boundaries = splitter(json).split("list", 1);
+
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        assertEquals('[', bytes[boundaries[0]]);
+        assertEquals(',', bytes[boundaries[1]]);
+        assertEquals(']', bytes[boundaries[2]]);
+    }
+
+    @Test
+    public void testSplitNotFound() {
+        assertNull(splitter("{\"name\": \"list\"}").split("list", 1));
+        assertNull(splitter("{\"list\": \"[1, 2]\"}").split("list", 1));
+        assertNull(splitter("{}").split("list", 1));
+        assertNull(splitter("[{\"list\": [1]}]").split("list", 1));
+        assertNull(splitter("").split("list", 1));
+    }
+
+    @Test
+    public void testSplitMalformed() {
+        assertNull(splitter("{\"list\": [1, 2").split("list", 1));
+        assertNull(splitter("{\"list\": [1 2]}").split("list", 1));
+        assertNull(splitter("{\"name\" \"x\", \"list\": [1]}").split("list", 1));
+        assertNull(splitter("{\"name\": \"x\" \"list\": [1]}").split("list", 1));
+        assertNull(splitter("{\"list\":").split("list", 1));
+        assertNull(splitter("{\"list\": [\"unterminated]}").split("list", 1));
+    }
+
+    /*
+     * EFFECTS: returns a splitter over the UTF-8 encoding of the given document
+     */
+    private JsonArraySplitter splitter(String json) {
+        return new JsonArraySplitter(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+package persistence;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonPullParserTest {
+    @Test
+    public void testObjectWithArray() throws IOException {
+        JsonPullParser parser = parser(" { \"name\" : \"Tracker\", \"list\": [ \"a\" , \"b\" ] } ");
+
+        parser.beginObject();
+        assertTrue(parser.hasNext());
+        assertEquals("name", parser.nextName());
+        assertEquals("Tracker", parser.nextString());
+        assertTrue(parser.hasNext());
+        assertEquals("list", parser.nextName());
+
+        ArrayList<String> values = new ArrayList<>();
+        parser.beginArray();
+        while (parser.hasNext()) {
+            values.add(parser.nextString());
+        }
+        parser.endArray();
+
+        assertFalse(parser.hasNext());
+        parser.endObject();
+        parser.endDocument();
+        assertEquals(2, values.size());
+        assertEquals("a", values.get(0));
+        assertEquals("b", values.get(1));
+    }
+
+    @Test
+    public void testEmptyObjectAndArray() throws IOException {
+        JsonPullParser parser = parser("{\"list\":[]}");
+
+        parser.beginObject();
+        assertTrue(parser.hasNext());
+        parser.nextName();
+        parser.beginArray();
+        assertFalse(parser.hasNext());
+        parser.endArray();
+        assertFalse(parser.hasNext());
+        parser.endObject();
+    }
+
+    @Test
+    public void testEscapes() throws IOException {
+        JsonPullParser parser = parser("\"Sophia's \\\"Tracker\\\" \\\\ \\/ \\n\\t\\b\\f\\r \\u00e9\\u4E2D\"");
+        assertEquals("Sophia's \"Tracker\" \\ / \n\t\b\f\r \u00e9\u4e2d", parser.nextString());
+    }
+
+    @Test
+    public void testLongStringAcrossBuffers() throws IOException {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            expected.append((char) ('a' + i % 26));
+        }
+
+        JsonPullParser parser = parser("[\"" + expected + "\", \"end\"]");
+        parser.beginArray();
+        assertTrue(parser.hasNext());
+        assertEquals(expected.toString(), parser.nextString());
+        assertTrue(parser.hasNext());
+        assertEquals("end", parser.nextString());
+    }
+
+    @Test
+    public void testSkipValue() throws IOException {
+        JsonPullParser parser = parser("{\"a\": {\"b\": [1, -2.5e3, true, false, null, {}]}, \"c\": \"kept\"}");
+
+        parser.beginObject();
+        assertTrue(parser.hasNext());
+        assertEquals("a", parser.nextName());
+        parser.skipValue();
+        assertTrue(parser.hasNext());
+        assertEquals("c", parser.nextName());
+        assertEquals("kept", parser.nextString());
+        assertFalse(parser.hasNext());
+        parser.endObject();
+        parser.endDocument();
+    }
+
+    @Test
+    public void testNextLong() throws IOException {
+        JsonPullParser parser = parser("[12, -3, 9223372036854775807]");
+
+        parser.beginArray();
+        assertTrue(parser.hasNext());
+        assertEquals(12, parser.nextLong());
+        assertTrue(parser.hasNext());
+        assertEquals(-3, parser.nextLong());
+        assertTrue(parser.hasNext());
+        assertEquals(Long.MAX_VALUE, parser.nextLong());
+        assertThrows(JSONException.class, () -> parser("1.5").nextLong());
+        assertThrows(JSONException.class, () -> parser("\"1\"").nextLong());
+    }
+
+    @Test
+    public void testMissingComma() throws IOException {
+        JsonPullParser parser = parser("[\"a\" \"b\"]");
+
+        parser.beginArray();
+        assertTrue(parser.hasNext());
+        parser.nextString();
+        assertThrows(JSONException.class, parser::hasNext);
+    }
+
+    @Test
+    public void testUnexpectedToken() {
+        assertThrows(JSONException.class, () -> parser("[1]").beginObject());
+        assertThrows(JSONException.class, () -> parser("{\"a\" 1}").nextName());
+        assertThrows(JSONException.class, () -> parser("1").nextString());
+        assertThrows(JSONException.class, () -> parser(",").skipValue());
+    }
+
+    @Test
+    public void testUnterminatedString() {
+        assertThrows(JSONException.class, () -> parser("\"abc").nextString());
+        assertThrows(JSONException.class, () -> parser("\"a\\x\"").nextString());
+        assertThrows(JSONException.class, () -> parser("\"\\u12\"").nextString());
+    }
+
+    @Test
+    public void testTrailingContent() throws IOException {
+        JsonPullParser parser = parser("{} {}");
+
+        parser.beginObject();
+        parser.endObject();
+        assertThrows(JSONException.class, parser::endDocument);
+    }
+
+    /*
+     * EFFECTS: returns a parser that reads the given JSON text
+     */
+    private JsonPullParser parser(String json) {
+        return new JsonPullParser(new StringReader(json));
+    }
+}
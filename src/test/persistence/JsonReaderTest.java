@@ -1,16 +1,27 @@
 package persistence;
 
 import model.JobApplication;
+import model.JobApplicationStatus;
 import model.JobApplicationTracker;
+import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 
 import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class JsonReaderTest extends JsonTest {
+    private static final Path PARALLEL_FILE = Paths.get("./data/testReaderParallelJobApplicationTracker.json");
+
     @Test
     public void testReaderMissingFile() {
         JsonReader reader = new JsonReader("./data/missingFile.json");
@@ -43,7 +54,7 @@ public class JsonReaderTest extends JsonTest {
             JobApplicationTracker tracker = reader.read();
             checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 4, tracker);
 
-            ArrayList<JobApplication> jobApplicationList = tracker.getJobApplications();
+            List<JobApplication> jobApplicationList = tracker.getJobApplications();
             checkJobApplicationFields("2023-02-05", "Microsoft", "Product Manager",
                     SUBMITTED, jobApplicationList.get(0));
             checkJobApplicationFields("2023-06-20", "Google", "Software Engineer",
@@ -56,4 +67,216 @@ public class JsonReaderTest extends JsonTest {
             fail("IOException should not have been thrown.");
         }
     }
+
+    @Test
+    public void testReaderReorderedJobApplicationTracker() {
+        JsonReader reader = new JsonReader("./data/testReaderReorderedJobApplicationTracker.json");
+
+        try {
+            JobApplicationTracker tracker = reader.read();
+            checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 2, tracker);
+
+            List<JobApplication> jobApplicationList = tracker.getJobApplications();
+            checkJobApplicationFields("2023-06-20", "Google", "Software Engineer",
+                    INTERVIEWED, jobApplicationList.get(0));
+            checkJobApplicationFields("2023-02-05", "Microsoft \"Azure\"", "Product Manager",
+                    SUBMITTED, jobApplicationList.get(1));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testReaderMissingField() {
+        JsonReader reader = new JsonReader("./data/testReaderMissingFieldJobApplicationTracker.json");
+
+        try {
+            reader.read();
+            fail("JSONException should have been thrown.");
+        } catch (JSONException e) {
+            // Expected outcome
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testReaderSummaryStopsBeforeJobApplications() throws IOException {
+        try {
+            Files.write(PARALLEL_FILE, ("{\"name\": \"Summary\", \"journalSequence\": 7, \"other\": [1], "
+                    + "\"statusCounts\": {\"SUBMITTED\": 2, \"REJECTED\": 1}, \"jobApplicationList\": [not json")
+                    .getBytes(StandardCharsets.UTF_8));
+            JsonReader reader = new JsonReader(PARALLEL_FILE.toString());
+
+            TrackerSummary summary = reader.readSummary();
+            assertEquals("Summary", summary.getName());
+            assertEquals(3, summary.size());
+            assertEquals(2, summary.count(SUBMITTED));
+            assertEquals(1, summary.count(REJECTED));
+            assertEquals(7, reader.getJournalSequence());
+        } finally {
+            Files.deleteIfExists(PARALLEL_FILE);
+        }
+    }
+
+    @Test
+    public void testReaderSummaryWithoutCounts() throws IOException {
+        JsonReader reader = new JsonReader("./data/testReaderTypicalJobApplicationTracker.json");
+
+        TrackerSummary summary = reader.readSummary();
+        assertEquals("Sophia's Job Application Tracker", summary.getName());
+        assertEquals(4, summary.size());
+        assertEquals(1, summary.count(SUBMITTED));
+        assertEquals(1, summary.count(INTERVIEWED));
+        assertEquals(1, summary.count(REJECTED));
+        assertEquals(1, summary.count(ACCEPTED));
+    }
+
+    @Test
+    public void testReaderSummaryNegativeCount() throws IOException {
+        try {
+            Files.write(PARALLEL_FILE, "{\"name\": \"Summary\", \"statusCounts\": {\"SUBMITTED\": -1}}"
+                    .getBytes(StandardCharsets.UTF_8));
+            new JsonReader(PARALLEL_FILE.toString()).readSummary();
+            fail("JSONException should have been thrown.");
+        } catch (JSONException e) {
+            // Expected outcome
+        } finally {
+            Files.deleteIfExists(PARALLEL_FILE);
+        }
+    }
+
+    @Test
+    public void testReaderParallelTypicalJobApplicationTracker() {
+        JsonReader reader = new JsonReader("./data/testReaderTypicalJobApplicationTracker.json", true);
+
+        try {
+            JobApplicationTracker tracker = reader.read();
+            checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 4, tracker);
+
+            List<JobApplication> jobApplicationList = tracker.getJobApplications();
+            checkJobApplicationFields("2023-02-05", "Microsoft", "Product Manager",
+                    SUBMITTED, jobApplicationList.get(0));
+            checkJobApplicationFields("2022-11-28", "Meta", "Tech Lead", ACCEPTED,
+                    jobApplicationList.get(3));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testReaderParallelMatchesSequential() throws IOException {
+        try {
+            writeLargeFile(PARALLEL_FILE, 20000, "");
+
+            JobApplicationTracker sequential = new JsonReader(PARALLEL_FILE.toString()).read();
+            JsonReader reader = new JsonReader(PARALLEL_FILE.toString(), true);
+            JobApplicationTracker parallel = reader.read();
+
+            assertEquals(20000 - 20000 / 7, parallel.getJobApplications().size());
+            assertEquals(sequential.getJobApplications(), parallel.getJobApplications());
+            assertEquals(sequential.toJson().toString(), parallel.toJson().toString());
+            assertEquals(42, reader.getJournalSequence());
+        } finally {
+            Files.deleteIfExists(PARALLEL_FILE);
+        }
+    }
+
+    @Test
+    public void testReaderCompressedMatchesPlain() throws IOException {
+        Path compressed = Paths.get(PARALLEL_FILE + ".gz");
+        try {
+            writeLargeFile(PARALLEL_FILE, 20000, "");
+            try (OutputStream out = TrackerStreams.openOutput(compressed.toString(), true)) {
+                out.write(Files.readAllBytes(PARALLEL_FILE));
+            }
+            assertTrue(Files.size(compressed) < Files.size(PARALLEL_FILE) / 4);
+
+            JobApplicationTracker plain = new JsonReader(PARALLEL_FILE.toString()).read();
+            JsonReader reader = new JsonReader(compressed.toString(), true);
+            JobApplicationTracker tracker = reader.read();
+
+            assertEquals(plain.toJson().toString(), tracker.toJson().toString());
+            assertEquals(42, reader.getJournalSequence());
+        } finally {
+            Files.deleteIfExists(PARALLEL_FILE);
+            Files.deleteIfExists(compressed);
+        }
+    }
+
+    @Test
+    public void testReaderCompressedNotGzip() throws IOException {
+        Path notCompressed = Paths.get(PARALLEL_FILE + ".gz");
+        try {
+            Files.copy(Paths.get("./data/testReaderTypicalJobApplicationTracker.json"), notCompressed);
+            new JsonReader(notCompressed.toString()).read();
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            // Expected outcome
+        } finally {
+            Files.deleteIfExists(notCompressed);
+        }
+    }
+
+    @Test
+    public void testReaderParallelMalformedChunk() throws IOException {
+        try {
+            writeLargeFile(PARALLEL_FILE, 20000, "\"broken\" 1");
+            new JsonReader(PARALLEL_FILE.toString(), true).read();
+            fail("JSONException should have been thrown.");
+        } catch (JSONException e) {
+            // Expected outcome
+        } finally {
+            Files.deleteIfExists(PARALLEL_FILE);
+        }
+    }
+
+    @Test
+    public void testReaderParallelMissingField() {
+        JsonReader reader = new JsonReader("./data/testReaderMissingFieldJobApplicationTracker.json", true);
+
+        try {
+            reader.read();
+            fail("JSONException should have been thrown.");
+        } catch (JSONException e) {
+            // Expected outcome
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testReaderParallelNoList() throws IOException {
+        try {
+            Files.write(PARALLEL_FILE, "{\"name\": \"Empty\"}".getBytes(StandardCharsets.UTF_8));
+            JobApplicationTracker tracker = new JsonReader(PARALLEL_FILE.toString(), true).read();
+            checkJobApplicationTrackerNameAndListSize("Empty", 0, tracker);
+        } finally {
+            Files.deleteIfExists(PARALLEL_FILE);
+        }
+    }
+
+    /*
+     * EFFECTS: writes a tracker file with the given number of job applications to the given path, every seventh of
+     *          which repeats an earlier one, and with the given extra member in the job application in the middle
+     */
+    private void writeLargeFile(Path path, int count, String extraMember) throws IOException {
+        StringBuilder json = new StringBuilder("{\"journalSequence\": 42, \"jobApplicationList\": [");
+        JobApplicationStatus[] statuses = JobApplicationStatus.values();
+
+        for (int i = 0; i < count; i++) {
+            int id = i % 7 == 6 ? i - 3 : i;
+            json.append(i == 0 ? "\n" : ",\n").append("{\"companyName\": \"Company \\\"").append(id % 100)
+                    .append("\\\"\", \"roleName\": \"Role ").append(id).append("\", \"submissionDate\": \"2023-0")
+                    .append(1 + id % 9).append("-1").append(id % 10).append("\", \"status\": \"")
+                    .append(statuses[id % statuses.length]).append('"');
+            if (i == count / 2 && !extraMember.isEmpty()) {
+                json.append(", ").append(extraMember);
+            }
+            json.append('}');
+        }
+
+        json.append("\n], \"name\": \"Large\"}");
+        Files.write(path, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,111 @@
+package persistence;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonStreamWriterTest {
+    private static final String SPECIAL = "Sophia's \"Tracker\" \\ </ \n\t\b\f\r \u0001 \u0085 \u2028 \u00e9";
+
+    @Test
+    public void testEmptyObjectAndArray() {
+        assertEquals("{}", write(4, json -> {
+            json.beginObject();
+            json.endObject();
+        }));
+        assertEquals("{\"list\":[]}", write(0, json -> {
+            json.beginObject();
+            json.name("list");
+            json.beginArray();
+            json.endArray();
+            json.endObject();
+        }));
+    }
+
+    @Test
+    public void testIndentedMatchesJsonObject() {
+        JSONObject inner = new JSONObject();
+        inner.put("value", SPECIAL);
+        inner.put("other", "");
+        JSONArray array = new JSONArray();
+        array.put(inner);
+        array.put("text");
+        JSONObject outer = new JSONObject();
+        outer.put("list", array);
+        outer.put("empty", new JSONArray());
+
+        assertEquals(outer.toString(4), write(4, json -> {
+            json.beginObject();
+            json.name("list");
+            json.beginArray();
+            json.beginObject();
+            json.name("other");
+            json.value("");
+            json.name("value");
+            json.value(SPECIAL);
+            json.endObject();
+            json.value("text");
+            json.endArray();
+            json.name("empty");
+            json.beginArray();
+            json.endArray();
+            json.endObject();
+        }));
+    }
+
+    @Test
+    public void testIndentedSingleMember() {
+        assertEquals("[\n  {\n    \"a\": \"b\"\n  }\n]", write(2, json -> {
+            json.beginArray();
+            json.beginObject();
+            json.name("a");
+            json.value("b");
+            json.endObject();
+            json.endArray();
+        }));
+    }
+
+    @Test
+    public void testCompactReadBack() throws IOException {
+        String output = write(0, json -> {
+            json.beginArray();
+            json.value(SPECIAL);
+            json.value("");
+            json.endArray();
+        });
+        assertFalse(output.contains("\n"));
+
+        JsonPullParser parser = new JsonPullParser(new StringReader(output));
+        parser.beginArray();
+        assertTrue(parser.hasNext());
+        assertEquals(SPECIAL, parser.nextString());
+        assertTrue(parser.hasNext());
+        assertEquals("", parser.nextString());
+        assertFalse(parser.hasNext());
+        parser.endArray();
+        parser.endDocument();
+    }
+
+    /*
+     * EFFECTS: returns the output of the given writes to a JSON stream writer with the given indent
+     */
+    private String write(int indent, Writes writes) {
+        StringWriter output = new StringWriter();
+        PrintWriter printWriter = new PrintWriter(output);
+        writes.apply(new JsonStreamWriter(printWriter, indent));
+        printWriter.flush();
+        return output.toString();
+    }
+
+    // Represents a sequence of writes to a JSON stream writer
+    private interface Writes {
+        void apply(JsonStreamWriter json);
+    }
+}
@@ -6,10 +6,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
 
 import static model.JobApplicationStatus.*;
 import static model.JobApplicationStatus.ACCEPTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class JsonWriterTest extends JsonTest {
@@ -61,7 +67,7 @@ public class JsonWriterTest extends JsonTest {
             tracker = reader.read();
             checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 4, tracker);
 
-            ArrayList<JobApplication> jobApplicationList = tracker.getJobApplications();
+            List<JobApplication> jobApplicationList = tracker.getJobApplications();
             checkJobApplicationFields("2023-02-05", "Microsoft", "Product Manager",
                     SUBMITTED, jobApplicationList.get(0));
             checkJobApplicationFields("2023-06-20", "Google", "Software Engineer",
@@ -75,6 +81,121 @@ public class JsonWriterTest extends JsonTest {
         }
     }
 
+    @Test
+    public void testWriterCompactJobApplicationTracker() {
+        try {
+            addJobApplicationsToTracker();
+
+            JsonWriter writer = new JsonWriter("./data/testWriterCompactJobApplicationTracker.json", false);
+            writer.open();
+            writer.write(tracker);
+            writer.close();
+
+            String written = new String(Files.readAllBytes(Paths.get(
+                    "./data/testWriterCompactJobApplicationTracker.json")), StandardCharsets.UTF_8);
+            assertEquals(tracker.toJson().toString(), written);
+
+            JsonReader reader = new JsonReader("./data/testWriterCompactJobApplicationTracker.json");
+            tracker = reader.read();
+            checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 4, tracker);
+            checkJobApplicationFields("2022-11-28", "Meta", "Tech Lead", ACCEPTED,
+                    tracker.getJobApplications().get(3));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testWriterCompressedJobApplicationTracker() {
+        try {
+            addJobApplicationsToTracker();
+
+            JsonWriter writer = new JsonWriter("./data/testWriterCompressedJobApplicationTracker.json.gz");
+            writer.open();
+            writer.write(tracker);
+            writer.close();
+
+            byte[] written = Files.readAllBytes(Paths.get("./data/testWriterCompressedJobApplicationTracker.json.gz"));
+            assertEquals((byte) 0x1f, written[0]);
+            assertEquals((byte) 0x8b, written[1]);
+
+            JsonReader reader = new JsonReader("./data/testWriterCompressedJobApplicationTracker.json.gz");
+            tracker = reader.read();
+            checkJobApplicationTrackerNameAndListSize("Sophia's Job Application Tracker", 4, tracker);
+            checkJobApplicationFields("2022-11-28", "Meta", "Tech Lead", ACCEPTED,
+                    tracker.getJobApplications().get(3));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testWriterCompressionOption() {
+        try {
+            addJobApplicationsToTracker();
+
+            JsonWriter writer = new JsonWriter("./data/testWriterCompressionOptionJobApplicationTracker.json", false,
+                    true);
+            writer.open();
+            writer.write(tracker);
+            writer.close();
+
+            try (InputStream in = TrackerStreams.openInput(
+                    "./data/testWriterCompressionOptionJobApplicationTracker.json", true)) {
+                assertEquals(tracker.toJson().toString(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testWriterSnapshotWritesSummaryFirst() {
+        try {
+            addJobApplicationsToTracker();
+            tracker.add(new JobApplication("2021-01-01", "Amazon", "Data Scientist"));
+
+            JsonWriter writer = new JsonWriter("./data/testWriterSnapshotJobApplicationTracker.json", false);
+            writer.open();
+            writer.write(tracker, 12);
+            writer.close();
+
+            String written = new String(Files.readAllBytes(Paths.get(
+                    "./data/testWriterSnapshotJobApplicationTracker.json")), StandardCharsets.UTF_8);
+            assertTrue(written.startsWith("{\"name\":\"Sophia's Job Application Tracker\",\"journalSequence\":12,"
+                    + "\"statusCounts\":{\"SUBMITTED\":2,\"INTERVIEWED\":1,\"ACCEPTED\":1,\"REJECTED\":1},"
+                    + "\"jobApplicationList\":["), written);
+
+            JsonReader reader = new JsonReader("./data/testWriterSnapshotJobApplicationTracker.json");
+            JobApplicationTracker read = reader.read();
+            assertEquals(tracker.getJobApplications(), read.getJobApplications());
+            TrackerSummary summary = reader.readSummary();
+            assertEquals(5, summary.size());
+            assertEquals(2, summary.count(SUBMITTED));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testWriterMatchesToJson() {
+        try {
+            addJobApplicationsToTracker();
+            tracker.add(new JobApplication("2021-01-01", "Ben & Jerry's \"Scoops\" </>", "Taster\tin\u00e9"));
+
+            JsonWriter writer = new JsonWriter("./data/testWriterSpecialCharactersJobApplicationTracker.json");
+            writer.open();
+            writer.write(tracker);
+            writer.close();
+
+            String written = new String(Files.readAllBytes(Paths.get(
+                    "./data/testWriterSpecialCharactersJobApplicationTracker.json")), StandardCharsets.UTF_8);
+            assertEquals(tracker.toJson().toString(4), written);
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
     /*
      * MODIFIES: this
      * EFFECTS: adds 4 different job applications to the tracker
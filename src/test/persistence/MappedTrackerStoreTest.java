@@ -0,0 +1,190 @@
+package persistence;
+
+import model.JobApplication;
+import model.JobApplicationTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedTrackerStoreTest extends JsonTest {
+    private static final String TYPICAL = "./data/testReaderTypicalJobApplicationTracker.jtrk";
+    private static final Path CORRUPT = Paths.get("./data/testMappedCorruptJobApplicationTracker.jtrk");
+
+    private MappedTrackerStore store;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        store = new MappedTrackerStore(TYPICAL, 3);
+        store.open();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        store.close();
+        Files.deleteIfExists(CORRUPT);
+    }
+
+    @Test
+    public void testOpenMissingFile() {
+        try {
+            new MappedTrackerStore("./data/missingFile.jtrk").open();
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            // Expected outcome
+        }
+    }
+
+    @Test
+    public void testOpenCompressedFile() throws IOException {
+        Path compressed = Paths.get(CORRUPT + ".gz");
+        try {
+            Files.copy(Paths.get(TYPICAL), compressed);
+            new MappedTrackerStore(compressed.toString()).open();
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            assertTrue(ioe.getMessage().startsWith("Compressed tracker files cannot be mapped"), ioe.getMessage());
+        } finally {
+            Files.deleteIfExists(compressed);
+        }
+    }
+
+    @Test
+    public void testHeader() {
+        assertEquals("Sophia's Job Application Tracker", store.getName());
+        assertEquals(4, store.size());
+    }
+
+    @Test
+    public void testGetAcrossSegments() {
+        checkJobApplicationFields("2023-02-05", "Microsoft", "Product Manager", SUBMITTED, store.get(0));
+        checkJobApplicationFields("2023-06-20", "Google", "Software Engineer", INTERVIEWED, store.get(1));
+        checkJobApplicationFields("2022-12-25", "Apple", "iOS Engineer", REJECTED, store.get(2));
+        checkJobApplicationFields("2022-11-28", "Meta", "Tech Lead", ACCEPTED, store.get(3));
+    }
+
+    @Test
+    public void testGetDecodesNewJobApplications() {
+        JobApplication first = store.get(0);
+        JobApplication again = store.get(0);
+        assertNotSame(first, again);
+        assertEquals(first, again);
+
+        first.setStatus(REJECTED);
+        assertEquals(SUBMITTED, store.get(0).getStatus());
+    }
+
+    @Test
+    public void testIterationMatchesReader() throws IOException {
+        JobApplicationTracker tracker = new BinaryReader(TYPICAL).read();
+        ArrayList<JobApplication> iterated = new ArrayList<>();
+        for (JobApplication j : store) {
+            iterated.add(j);
+        }
+
+        assertEquals(tracker.getJobApplications(), iterated);
+        assertEquals(tracker.getJobApplications(), store.getJobApplications());
+    }
+
+    @Test
+    public void testJobApplicationsIsUnmodifiable() {
+        List<JobApplication> jobApplications = store.getJobApplications();
+        assertThrows(UnsupportedOperationException.class, () -> jobApplications.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> jobApplications.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> jobApplications.get(-1));
+    }
+
+    @Test
+    public void testCountAndPercentage() {
+        assertEquals(1, store.count(SUBMITTED));
+        assertEquals(1, store.count(INTERVIEWED));
+        assertEquals(1, store.count(REJECTED));
+        assertEquals(1, store.count(ACCEPTED));
+        assertEquals(0.25, store.calculatePercentage(ACCEPTED));
+    }
+
+    @Test
+    public void testIndexOf() {
+        JobApplication google = new JobApplication("2023-06-20", "Google", "Software Engineer");
+        assertEquals(-1, store.indexOf(google));
+        google.setStatus(INTERVIEWED);
+        assertEquals(1, store.indexOf(google));
+        assertTrue(store.contains(google));
+
+        JobApplication meta = new JobApplication("2022-11-28", "Meta", "Tech Lead");
+        meta.setStatus(ACCEPTED);
+        assertEquals(3, store.indexOf(meta));
+        assertFalse(store.contains(new JobApplication("2022-11-28", "Amazon", "Tech Lead")));
+        assertFalse(store.contains(new JobApplication("2022-11-28", "Meta", "Product Manager")));
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        BinaryWriter writer = new BinaryWriter(CORRUPT.toString());
+        writer.open();
+        writer.write(new JobApplicationTracker("Empty"));
+        writer.close();
+
+        MappedTrackerStore empty = new MappedTrackerStore(CORRUPT.toString());
+        empty.open();
+        assertEquals("Empty", empty.getName());
+        assertEquals(0, empty.size());
+        assertFalse(empty.iterator().hasNext());
+        assertEquals(0, empty.count(SUBMITTED));
+        assertEquals(0, empty.calculatePercentage(SUBMITTED));
+        empty.close();
+    }
+
+    @Test
+    public void testOpenTruncatedFile() throws IOException {
+        byte[] bytes = Files.readAllBytes(Paths.get(TYPICAL));
+        checkCorrupt(Arrays.copyOf(bytes, bytes.length - 1), "Truncated or corrupt");
+        checkCorrupt(Arrays.copyOf(bytes, bytes.length + 1), "Truncated or corrupt");
+        checkCorrupt(Files.readAllBytes(Paths.get("./data/testReaderTypicalJobApplicationTracker.json")),
+                "Not a binary tracker file");
+    }
+
+    @Test
+    public void testCorruptRecordFailsWhenTouched() throws IOException {
+        byte[] bytes = Files.readAllBytes(Paths.get(TYPICAL));
+        ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, Integer.MAX_VALUE);
+        bytes[bytes.length - 2 * BinaryFormat.RECORD_SIZE + Integer.BYTES] = (byte) values().length;
+        Files.write(CORRUPT, bytes);
+
+        MappedTrackerStore corrupt = new MappedTrackerStore(CORRUPT.toString());
+        corrupt.open();
+        checkJobApplicationFields("2023-02-05", "Microsoft", "Product Manager", SUBMITTED, corrupt.get(0));
+        assertThrows(UncheckedIOException.class, () -> corrupt.get(2));
+        assertThrows(UncheckedIOException.class, () -> corrupt.get(3));
+        assertEquals(0, corrupt.count(REJECTED));
+        assertEquals(1, corrupt.count(ACCEPTED));
+        corrupt.close();
+    }
+
+    /*
+     * EFFECTS: writes the given bytes to a file and checks that opening it fails with a message starting with the
+     *          given text
+     */
+    private void checkCorrupt(byte[] bytes, String message) throws IOException {
+        Files.write(CORRUPT, bytes);
+
+        try {
+            new MappedTrackerStore(CORRUPT.toString()).open();
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            assertTrue(ioe.getMessage().startsWith(message), ioe.getMessage());
+        }
+    }
+}
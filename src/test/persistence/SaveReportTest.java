@@ -0,0 +1,36 @@
+package persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaveReportTest {
+
+    @Test
+    public void testConstructor() {
+        SaveReport report = new SaveReport(87, 1250000);
+
+        assertEquals(87, report.getBytesWritten());
+        assertEquals(1250000, report.getNanos());
+        assertFalse(report.isEmpty());
+        assertEquals(String.format("%d bytes in %.1f ms", 87, 1.25), report.toString());
+    }
+
+    @Test
+    public void testCompactionFailure() {
+        IOException failure = new IOException("Disk full");
+        SaveReport report = new SaveReport(87, 1250000, failure);
+
+        assertSame(failure, report.getCompactionFailure());
+        assertNull(new SaveReport(87, 1250000).getCompactionFailure());
+        assertEquals(String.format("%d bytes in %.1f ms; compacting the journal failed: Disk full", 87, 1.25),
+                report.toString());
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(new SaveReport(0, 500).isEmpty());
+    }
+}
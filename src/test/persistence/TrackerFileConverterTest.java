@@ -0,0 +1,43 @@
+package persistence;
+
+import model.JobApplicationTracker;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class TrackerFileConverterTest {
+    @Test
+    public void testJsonToBinaryAndBack() {
+        try {
+            TrackerFileConverter.jsonToBinary("./data/testReaderTypicalJobApplicationTracker.json",
+                    "./data/testConverterJobApplicationTracker.jtrk");
+            TrackerFileConverter.binaryToJson("./data/testConverterJobApplicationTracker.jtrk",
+                    "./data/testConverterJobApplicationTracker.json");
+
+            JsonReader originalReader = new JsonReader("./data/testReaderTypicalJobApplicationTracker.json");
+            JobApplicationTracker original = originalReader.read();
+            JobApplicationTracker converted = new JsonReader("./data/testConverterJobApplicationTracker.json").read();
+            assertEquals(original.toJson().toString(), converted.toJson().toString());
+            assertArrayEquals(Files.readAllBytes(Paths.get("./data/testReaderTypicalJobApplicationTracker.jtrk")),
+                    Files.readAllBytes(Paths.get("./data/testConverterJobApplicationTracker.jtrk")));
+        } catch (IOException ioe) {
+            fail("IOException should not have been thrown.");
+        }
+    }
+
+    @Test
+    public void testBinaryToJsonMissingFile() {
+        try {
+            TrackerFileConverter.binaryToJson("./data/missingFile.jtrk", "./data/missingFile.json");
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            // Expected outcome
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrackerStreamsTest {
+    private static final Path COMPRESSED = Paths.get("./data/testStreamsJobApplicationTracker.json.gz");
+    private static final Path PLAIN = Paths.get("./data/testStreamsJobApplicationTracker.json");
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(COMPRESSED);
+        Files.deleteIfExists(PLAIN);
+    }
+
+    @Test
+    public void testIsCompressed() {
+        assertTrue(TrackerStreams.isCompressed("./data/tracker.json.gz"));
+        assertTrue(TrackerStreams.isCompressed("./data/tracker.jtrk.gz"));
+        assertFalse(TrackerStreams.isCompressed("./data/tracker.json"));
+        assertFalse(TrackerStreams.isCompressed("./data/tracker.gz.json"));
+    }
+
+    @Test
+    public void testCompressedRoundTrip() throws IOException {
+        byte[] bytes = new byte[3 * TrackerStreams.BUFFER_SIZE + 7];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i % 13 == 0 ? i : 'a' + i % 5);
+        }
+
+        try (OutputStream out = TrackerStreams.openOutput(COMPRESSED.toString(), true)) {
+            out.write(bytes, 0, 10);
+            out.write(bytes, 10, bytes.length - 10);
+        }
+        assertTrue(Files.size(COMPRESSED) < bytes.length / 2);
+
+        try (InputStream in = TrackerStreams.openInput(COMPRESSED.toString(), true)) {
+            assertArrayEquals(bytes, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testPlainRoundTrip() throws IOException {
+        byte[] bytes = "{\"name\": \"Plain\"}".getBytes();
+
+        try (OutputStream out = TrackerStreams.openOutput(PLAIN.toString(), false)) {
+            out.write(bytes);
+        }
+        assertArrayEquals(bytes, Files.readAllBytes(PLAIN));
+
+        try (InputStream in = TrackerStreams.openInput(PLAIN.toString(), false)) {
+            assertArrayEquals(bytes, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testOpenInputNotCompressed() throws IOException {
+        Files.write(PLAIN, "{\"name\": \"Plain\"}".getBytes());
+
+        try {
+            TrackerStreams.openInput(PLAIN.toString(), true);
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            // Expected outcome
+        }
+    }
+
+    @Test
+    public void testOpenMissingFile() {
+        try {
+            TrackerStreams.openInput("./data/missingFile.json.gz", true);
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            // Expected outcome
+        }
+    }
+
+    @Test
+    public void testTruncatedCompressedFile() throws IOException {
+        byte[] bytes = new byte[TrackerStreams.BUFFER_SIZE];
+        Arrays.fill(bytes, (byte) 'x');
+        try (OutputStream out = TrackerStreams.openOutput(COMPRESSED.toString(), true)) {
+            out.write(bytes);
+        }
+        byte[] compressed = Files.readAllBytes(COMPRESSED);
+        Files.write(COMPRESSED, Arrays.copyOf(compressed, compressed.length - 4));
+
+        try (InputStream in = TrackerStreams.openInput(COMPRESSED.toString(), true)) {
+            in.readAllBytes();
+            fail("IOException should have been thrown.");
+        } catch (IOException ioe) {
+            // Expected outcome
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package persistence;
+
+import model.JobApplication;
+import model.JobApplicationTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TrackerSummaryTest {
+    private TrackerSummary summary;
+
+    @BeforeEach
+    public void setUp() {
+        summary = new TrackerSummary("Summary", new int[] {3, 1, 0, 0});
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals("Summary", summary.getName());
+        assertEquals(4, summary.size());
+        assertEquals(3, summary.count(SUBMITTED));
+        assertEquals(1, summary.count(INTERVIEWED));
+        assertEquals(0, summary.count(REJECTED));
+        assertEquals(0.75, summary.calculatePercentage(SUBMITTED));
+    }
+
+    @Test
+    public void testConstructorCopiesCounts() {
+        int[] counts = {1, 0, 0, 0};
+        TrackerSummary copied = new TrackerSummary("Copied", counts);
+        counts[0] = 5;
+
+        assertEquals(1, copied.count(SUBMITTED));
+        assertEquals(1, copied.size());
+    }
+
+    @Test
+    public void testOf() {
+        JobApplicationTracker tracker = new JobApplicationTracker("Tracker");
+        tracker.add(new JobApplication("2023-02-05", "Microsoft", "Product Manager"));
+        tracker.add(new JobApplication("2023-06-20", "Google", "Software Engineer"));
+        tracker.getJobApplications().get(1).setStatus(ACCEPTED);
+
+        TrackerSummary of = TrackerSummary.of(tracker);
+        assertEquals("Tracker", of.getName());
+        assertEquals(2, of.size());
+        assertEquals(1, of.count(SUBMITTED));
+        assertEquals(1, of.count(ACCEPTED));
+        assertEquals(0.5, of.calculatePercentage(ACCEPTED));
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        summary.add(REJECTED);
+        summary.remove(SUBMITTED);
+
+        assertEquals(4, summary.size());
+        assertEquals(2, summary.count(SUBMITTED));
+        assertEquals(1, summary.count(REJECTED));
+    }
+
+    @Test
+    public void testClear() {
+        summary.clear();
+
+        assertEquals(0, summary.size());
+        assertEquals(0, summary.count(SUBMITTED));
+        assertEquals(0, summary.calculatePercentage(SUBMITTED));
+    }
+}
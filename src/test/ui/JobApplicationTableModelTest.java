@@ -0,0 +1,312 @@
+package ui;
+
+import model.JobApplication;
+import model.JobApplicationTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static model.JobApplicationStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Represents the tests for the JobApplicationTableModel class
+public class JobApplicationTableModelTest {
+    private JobApplicationTracker tracker;
+    private JobApplicationTableModel model;
+    private ArrayList<String> events;
+    private JobApplication j1;
+    private JobApplication j2;
+    private JobApplication j3;
+    private JobApplication j4;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        j1 = new JobApplication("2023-02-05", "Microsoft", "Product Manager");
+        j2 = new JobApplication("2023-06-20", "Google", "Software Engineer");
+        j3 = new JobApplication("2022-12-25", "Apple", "iOS Engineer");
+        j4 = new JobApplication("2022-11-28", "Meta", "Tech Lead");
+        events = new ArrayList<>();
+        SwingUtilities.invokeAndWait(() -> {
+            tracker = new JobApplicationTracker("Tracker");
+            tracker.addAll(Arrays.asList(j1, j2, j3, j4));
+            model = new JobApplicationTableModel(tracker);
+            model.addTableModelListener(e -> events.add(describe(e)));
+        });
+    }
+
+    @Test
+    public void testReadsTrackerInOrderAdded() throws Exception {
+        assertEquals(Arrays.asList(j1, j2, j3, j4), shown());
+        assertEquals(4, model.getColumnCount());
+        assertEquals(String.class, model.getColumnClass(0));
+        assertEquals("2023-02-05", model.getValueAt(0, 0));
+        assertEquals("Google", model.getValueAt(1, 1));
+        assertEquals("iOS Engineer", model.getValueAt(2, 2));
+        assertEquals("SUBMITTED", model.getValueAt(3, 3));
+    }
+
+    @Test
+    public void testSortByCyclesThroughOrders() throws Exception {
+        assertEquals("Company", model.getColumnName(1));
+        record(() -> model.sortBy(1));
+        assertEquals("Company \u25B2", model.getColumnName(1));
+        assertEquals("Role", model.getColumnName(2));
+        assertEquals(Arrays.asList(j3, j2, j4, j1), shown());
+
+        record(() -> model.sortBy(1));
+        assertEquals("Company \u25BC", model.getColumnName(1));
+        assertEquals(Arrays.asList(j1, j4, j2, j3), shown());
+
+        record(() -> model.sortBy(1));
+        assertEquals("Company", model.getColumnName(1));
+        assertEquals(Arrays.asList(j1, j2, j3, j4), shown());
+    }
+
+    @Test
+    public void testSetFilter() throws Exception {
+        assertEquals(Arrays.asList("all"), record(() -> model.setFilter(2, "sOFT")));
+        assertEquals(Arrays.asList(j2), shown());
+        record(() -> model.setFilter(0, "2022"));
+        assertEquals(Arrays.asList(j3, j4), shown());
+        record(() -> model.setFilter(3, "s"));
+        assertEquals(Arrays.asList(j1, j2, j3, j4), shown());
+        record(() -> model.setFilter(3, "r"));
+        assertTrue(shown().isEmpty());
+        record(() -> model.setFilter(3, ""));
+        assertEquals(4, model.getRowCount());
+    }
+
+    @Test
+    public void testAppendOnlyAdd() throws Exception {
+        JobApplication j5 = new JobApplication("2023-01-15", "Mozilla", "Engineer");
+        assertEquals(Arrays.asList("insert 4-4"), record(() -> tracker.add(j5)));
+        assertEquals(Arrays.asList(j1, j2, j3, j4, j5), shown());
+    }
+
+    @Test
+    public void testAppendOnlyRemove() throws Exception {
+        assertEquals(Arrays.asList("delete 1-1"), record(() -> tracker.remove(j2)));
+        assertEquals(Arrays.asList(j1, j3, j4), shown());
+    }
+
+    @Test
+    public void testAppendOnlyUpdate() throws Exception {
+        assertEquals(Arrays.asList("update 2-3"), record(() -> {
+            j4.setStatus(REJECTED);
+            j3.setStatus(INTERVIEWED);
+        }));
+    }
+
+    @Test
+    public void testAppendOnlyRemovesAndAddDeleteLastFirst() throws Exception {
+        JobApplication j5 = new JobApplication("2023-01-15", "Mozilla", "Engineer");
+        assertEquals(Arrays.asList("delete 2-2", "delete 0-0", "insert 2-2"), record(() -> {
+            tracker.remove(j1);
+            tracker.remove(j3);
+            tracker.add(j5);
+        }));
+        assertEquals(Arrays.asList(j2, j4, j5), shown());
+    }
+
+    @Test
+    public void testSortedAdd() throws Exception {
+        assertEquals(Arrays.asList("all"), record(() -> model.sortBy(0)));
+        assertEquals(Arrays.asList(j4, j3, j1, j2), shown());
+
+        JobApplication j5 = new JobApplication("2023-01-15", "Mozilla", "Engineer");
+        assertEquals(Arrays.asList("insert 2-2"), record(() -> tracker.add(j5)));
+        assertEquals(Arrays.asList(j4, j3, j5, j1, j2), shown());
+    }
+
+    @Test
+    public void testSortedResortAfterChange() throws Exception {
+        record(() -> model.sortBy(0));
+        assertEquals(Arrays.asList("delete 0-0", "insert 2-2"),
+                record(() -> j4.setSubmissionDate(LocalDate.parse("2023-03-01"))));
+        assertEquals(Arrays.asList(j3, j1, j4, j2), shown());
+
+        assertEquals(Arrays.asList("update 1-1"), record(() -> j1.setStatus(ACCEPTED)));
+        assertEquals(Arrays.asList("delete 1-1"), record(() -> tracker.remove(j1)));
+        assertEquals(Arrays.asList(j3, j4, j2), shown());
+    }
+
+    @Test
+    public void testSortedSeveralChangesInOneTurn() throws Exception {
+        record(() -> model.sortBy(0));
+        assertEquals(Arrays.asList("delete 0-1", "insert 1-2", "update 0-0"), record(() -> {
+            j4.setSubmissionDate(LocalDate.parse("2023-03-01"));
+            j1.setSubmissionDate(LocalDate.parse("2022-01-01"));
+            j3.setStatus(REJECTED);
+        }));
+        assertEquals(Arrays.asList(j1, j3, j4, j2), shown());
+    }
+
+    @Test
+    public void testRemovedAndAddedBackInOneTurn() throws Exception {
+        assertEquals(Arrays.asList("delete 1-1", "insert 3-3"), record(() -> {
+            tracker.remove(j2);
+            tracker.add(j2);
+        }));
+        assertEquals(Arrays.asList(j1, j3, j4, j2), shown());
+    }
+
+    @Test
+    public void testFilteredSortedByOtherField() throws Exception {
+        record(() -> model.setFilter(1, "m"));
+        record(() -> model.sortBy(0));
+        assertEquals(Arrays.asList(j4, j1), shown());
+
+        JobApplication j5 = new JobApplication("2023-01-15", "Mozilla", "Engineer");
+        assertEquals(Arrays.asList("insert 1-1"), record(() -> tracker.add(j5)));
+        assertEquals(Arrays.asList("delete 0-0", "insert 2-2"),
+                record(() -> j4.setSubmissionDate(LocalDate.parse("2023-03-01"))));
+        assertEquals(Arrays.asList(j5, j1, j4), shown());
+    }
+
+    @Test
+    public void testDescending() throws Exception {
+        record(() -> model.sortBy(0));
+        record(() -> model.sortBy(0));
+        assertEquals(Arrays.asList(j2, j1, j3, j4), shown());
+
+        JobApplication j5 = new JobApplication("2023-01-15", "Mozilla", "Engineer");
+        assertEquals(Arrays.asList("insert 2-2"), record(() -> tracker.add(j5)));
+        assertEquals(Arrays.asList("update 1-1"), record(() -> j1.setStatus(REJECTED)));
+        assertEquals(Arrays.asList("delete 3-3"), record(() -> tracker.remove(j3)));
+        assertEquals(Arrays.asList("delete 0-0", "insert 2-2"),
+                record(() -> j2.setSubmissionDate(LocalDate.parse("2022-12-01"))));
+        assertEquals(Arrays.asList(j1, j5, j2, j4), shown());
+    }
+
+    @Test
+    public void testFiltered() throws Exception {
+        assertEquals(Arrays.asList("all"), record(() -> model.setFilter(1, "m")));
+        assertEquals(Arrays.asList(j1, j4), shown());
+
+        JobApplication j5 = new JobApplication("2023-01-15", "Mozilla", "Engineer");
+        JobApplication j6 = new JobApplication("2023-01-16", "Amazon", "Engineer");
+        assertEquals(Arrays.asList("insert 2-2"), record(() -> tracker.addAll(Arrays.asList(j5, j6))));
+        assertEquals(Arrays.asList("insert 1-1"), record(() -> j2.setCompanyName("Mastercard")));
+        assertEquals(Arrays.asList(j1, j2, j4, j5), shown());
+
+        assertEquals(Arrays.asList("delete 2-2"), record(() -> j4.setCompanyName("Amazon")));
+        assertEquals(Arrays.asList("update 0-0"), record(() -> j1.setStatus(INTERVIEWED)));
+        assertTrue(record(() -> j6.setStatus(INTERVIEWED)).isEmpty());
+        assertEquals(Arrays.asList(j1, j2, j5), shown());
+    }
+
+    @Test
+    public void testOverflowAppendOnlyStillExact() throws Exception {
+        assertEquals(Arrays.asList("insert 4-103"), record(() -> tracker.addAll(manyJobApplications(100))));
+        assertEquals(104, shown().size());
+        assertEquals(Arrays.asList("delete 0-103"), record(() -> tracker.removeAllJobApplications()));
+        assertTrue(shown().isEmpty());
+    }
+
+    @Test
+    public void testOverflowSortedRefreshesAll() throws Exception {
+        record(() -> model.sortBy(2));
+        assertEquals(Arrays.asList("all"), record(() -> tracker.addAll(manyJobApplications(100))));
+        assertEquals(104, shown().size());
+        assertEquals(Arrays.asList("delete 0-103"), record(() -> tracker.removeAllJobApplications()));
+    }
+
+    @Test
+    public void testOverflowUpdatesRefreshAll() throws Exception {
+        record(() -> tracker.addAll(manyJobApplications(100)));
+        assertEquals(Arrays.asList("all"), record(() -> {
+            for (JobApplication j : tracker.getJobApplications()) {
+                j.setStatus(REJECTED);
+            }
+        }));
+    }
+
+    @Test
+    public void testTooManyRunsRefreshAll() throws Exception {
+        record(() -> tracker.addAll(manyJobApplications(200)));
+        assertEquals(Arrays.asList("all"),
+                record(() -> tracker.removeIf(j -> j.getRoleName().matches("Role .*[13579]"))));
+        assertEquals(104, shown().size());
+    }
+
+    @Test
+    public void testChangesCoalescedIntoOneFlush() throws Exception {
+        JobApplication j5 = new JobApplication("2023-01-15", "Mozilla", "Engineer");
+        JobApplication j6 = new JobApplication("2023-01-16", "Amazon", "Engineer");
+        SwingUtilities.invokeAndWait(() -> {
+            events.clear();
+            tracker.add(j5);
+            tracker.add(j6);
+        });
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(Arrays.asList("insert 4-5"), events);
+    }
+
+    @Test
+    public void testSetTracker() throws Exception {
+        JobApplicationTracker other = new JobApplicationTracker("Other");
+        JobApplication j5 = new JobApplication("2023-01-15", "Mozilla", "Engineer");
+        other.add(j5);
+        assertEquals(Arrays.asList("all"), record(() -> model.setTracker(other)));
+        assertEquals(Arrays.asList(j5), shown());
+        assertTrue(record(() -> tracker.remove(j1)).isEmpty());
+    }
+
+    /*
+     * EFFECTS: makes the given change on the event dispatch thread, flushes the model, and returns the table model
+     *          events fired
+     */
+    private List<String> record(Runnable change) throws Exception {
+        ArrayList<String> fired = new ArrayList<>();
+        SwingUtilities.invokeAndWait(() -> {
+            events.clear();
+            change.run();
+            model.flush();
+            fired.addAll(events);
+        });
+        return fired;
+    }
+
+    /*
+     * EFFECTS: returns the job applications shown by the model, in row order
+     */
+    private List<JobApplication> shown() throws Exception {
+        ArrayList<JobApplication> rows = new ArrayList<>();
+        SwingUtilities.invokeAndWait(() -> {
+            for (int row = 0; row < model.getRowCount(); row++) {
+                rows.add(model.getJobApplicationAt(row));
+            }
+        });
+        return rows;
+    }
+
+    /*
+     * EFFECTS: returns the given number of distinct job applications, with role names "Role 0", "Role 1", ...
+     */
+    private List<JobApplication> manyJobApplications(int count) {
+        ArrayList<JobApplication> jobApplications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jobApplications.add(new JobApplication(LocalDate.ofEpochDay(19000 + i * 37 % 101), "Company",
+                    "Role " + i));
+        }
+        return jobApplications;
+    }
+
+    /*
+     * EFFECTS: returns the type and rows of the given event, or "all" if it says that every row has changed
+     */
+    private static String describe(TableModelEvent e) {
+        if (e.getLastRow() == Integer.MAX_VALUE) {
+            return "all";
+        }
+        String type = e.getType() == TableModelEvent.INSERT ? "insert"
+                : e.getType() == TableModelEvent.DELETE ? "delete" : "update";
+        return type + " " + e.getFirstRow() + "-" + e.getLastRow();
+    }
+}